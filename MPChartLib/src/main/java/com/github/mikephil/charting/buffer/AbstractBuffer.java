@@ -15,8 +15,14 @@ public abstract class AbstractBuffer<T> {
     /** index in the buffer */
     protected int index = 0;
 
-    /** float-buffer that holds the data points to draw, order: x,y,x,y,... */
-    public final float[] buffer;
+    /**
+     * float-buffer that holds the data points to draw, order: x,y,x,y,... Only the first size()
+     * values are valid, the array is enlarged if the fed data does not fit.
+     */
+    public float[] buffer;
+
+    /** the number of values written into the buffer by the last feed */
+    protected int mSize = 0;
 
     /** animation phase x-axis */
     protected float phaseX = 1f;
@@ -27,8 +33,8 @@ public abstract class AbstractBuffer<T> {
     /** indicates from which x-index the visible data begins */
     protected int mFrom = 0;
 
-    /** indicates to which x-index the visible data ranges */
-    protected int mTo = 0;
+    /** indicates to which x-index (inclusive) the visible data ranges */
+    protected int mTo = Integer.MAX_VALUE;
 
     /**
      * Initialization with buffer-size.
@@ -54,6 +60,34 @@ public abstract class AbstractBuffer<T> {
         mTo = to;
     }
 
+    /**
+     * Returns the index of the first entry the buffer is fed with.
+     *
+     * @return
+     */
+    public int getFrom() {
+        return mFrom;
+    }
+
+    /**
+     * Returns the index of the last entry (inclusive) the buffer is fed with.
+     *
+     * @return
+     */
+    public int getTo() {
+        return mTo;
+    }
+
+    /**
+     * Enlarges the buffer array so that it can hold at least the given number of values.
+     *
+     * @param size
+     */
+    protected void ensureCapacity(int size) {
+        if (buffer.length < size)
+            buffer = new float[size + (size >> 1)];
+    }
+
     /**
      * Resets the buffer index to 0 and makes the buffer reusable.
      */
@@ -62,12 +96,12 @@ public abstract class AbstractBuffer<T> {
     }
 
     /**
-     * Returns the size (length) of the buffer array.
+     * Returns the number of values in the buffer that were written by the last feed.
      * 
      * @return
      */
     public int size() {
-        return buffer.length;
+        return mSize;
     }
 
     /**
@@ -14,6 +14,19 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     /** width of the bar on the x-axis, in values (not pixels) */
     protected float mBarWidth = 1f;
 
+    /** buffer for the x- and y-values of non-stacked entries, order: x,y,x,y,... */
+    protected float[] mValueBuffer = new float[0];
+
+    /** the index of the first bar in the buffer, counted over all bars of the DataSet */
+    protected int mFirstBar = 0;
+
+    /** mBarCounts[i] is the number of bars of the entries before index i of mBarCountSet */
+    private int[] mBarCounts = new int[1];
+
+    private IBarDataSet mBarCountSet = null;
+
+    private int mBarCountVersion;
+
     public BarBuffer(int size, int dataSetCount, boolean containsStacks) {
         super(size);
         this.mDataSetCount = dataSetCount;
@@ -40,13 +53,176 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         buffer[index++] = bottom;
     }
 
+    /**
+     * Adds the rect of a single (non-stacked) bar with the given x- and y-value.
+     *
+     * @param x
+     * @param y
+     * @param barWidthHalf
+     */
+    protected void addBar(float x, float y, float barWidthHalf) {
+
+        float left = x - barWidthHalf;
+        float right = x + barWidthHalf;
+        float bottom, top;
+
+        if (mInverted) {
+            bottom = y >= 0 ? y : 0;
+            top = y <= 0 ? y : 0;
+        } else {
+            top = y >= 0 ? y : 0;
+            bottom = y <= 0 ? y : 0;
+        }
+
+        // multiply the height of the rect with the phase
+        if (top > 0)
+            top *= phaseY;
+        else
+            bottom *= phaseY;
+
+        addBar(left, top, right, bottom);
+    }
+
+    /**
+     * Returns the index after the last entry of the given DataSet that is fed, depending on the
+     * limits and the animation phase.
+     *
+     * @param data
+     * @return
+     */
+    protected int getFeedEnd(IBarDataSet data) {
+
+        final int count = data.getEntryCount();
+        int end = Math.min((int) Math.ceil(count * phaseX), count);
+
+        if (mTo < end - 1)
+            end = mTo + 1;
+
+        return end;
+    }
+
+    /**
+     * Enlarges the buffer (if needed) to hold the bars of the entries from index "from" to index
+     * "end" (exclusive), one bar per stack value.
+     *
+     * @param data
+     * @param from
+     * @param end
+     */
+    protected void prepareFeed(IBarDataSet data, int from, int end) {
+
+        mFirstBar = mContainsStacks && data.isStacked() ? getBarCountBefore(data, from) : from;
+
+        final int bars = Math.max(end - from, 0) * (mContainsStacks ? Math.max(data.getStackSize(), 1) : 1);
+
+        ensureCapacity(bars * 4);
+        index = 0;
+    }
+
+    /**
+     * Returns the index of the first bar in the buffer, counted over all bars of the DataSet
+     * (one per stack value), e.g. for the color of the bar.
+     *
+     * @return
+     */
+    public int getFirstBar() {
+        return mFirstBar;
+    }
+
+    /**
+     * Returns the number of bars of the entries before the given index. The counts are kept
+     * until the DataSet or its version changes, so scrolling does not count them again.
+     *
+     * @param data
+     * @param index
+     * @return
+     */
+    protected int getBarCountBefore(IBarDataSet data, int index) {
+
+        final int count = data.getEntryCount();
+
+        if (mBarCountSet != data || mBarCountVersion != data.getVersion()
+                || mBarCounts.length != count + 1) {
+
+            if (mBarCounts.length != count + 1)
+                mBarCounts = new int[count + 1];
+
+            int bars = 0;
+
+            for (int i = 0; i < count; i++) {
+
+                mBarCounts[i] = bars;
+
+                BarEntry e = data.getEntryForIndex(i);
+
+                if (e != null)
+                    bars += e.getYVals() == null ? 1 : e.getYVals().length;
+            }
+
+            mBarCounts[count] = bars;
+            mBarCountSet = data;
+            mBarCountVersion = data.getVersion();
+        }
+
+        return mBarCounts[Math.min(index, count)];
+    }
+
+    /**
+     * Marks the values written since prepareFeed(...) as the content of the buffer.
+     */
+    protected void finishFeed() {
+        mSize = index;
+        reset();
+    }
+
+    /**
+     * Feeds the buffer with the bars of a DataSet that contains no stacks. Only the x- and
+     * y-values are needed for that, so they are copied from the DataSet all at once.
+     *
+     * @param data
+     * @param from         the index of the first entry to feed
+     * @param end          the index after the last entry to feed
+     * @param barWidthHalf
+     */
+    protected void feedSingleValues(IBarDataSet data, int from, int end, float barWidthHalf) {
+
+        final int count = Math.max(end - from, 0);
+
+        if (mValueBuffer.length < count * 2)
+            mValueBuffer = new float[count * 2];
+
+        final float[] values = mValueBuffer;
+
+        data.copyXY(from, from + count, values, 0, 1f);
+
+        for (int i = 0; i < count * 2; i += 2) {
+            addBar(values[i], values[i + 1], barWidthHalf);
+        }
+
+        finishFeed();
+    }
+
+    /**
+     * Feeds the buffer with the bars of the entries from index getFrom() to index getTo()
+     * (inclusive), only this part of the DataSet is touched.
+     *
+     * @param data
+     */
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
+        final int from = Math.min(mFrom, data.getEntryCount());
+        final int end = getFeedEnd(data);
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        prepareFeed(data, from, end);
+
+        if (!mContainsStacks) {
+            feedSingleValues(data, from, end, barWidthHalf);
+            return;
+        }
+
+        for (int i = from; i < end; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -57,27 +233,9 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
             float y = e.getY();
             float[] vals = e.getYVals();
 
-            if (!mContainsStacks || vals == null) {
+            if (vals == null) {
 
-                float left = x - barWidthHalf;
-                float right = x + barWidthHalf;
-                float bottom, top;
-
-                if (mInverted) {
-                    bottom = y >= 0 ? y : 0;
-                    top = y <= 0 ? y : 0;
-                } else {
-                    top = y >= 0 ? y : 0;
-                    bottom = y <= 0 ? y : 0;
-                }
-
-                // multiply the height of the rect with the phase
-                if (top > 0)
-                    top *= phaseY;
-                else
-                    bottom *= phaseY;
-
-                addBar(left, top, right, bottom);
+                addBar(x, y, barWidthHalf);
 
             } else {
 
@@ -125,6 +283,6 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
             }
         }
 
-        reset();
+        finishFeed();
     }
 }
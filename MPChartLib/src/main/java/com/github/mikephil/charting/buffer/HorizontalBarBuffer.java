@@ -10,13 +10,44 @@ public class HorizontalBarBuffer extends BarBuffer {
         super(size, dataSetCount, containsStacks);
     }
 
+    @Override
+    protected void addBar(float x, float y, float barWidthHalf) {
+
+        float bottom = x - barWidthHalf;
+        float top = x + barWidthHalf;
+        float left, right;
+        if (mInverted) {
+            left = y >= 0 ? y : 0;
+            right = y <= 0 ? y : 0;
+        } else {
+            right = y >= 0 ? y : 0;
+            left = y <= 0 ? y : 0;
+        }
+
+        // multiply the height of the rect with the phase
+        if (right > 0)
+            right *= phaseY;
+        else
+            left *= phaseY;
+
+        addBar(left, top, right, bottom);
+    }
+
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
+        final int from = Math.min(mFrom, data.getEntryCount());
+        final int end = getFeedEnd(data);
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        prepareFeed(data, from, end);
+
+        if (!mContainsStacks) {
+            feedSingleValues(data, from, end, barWidthHalf);
+            return;
+        }
+
+        for (int i = from; i < end; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -27,26 +58,9 @@ public class HorizontalBarBuffer extends BarBuffer {
             float y = e.getY();
             float[] vals = e.getYVals();
 
-            if (!mContainsStacks || vals == null) {
-
-                float bottom = x - barWidthHalf;
-                float top = x + barWidthHalf;
-                float left, right;
-                if (mInverted) {
-                    left = y >= 0 ? y : 0;
-                    right = y <= 0 ? y : 0;
-                } else {
-                    right = y >= 0 ? y : 0;
-                    left = y <= 0 ? y : 0;
-                }
-
-                // multiply the height of the rect with the phase
-                if (right > 0)
-                    right *= phaseY;
-                else
-                    left *= phaseY;
+            if (vals == null) {
 
-                addBar(left, top, right, bottom);
+                addBar(x, y, barWidthHalf);
 
             } else {
 
@@ -89,6 +103,6 @@ public class HorizontalBarBuffer extends BarBuffer {
             }
         }
 
-        reset();
+        finishFeed();
     }
 }
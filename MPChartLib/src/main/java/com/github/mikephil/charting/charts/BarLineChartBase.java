@@ -4,6 +4,7 @@ package com.github.mikephil.charting.charts;
 import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Matrix;
@@ -31,6 +32,7 @@ import com.github.mikephil.charting.listener.BarLineChartTouchListener;
 import com.github.mikephil.charting.listener.OnDrawListener;
 import com.github.mikephil.charting.renderer.XAxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
@@ -194,13 +196,47 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         long starttime = System.currentTimeMillis();
 
-        // execute all drawing commands
-        drawGridBackground(canvas);
+        if (!mLayerCacheEnabled || mContentChanged || getWidth() <= 0 || getHeight() <= 0) {
+
+            mContentChanged = false;
+            mLayersValid = false;
+
+            if (mAutoScaleMinMaxEnabled) {
+                autoScale();
+            }
+
+            computeAxes();
+
+            // execute all drawing commands
+            drawBackgroundLayer(canvas);
+            drawHighlightLayer(canvas);
+            drawForegroundLayer(canvas);
+
+        } else {
 
-        if (mAutoScaleMinMaxEnabled) {
-            autoScale();
+            // only the highlights changed, the rest is drawn from the cache
+            if (!mLayersValid)
+                renderLayers();
+
+            canvas.drawBitmap(mBackgroundLayer, 0, 0, null);
+            drawHighlightLayer(canvas);
+            canvas.drawBitmap(mForegroundLayer, 0, 0, null);
         }
 
+        drawMarkers(canvas);
+
+        if (mLogEnabled) {
+            long drawtime = (System.currentTimeMillis() - starttime);
+            totalTime += drawtime;
+            drawCycles += 1;
+            long average = totalTime / drawCycles;
+            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
+                    + drawCycles);
+        }
+    }
+
+    protected void computeAxes() {
+
         if (mAxisLeft.isEnabled())
             mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
 
@@ -209,6 +245,17 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         if (mXAxis.isEnabled())
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+    }
+
+    /**
+     * Draws everything that is below the highlights: the grid background, axis lines, grid
+     * lines, limit lines behind the data and the data itself.
+     *
+     * @param canvas
+     */
+    protected void drawBackgroundLayer(Canvas canvas) {
+
+        drawGridBackground(canvas);
 
         mXAxisRenderer.renderAxisLine(canvas);
         mAxisRendererLeft.renderAxisLine(canvas);
@@ -250,12 +297,41 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (!mAxisRight.isDrawGridLinesBehindDataEnabled())
             mAxisRendererRight.renderGridLines(canvas);
 
+        // Removes clipping rectangle
+        canvas.restoreToCount(clipRestoreCount);
+    }
+
+    /**
+     * Draws the highlights, the only layer that is never cached.
+     *
+     * @param canvas
+     */
+    protected void drawHighlightLayer(Canvas canvas) {
+
         // if highlighting is enabled
-        if (valuesToHighlight())
-            mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+        if (!valuesToHighlight())
+            return;
+
+        int clipRestoreCount = canvas.save();
+
+        if (isClipDataToContentEnabled()) {
+            // make sure the data cannot be drawn outside the content-rect
+            canvas.clipRect(mViewPortHandler.getContentRect());
+        }
+
+        mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
         // Removes clipping rectangle
         canvas.restoreToCount(clipRestoreCount);
+    }
+
+    /**
+     * Draws everything that is above the highlights, except the markers: extras, limit lines in
+     * front of the data, axis labels, values, legend and description.
+     *
+     * @param canvas
+     */
+    protected void drawForegroundLayer(Canvas canvas) {
 
         mRenderer.drawExtras(canvas);
 
@@ -273,7 +349,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mAxisRendererRight.renderAxisLabels(canvas);
 
         if (isClipValuesToContentEnabled()) {
-            clipRestoreCount = canvas.save();
+            int clipRestoreCount = canvas.save();
             canvas.clipRect(mViewPortHandler.getContentRect());
 
             mRenderer.drawValues(canvas);
@@ -286,17 +362,104 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mLegendRenderer.renderLegend(canvas);
 
         drawDescription(canvas);
+    }
 
-        drawMarkers(canvas);
+    /**
+     * flag that indicates if everything but the highlights and markers is cached in bitmaps
+     */
+    protected boolean mLayerCacheEnabled = false;
 
-        if (mLogEnabled) {
-            long drawtime = (System.currentTimeMillis() - starttime);
-            totalTime += drawtime;
-            drawCycles += 1;
-            long average = totalTime / drawCycles;
-            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
-                    + drawCycles);
+    /**
+     * everything below the highlights (see drawBackgroundLayer(...))
+     */
+    protected Bitmap mBackgroundLayer;
+    protected Canvas mBackgroundLayerCanvas;
+
+    /**
+     * everything above the highlights (see drawForegroundLayer(...))
+     */
+    protected Bitmap mForegroundLayer;
+    protected Canvas mForegroundLayerCanvas;
+
+    /**
+     * true if the layer bitmaps contain the current content
+     */
+    private boolean mLayersValid = false;
+
+    /**
+     * Renders the cached layers into their bitmaps. This is only done once the highlights
+     * change without anything else changing, so charts that are panned, zoomed or animated
+     * draw directly onto the canvas as usual.
+     */
+    private void renderLayers() {
+
+        final int width = getWidth();
+        final int height = getHeight();
+
+        if (mBackgroundLayer == null
+                || mBackgroundLayer.getWidth() < width
+                || mBackgroundLayer.getHeight() < height) {
+
+            releaseLayers();
+
+            mBackgroundLayer = BitmapPool.getInstance().acquire(width, height, Bitmap.Config.ARGB_8888);
+            mBackgroundLayerCanvas = new Canvas(mBackgroundLayer);
+            mForegroundLayer = BitmapPool.getInstance().acquire(width, height, Bitmap.Config.ARGB_8888);
+            mForegroundLayerCanvas = new Canvas(mForegroundLayer);
+        } else {
+            mBackgroundLayer.eraseColor(Color.TRANSPARENT);
+            mForegroundLayer.eraseColor(Color.TRANSPARENT);
         }
+
+        drawBackgroundLayer(mBackgroundLayerCanvas);
+        drawForegroundLayer(mForegroundLayerCanvas);
+
+        mLayersValid = true;
+    }
+
+    private void releaseLayers() {
+
+        BitmapPool.getInstance().release(mBackgroundLayer);
+        BitmapPool.getInstance().release(mForegroundLayer);
+
+        mBackgroundLayer = null;
+        mBackgroundLayerCanvas = null;
+        mForegroundLayer = null;
+        mForegroundLayerCanvas = null;
+        mLayersValid = false;
+    }
+
+    /**
+     * If set to true, everything but the highlights and the markers is cached in two bitmaps
+     * (below and above the highlights) of the size of the chart. Then, if only the highlights
+     * change (e.g. while dragging the highlight), only the highlights and markers are drawn
+     * again. Any call to invalidate() draws everything again. Default: false
+     *
+     * @param enabled
+     */
+    public void setLayerCacheEnabled(boolean enabled) {
+
+        mLayerCacheEnabled = enabled;
+
+        if (!enabled)
+            releaseLayers();
+
+        invalidate();
+    }
+
+    /**
+     * Returns true if everything but the highlights and the markers is cached.
+     *
+     * @return
+     */
+    public boolean isLayerCacheEnabled() {
+        return mLayerCacheEnabled;
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        releaseLayers();
     }
 
     /**
@@ -356,6 +519,26 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         calculateOffsets();
     }
 
+    /**
+     * Lightweight alternative to notifyDataSetChanged() for data that only changed in its values,
+     * e.g. a realtime chart that appends (and evicts) entries on every tick. Recalculates the
+     * min and max values of the data and the axes and redraws the chart, but does not recreate
+     * the renderer buffers or the legend. Call notifyDataSetChanged() instead if DataSets were
+     * added or removed, their styling or labels changed, or if a BarChart's entry count changed.
+     */
+    public void notifyDataValuesChanged() {
+
+        if (mData == null)
+            return;
+
+        mData.notifyDataChanged();
+
+        calcMinMax();
+        calculateOffsets();
+
+        invalidate();
+    }
+
     /**
      * Performs auto scaling of the axis by recalculating the minimum and maximum y-values based on the entries currently in view.
      */
@@ -14,7 +14,10 @@ import android.graphics.RectF;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
+import android.os.AsyncTask;
 import android.os.Environment;
+import android.os.Handler;
+import android.os.Looper;
 import android.provider.MediaStore.Images;
 import androidx.annotation.RequiresApi;
 import android.text.TextUtils;
@@ -32,6 +35,7 @@ import com.github.mikephil.charting.components.IMarker;
 import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.formatter.DefaultValueFormatter;
 import com.github.mikephil.charting.formatter.ValueFormatter;
@@ -43,9 +47,13 @@ import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.listener.ChartTouchListener;
 import com.github.mikephil.charting.listener.OnChartGestureListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
+import com.github.mikephil.charting.listener.OnDataPreparedListener;
 import com.github.mikephil.charting.renderer.DataRenderer;
 import com.github.mikephil.charting.renderer.LegendRenderer;
+import com.github.mikephil.charting.utils.BitmapPool;
+import com.github.mikephil.charting.utils.EntryXComparator;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.ParallelTasks;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -54,6 +62,11 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * Baseclass of all Chart-Views.
@@ -176,6 +189,14 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             mExtraBottomOffset = 0.f,
             mExtraLeftOffset = 0.f;
 
+    /**
+     * counts the calls of setData(...) and setDataAsync(...), data that was prepared in the
+     * background is only set if no other data was set in the meantime
+     */
+    private int mDataGeneration = 0;
+
+    private Handler mMainHandler;
+
     /**
      * default constructor for initialization in code
      */
@@ -208,6 +229,9 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         setWillNotDraw(false);
         // setLayerType(View.LAYER_TYPE_HARDWARE, null);
 
+        // release pooled bitmaps when the system runs low on memory
+        BitmapPool.getInstance().register(getContext());
+
         mAnimator = new ChartAnimator(new AnimatorUpdateListener() {
 
             @Override
@@ -281,6 +305,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     public void setData(T data) {
 
+        mDataGeneration++;
+
         mData = data;
         mOffsetsCalculated = false;
 
@@ -303,11 +329,184 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             Log.i(LOG_TAG, "Data is set.");
     }
 
+    /**
+     * Same as setDataAsync(data, executor, listener), the data is prepared on
+     * AsyncTask.THREAD_POOL_EXECUTOR.
+     *
+     * @param data
+     * @param listener may be null
+     */
+    public void setDataAsync(T data, OnDataPreparedListener<T> listener) {
+        setDataAsync(data, AsyncTask.THREAD_POOL_EXECUTOR, listener);
+    }
+
+    /**
+     * Sets a new data object for the chart like setData(...), but the expensive preparation of
+     * the data (calculating the min and max values of all DataSets, sorting DataSets whose
+     * entries are not ordered by x-value, see prepareData(...)) runs on the given executor
+     * instead of the UI thread. Once it is done, the prepared data is set to the chart on the
+     * UI thread in one step and the listener is called. The data is prepared in place, so it
+     * must not be modified until then, and it can neither be the data that is currently set to
+     * the chart nor share DataSets with it, as the chart keeps drawing those during the
+     * preparation (use notifyDataSetChanged() to prepare the current data again). If
+     * setData(...), setDataAsync(...) or clear() is called before the preparation is done, the
+     * prepared data is discarded and the listener is not called.
+     *
+     * @param data
+     * @param executor
+     * @param listener may be null
+     * @throws IllegalArgumentException if the data is, or shares DataSets with, the data of the
+     *                                  chart
+     */
+    public void setDataAsync(final T data, Executor executor, final OnDataPreparedListener<T> listener) {
+
+        if (data != null && mData != null && sharesDataSets(data, mData))
+            throw new IllegalArgumentException("The data to prepare is, or shares DataSets with, "
+                    + "the data of the chart. Set a new data object with new DataSets.");
+
+        final int generation = ++mDataGeneration;
+
+        if (mMainHandler == null)
+            mMainHandler = new Handler(Looper.getMainLooper());
+
+        executor.execute(new Runnable() {
+
+            @Override
+            public void run() {
+
+                RuntimeException error = null;
+
+                try {
+                    if (data != null)
+                        prepareData(data);
+                } catch (RuntimeException e) {
+                    error = e;
+                }
+
+                final RuntimeException failure = error;
+
+                mMainHandler.post(new Runnable() {
+
+                    @Override
+                    public void run() {
+
+                        // newer data was set in the meantime
+                        if (generation != mDataGeneration)
+                            return;
+
+                        if (failure != null) {
+
+                            if (listener == null)
+                                throw failure;
+
+                            listener.onDataPreparationFailed(data, failure);
+                            return;
+                        }
+
+                        setData(data);
+                        invalidate();
+
+                        if (listener != null)
+                            listener.onDataPrepared(data);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Prepares the given data before it is set with setDataAsync(...). This is called on a
+     * background thread, so it must not touch the chart, only the data. Sorts DataSets whose
+     * entries are not ordered by x-value and recalculates the min and max values of all
+     * DataSets (in parallel if enabled in ParallelTasks) and of the data.
+     *
+     * @param data
+     */
+    protected void prepareData(T data) {
+
+        final List<? extends IDataSet<?>> sets = data.getDataSets();
+
+        ParallelTasks.run(sets.size(), data.getEntryCount(), new ParallelTasks.Task() {
+
+            @Override
+            public void run(int index) {
+
+                IDataSet<?> set = sets.get(index);
+
+                if (set instanceof DataSet && !isSortedByX(set, new float[1024]))
+                    sortByX((DataSet<?>) set);
+
+                set.calcMinMax();
+            }
+        });
+
+        data.notifyDataChanged();
+    }
+
+    /**
+     * Returns true if both data objects are the same or contain the same DataSet object.
+     *
+     * @param data
+     * @param other
+     * @return
+     */
+    private static boolean sharesDataSets(ChartData<?> data, ChartData<?> other) {
+
+        if (data == other)
+            return true;
+
+        Set<IDataSet<?>> otherSets = Collections.newSetFromMap(new IdentityHashMap<IDataSet<?>, Boolean>());
+        otherSets.addAll(other.getDataSets());
+
+        for (IDataSet<?> set : data.getDataSets()) {
+            if (otherSets.contains(set))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns true if the x-values of the given DataSet are in ascending order.
+     *
+     * @param set
+     * @param buffer
+     * @return
+     */
+    private static boolean isSortedByX(IDataSet<?> set, float[] buffer) {
+
+        final int count = set.getEntryCount();
+        final int chunk = buffer.length / 2;
+
+        float previous = -Float.MAX_VALUE;
+
+        for (int from = 0; from < count; from += chunk) {
+
+            final int to = Math.min(from + chunk, count);
+            final int end = set.copyXY(from, to, buffer, 0, 1f);
+
+            for (int i = 0; i < end; i += 2) {
+
+                if (buffer[i] < previous)
+                    return false;
+
+                previous = buffer[i];
+            }
+        }
+
+        return true;
+    }
+
+    private static <E extends Entry> void sortByX(DataSet<E> set) {
+        Collections.sort(set.getEntries(), new EntryXComparator());
+    }
+
     /**
      * Clears the chart from all data (sets it to null) and refreshes it (by
      * calling invalidate()).
      */
     public void clear() {
+        mDataGeneration++;
         mData = null;
         mOffsetsCalculated = false;
         mIndicesToHighlight = null;
@@ -468,6 +667,34 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     protected Highlight[] mIndicesToHighlight;
 
+    /**
+     * true if anything besides the highlights changed since the chart was drawn the last time
+     */
+    protected boolean mContentChanged = true;
+
+    /**
+     * Redraws the chart. Everything is drawn again, use invalidateHighlight() if only the
+     * highlights changed.
+     */
+    @Override
+    public void invalidate() {
+        mContentChanged = true;
+
+        if (mRenderer != null)
+            mRenderer.onContentInvalidated();
+
+        super.invalidate();
+    }
+
+    /**
+     * Redraws the chart after only the highlighted values (and with them the markers) changed.
+     * Charts that cache the rest of their content (see
+     * BarLineChartBase.setLayerCacheEnabled(...)) only redraw the highlights and markers.
+     */
+    public void invalidateHighlight() {
+        super.invalidate();
+    }
+
     /**
      * The maximum distance in dp away from an entry causing it to highlight.
      */
@@ -560,7 +787,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         setLastHighlighted(highs);
 
         // redraw the chart
-        invalidate();
+        invalidateHighlight();
     }
 
     /**
@@ -719,7 +946,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         }
 
         // redraw the chart
-        invalidate();
+        invalidateHighlight();
     }
 
     /**
@@ -47,6 +47,21 @@ public class PieChart extends PieRadarChartBase<PieData> {
      */
     private float[] mAbsoluteAngles = new float[1];
 
+    /**
+     * the y-values of all slices, so the angles can be recalculated without the entries
+     */
+    private float[] mSliceValues = new float[1];
+
+    /**
+     * buffer for the slice angles corrected by the minimum slice angle
+     */
+    private float[] mMinAngles = new float[1];
+
+    /**
+     * the number of slices whose value is not 0
+     */
+    private int mVisibleSliceCount = 0;
+
     /**
      * if true, the white hole inside the chart will be drawn
      */
@@ -215,31 +230,14 @@ public class PieChart extends PieRadarChartBase<PieData> {
 
         int entryCount = mData.getEntryCount();
 
-        if (mDrawAngles.length != entryCount) {
-            mDrawAngles = new float[entryCount];
-        } else {
-            for (int i = 0; i < entryCount; i++) {
-                mDrawAngles[i] = 0;
-            }
-        }
-        if (mAbsoluteAngles.length != entryCount) {
-            mAbsoluteAngles = new float[entryCount];
-        } else {
-            for (int i = 0; i < entryCount; i++) {
-                mAbsoluteAngles[i] = 0;
-            }
-        }
+        if (mSliceValues.length != entryCount)
+            mSliceValues = new float[entryCount];
 
-        float yValueSum = mData.getYValueSum();
+        mVisibleSliceCount = 0;
 
         List<IPieDataSet> dataSets = mData.getDataSets();
 
-        boolean hasMinAngle = mMinAngleForSlices != 0f && entryCount * mMinAngleForSlices <= mMaxAngle;
-        float[] minAngles = new float[entryCount];
-
         int cnt = 0;
-        float offset = 0f;
-        float diff = 0f;
 
         for (int i = 0; i < mData.getDataSetCount(); i++) {
 
@@ -247,45 +245,156 @@ public class PieChart extends PieRadarChartBase<PieData> {
 
             for (int j = 0; j < set.getEntryCount(); j++) {
 
-                float drawAngle = calcAngle(Math.abs(set.getEntryForIndex(j).getY()), yValueSum);
-
-                if (hasMinAngle) {
-                    float temp = drawAngle - mMinAngleForSlices;
-                    if (temp <= 0) {
-                        minAngles[cnt] = mMinAngleForSlices;
-                        offset += -temp;
-                    } else {
-                        minAngles[cnt] = drawAngle;
-                        diff += temp;
-                    }
-                }
+                float value = set.getEntryForIndex(j).getY();
+
+                mSliceValues[cnt++] = value;
+
+                if (Math.abs(value) > Utils.FLOAT_EPSILON)
+                    mVisibleSliceCount++;
+            }
+        }
+
+        calcAnglesFromValues();
+    }
+
+    /**
+     * Calculates the draw and absolute angles from the cached slice values, the arrays are
+     * reused as long as the number of slices does not change.
+     */
+    private void calcAnglesFromValues() {
+
+        final int entryCount = mSliceValues.length;
+
+        if (mDrawAngles.length != entryCount)
+            mDrawAngles = new float[entryCount];
+
+        if (mAbsoluteAngles.length != entryCount)
+            mAbsoluteAngles = new float[entryCount];
+
+        if (mMinAngles.length != entryCount)
+            mMinAngles = new float[entryCount];
+
+        calcSliceAngles(mSliceValues, mMaxAngle, mMinAngleForSlices, mDrawAngles, mAbsoluteAngles,
+                mMinAngles);
+    }
+
+    /**
+     * Calculates the draw angle and the absolute angle of each slice from the given y-values.
+     * The sum of the values is calculated from scratch in double precision, so changing single
+     * values over and over does not accumulate rounding errors.
+     *
+     * @param values         the y-values of the slices
+     * @param maxAngle       the angle all slices cover together
+     * @param minAngle       the minimum angle of a slice, 0 for none
+     * @param drawAngles     output, at least as long as values
+     * @param absoluteAngles output, at least as long as values
+     * @param minAngles      buffer, at least as long as values
+     */
+    public static void calcSliceAngles(float[] values, float maxAngle, float minAngle,
+                                       float[] drawAngles, float[] absoluteAngles, float[] minAngles) {
+
+        final int entryCount = values.length;
 
-                mDrawAngles[cnt] = drawAngle;
+        double sum = 0.0;
 
-                if (cnt == 0) {
-                    mAbsoluteAngles[cnt] = mDrawAngles[cnt];
+        for (int i = 0; i < entryCount; i++)
+            sum += values[i];
+
+        final float yValueSum = (float) sum;
+
+        boolean hasMinAngle = minAngle != 0f && entryCount * minAngle <= maxAngle;
+
+        float offset = 0f;
+        float diff = 0f;
+
+        for (int cnt = 0; cnt < entryCount; cnt++) {
+
+            float drawAngle = Math.abs(values[cnt]) / yValueSum * maxAngle;
+
+            if (hasMinAngle) {
+                float temp = drawAngle - minAngle;
+                if (temp <= 0) {
+                    minAngles[cnt] = minAngle;
+                    offset += -temp;
                 } else {
-                    mAbsoluteAngles[cnt] = mAbsoluteAngles[cnt - 1] + mDrawAngles[cnt];
+                    minAngles[cnt] = drawAngle;
+                    diff += temp;
                 }
+            }
 
-                cnt++;
+            drawAngles[cnt] = drawAngle;
+
+            if (cnt == 0) {
+                absoluteAngles[cnt] = drawAngles[cnt];
+            } else {
+                absoluteAngles[cnt] = absoluteAngles[cnt - 1] + drawAngles[cnt];
             }
         }
 
         if (hasMinAngle) {
             // Correct bigger slices by relatively reducing their angles based on the total angle needed to subtract
-            // This requires that `entryCount * mMinAngleForSlices <= mMaxAngle` be true to properly work!
+            // This requires that `entryCount * minAngle <= maxAngle` be true to properly work!
             for (int i = 0; i < entryCount; i++) {
-                minAngles[i] -= (minAngles[i] - mMinAngleForSlices) / diff * offset;
+                minAngles[i] -= (minAngles[i] - minAngle) / diff * offset;
                 if (i == 0) {
-                    mAbsoluteAngles[0] = minAngles[0];
+                    absoluteAngles[0] = minAngles[0];
                 } else {
-                    mAbsoluteAngles[i] = mAbsoluteAngles[i - 1] + minAngles[i];
+                    absoluteAngles[i] = absoluteAngles[i - 1] + minAngles[i];
                 }
             }
 
-            mDrawAngles = minAngles;
+            System.arraycopy(minAngles, 0, drawAngles, 0, entryCount);
+        }
+    }
+
+    /**
+     * Lightweight alternative to notifyDataSetChanged() if only the y-value of the slice at the
+     * given index changed: only this entry is read again, the angles of all slices are
+     * recalculated from cached values and the chart is redrawn.
+     *
+     * @param index the index of the slice, counted over all DataSets
+     */
+    public void notifySliceValueChanged(int index) {
+
+        if (mData == null || index < 0 || index >= mSliceValues.length
+                || mSliceValues.length != mData.getEntryCount()) {
+            notifyDataSetChanged();
+            invalidate();
+            return;
+        }
+
+        List<IPieDataSet> dataSets = mData.getDataSets();
+
+        int entryIndex = index;
+        int setIndex = 0;
+
+        while (entryIndex >= dataSets.get(setIndex).getEntryCount()) {
+            entryIndex -= dataSets.get(setIndex).getEntryCount();
+            setIndex++;
         }
+
+        final float oldValue = mSliceValues[index];
+        final float value = dataSets.get(setIndex).getEntryForIndex(entryIndex).getY();
+
+        if (Math.abs(oldValue) > Utils.FLOAT_EPSILON)
+            mVisibleSliceCount--;
+        if (Math.abs(value) > Utils.FLOAT_EPSILON)
+            mVisibleSliceCount++;
+
+        mSliceValues[index] = value;
+
+        calcAnglesFromValues();
+        invalidate();
+    }
+
+    /**
+     * Returns the number of slices whose value is not 0, as of the last calculation of the
+     * angles.
+     *
+     * @return
+     */
+    public int getVisibleSliceCount() {
+        return mVisibleSliceCount;
     }
 
     /**
@@ -345,14 +454,34 @@ public class PieChart extends PieRadarChartBase<PieData> {
     public int getIndexForAngle(float angle) {
 
         // take the current angle of the chart into consideration
-        float a = Utils.getNormalizedAngle(angle - getRotationAngle());
+        return getSliceIndexForAngle(mAbsoluteAngles,
+                Utils.getNormalizedAngle(angle - getRotationAngle()));
+    }
 
-        for (int i = 0; i < mAbsoluteAngles.length; i++) {
-            if (mAbsoluteAngles[i] > a)
-                return i;
+    /**
+     * Returns the index of the slice the given angle (relative to the start of the first slice)
+     * falls into, -1 if there is none. Binary search, the absolute angles are ascending.
+     *
+     * @param absoluteAngles the absolute angle of the end of each slice
+     * @param angle
+     * @return
+     */
+    public static int getSliceIndexForAngle(float[] absoluteAngles, float angle) {
+
+        // find the first absolute angle that is greater than the angle
+        int low = 0;
+        int high = absoluteAngles.length;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (absoluteAngles[m] > angle)
+                high = m;
+            else
+                low = m + 1;
         }
 
-        return -1; // return -1 if no index found
+        return low < absoluteAngles.length ? low : -1; // return -1 if no index found
     }
 
     /**
@@ -189,19 +189,17 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
 
         int max = mData.getMaxEntryCountSet().getEntryCount();
 
-        int index = 0;
+        // the first index whose reference angle (the end of its slice) is greater than the
+        // angle, computed directly and then corrected for rounding
+        int index = Math.max((int) Math.floor(a / sliceangle - 0.5f) + 1, 0);
 
-        for (int i = 0; i < max; i++) {
+        while (index > 0 && sliceangle * index - sliceangle / 2f > a)
+            index--;
 
-            float referenceAngle = sliceangle * (i + 1) - sliceangle / 2f;
+        while (index < max && sliceangle * (index + 1) - sliceangle / 2f <= a)
+            index++;
 
-            if (referenceAngle > a) {
-                index = i;
-                break;
-            }
-        }
-
-        return index;
+        return index < max ? index : 0;
     }
 
     /**
@@ -0,0 +1,73 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * Base class for FloatColumns that do not keep their values in the arrays of FloatColumns, but
+ * read them from somewhere else through getX(...) and getY(...), e.g. a memory-mapped file. The
+ * value arrays returned by getXValues() and getYValues() are copies, copy() returns columns that
+ * are backed by arrays.
+ */
+public abstract class AccessorColumns extends FloatColumns<Entry> {
+
+    public AccessorColumns() {
+        // the arrays of FloatColumns are not used
+        super(1);
+    }
+
+    @Override
+    public abstract float getX(int index);
+
+    @Override
+    public abstract float getY(int index);
+
+    /**
+     * Copies the values into a new array, these columns do not have backing arrays.
+     *
+     * @return
+     */
+    @Override
+    public float[] getXValues() {
+
+        float[] values = new float[mCount];
+
+        for (int i = 0; i < mCount; i++)
+            values[i] = getX(i);
+
+        return values;
+    }
+
+    /**
+     * Copies the values into a new array, these columns do not have backing arrays.
+     *
+     * @return
+     */
+    @Override
+    public float[] getYValues() {
+
+        float[] values = new float[mCount];
+
+        for (int i = 0; i < mCount; i++)
+            values[i] = getY(i);
+
+        return values;
+    }
+
+    /**
+     * Returns modifiable columns backed by arrays with the values of these columns.
+     *
+     * @return
+     */
+    @Override
+    public FloatColumns<Entry> copy() {
+        return new EntryColumns(getXValues(), getYValues(), mCount);
+    }
+
+    @Override
+    protected Entry createEntry(float x, float y) {
+        return new Entry(x, y);
+    }
+
+    @Override
+    protected FloatColumns<Entry> newInstance(int capacity) {
+        return new EntryColumns(capacity);
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.mikephil.charting.data;
+
+import java.util.List;
+
+/**
+ * BarDataSet that stores its values in primitive float arrays (see {@link FloatColumns}) instead
+ * of one BarEntry object per value. Use this for very large datasets, e.g. histograms. Stacked
+ * bars are not supported, only the y-value (sum) of added entries is stored.
+ */
+public class BarColumnDataSet extends BarDataSet {
+
+    /**
+     * Creates an empty dataset, add values with addEntry(float, float).
+     *
+     * @param label
+     */
+    public BarColumnDataSet(String label) {
+        this(new FloatColumns.BarEntryColumns(), label);
+    }
+
+    /**
+     * Creates a dataset backed by the given arrays (they are not copied). The x-values need to
+     * be ordered ascending.
+     *
+     * @param xVals
+     * @param yVals
+     * @param count the number of values in use in both arrays
+     * @param label
+     */
+    public BarColumnDataSet(float[] xVals, float[] yVals, int count, String label) {
+        this(new FloatColumns.BarEntryColumns(xVals, yVals, count), label);
+    }
+
+    public BarColumnDataSet(FloatColumns<BarEntry> columns, String label) {
+        super(columns, label);
+    }
+
+    /**
+     * Returns the columns that hold the values of this DataSet.
+     *
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public FloatColumns<BarEntry> getColumns() {
+        return (FloatColumns<BarEntry>) mEntries;
+    }
+
+    /**
+     * Returns the x-value at the given index without creating an Entry.
+     *
+     * @param index
+     * @return
+     */
+    public float getX(int index) {
+        return getColumns().getX(index);
+    }
+
+    /**
+     * Returns the y-value at the given index without creating an Entry.
+     *
+     * @param index
+     * @return
+     */
+    public float getY(int index) {
+        return getColumns().getY(index);
+    }
+
+    @Override
+    public int getVersion() {
+        return ColumnDataSets.getVersion(super.getVersion(), getColumns());
+    }
+
+    /**
+     * Appends the given values to the end of this DataSet and updates the min and max values.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+        ColumnDataSets.addEntry(this, getColumns(), x, y);
+    }
+
+    /**
+     * Adds the given values at their appropriate index respective to their x-position.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntryOrdered(float x, float y) {
+        ColumnDataSets.addEntryOrdered(this, getColumns(), x, y);
+    }
+
+    @Override
+    protected void calcStackSize(List<BarEntry> yVals) {
+        // stacks are not supported, the stack-size stays 1
+    }
+
+    @Override
+    protected void calcEntryCountIncludingStacks(List<BarEntry> yVals) {
+        // stacks are not supported, see getEntryCountStacks()
+    }
+
+    @Override
+    public int getEntryCountStacks() {
+        return getEntryCount();
+    }
+
+    @Override
+    public void addEntryOrdered(BarEntry e) {
+
+        if (e == null)
+            return;
+
+        addEntryOrdered(e.getX(), e.getY());
+    }
+
+    @Override
+    public void calcMinMax() {
+        ColumnDataSets.calcMinMax(this, getColumns());
+    }
+
+    @Override
+    protected void updateMinMax() {
+        calcMinMax();
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        if (isRangeIndexEnabled())
+            super.calcMinMaxY(fromX, toX);
+        else
+            getColumns().calcMinMaxY(this, fromX, toX);
+    }
+
+    @Override
+    protected void getYRange(int index, float[] out) {
+        ColumnDataSets.getYRange(getColumns(), index, out);
+    }
+
+    @Override
+    public int copyXY(int from, int to, float[] out, int offset, float phaseY) {
+        return getColumns().copyXY(from, to, out, offset, phaseY);
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+        return getColumns().getEntryIndex(xValue, closestToY, rounding);
+    }
+
+    @Override
+    public List<BarEntry> getEntriesForXValue(float xValue) {
+        return getColumns().getEntriesForXValue(xValue);
+    }
+
+    @Override
+    public boolean contains(BarEntry e) {
+        return getColumns().contains(e);
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        return ColumnDataSets.removeEntry(this, getColumns(), index);
+    }
+
+    /**
+     * Replaces the values of this DataSet with the given entries. If the given list is not a
+     * FloatColumns object, its values are copied.
+     *
+     * @param entries
+     */
+    @Override
+    public void setEntries(List<BarEntry> entries) {
+
+        if (entries instanceof FloatColumns) {
+            super.setEntries(entries);
+            return;
+        }
+
+        ColumnDataSets.copyEntries(getColumns(), entries);
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<BarEntry> copy() {
+        BarColumnDataSet copied = new BarColumnDataSet(getColumns().copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
@@ -7,6 +7,7 @@ import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.ParallelTasks;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -106,6 +107,31 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         calcMinMax();
     }
 
+    /**
+     * Recalculates the min and max values of all DataSets and then of this data, like calling
+     * notifyDataSetChanged() on every DataSet followed by notifyDataChanged(). The DataSets are
+     * processed in parallel if enabled in ParallelTasks and they are large enough.
+     */
+    public void notifyDataSetsChanged() {
+
+        final List<T> sets = getDataSets();
+
+        long entryCount = 0;
+
+        for (T set : sets)
+            entryCount += set.getEntryCount();
+
+        ParallelTasks.run(sets.size(), entryCount, new ParallelTasks.Task() {
+
+            @Override
+            public void run(int index) {
+                sets.get(index).calcMinMax();
+            }
+        });
+
+        notifyDataChanged();
+    }
+
     /**
      * Calc minimum and maximum y-values over all DataSets.
      * Tell DataSets to recalculate their min and max y-values, this is only needed for autoScaleMinMax.
@@ -519,14 +545,18 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         if (e == null || dataSetIndex >= mDataSets.size())
             return false;
 
-        IDataSet set = mDataSets.get(dataSetIndex);
+        T set = mDataSets.get(dataSetIndex);
 
         if (set != null) {
+
+            float xMin = set.getXMin(), xMax = set.getXMax();
+            float yMin = set.getYMin(), yMax = set.getYMax();
+
             // remove the entry from the dataset
-            boolean removed = set.removeEntry(e);
+            boolean removed = ((IDataSet) set).removeEntry(e);
 
             if (removed) {
-                notifyDataChanged();
+                onDataSetBoundsChanged(set, xMin, xMax, yMin, yMax);
             }
 
             return removed;
@@ -534,6 +564,39 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
             return false;
     }
 
+    /**
+     * Updates the minimum and maximum values after the bounds of the given DataSet changed from
+     * the given previous bounds. The bounds of all DataSets only need to be aggregated again if
+     * the given DataSet defined one of the overall bounds before.
+     *
+     * @param set
+     * @param xMin  the previous minimum x-value of the DataSet
+     * @param xMax  the previous maximum x-value of the DataSet
+     * @param yMin  the previous minimum y-value of the DataSet
+     * @param yMax  the previous maximum y-value of the DataSet
+     */
+    protected void onDataSetBoundsChanged(T set, float xMin, float xMax, float yMin, float yMax) {
+
+        if (set.getXMin() == xMin && set.getXMax() == xMax
+                && set.getYMin() == yMin && set.getYMax() == yMax)
+            return;
+
+        boolean wasAtBounds = xMin <= mXMin || xMax >= mXMax || yMin <= mYMin || yMax >= mYMax;
+
+        if (set.getAxisDependency() == AxisDependency.LEFT)
+            wasAtBounds |= yMin <= mLeftAxisMin || yMax >= mLeftAxisMax;
+        else
+            wasAtBounds |= yMin <= mRightAxisMin || yMax >= mRightAxisMax;
+
+        if (wasAtBounds) {
+            calcMinMax();
+        } else {
+            // the DataSet did not define any of the overall bounds, so if its bounds shrank they
+            // can not change them, and if they grew merging them is enough
+            calcMinMax(set);
+        }
+    }
+
     /**
      * Removes the Entry object closest to the given DataSet at the
      * specified index. Returns true if an Entry was removed, false if no Entry
@@ -0,0 +1,162 @@
+package com.github.mikephil.charting.data;
+
+import java.util.List;
+
+/**
+ * The parts of LineColumnDataSet and BarColumnDataSet that work on their FloatColumns. Both
+ * DataSets delegate to these methods, as they extend different DataSet classes.
+ */
+final class ColumnDataSets {
+
+    private ColumnDataSets() {
+    }
+
+    /**
+     * Appends the given values to the end of the columns and updates the min and max values of
+     * the DataSet.
+     *
+     * @param set
+     * @param columns
+     * @param x
+     * @param y
+     */
+    static <T extends Entry> void addEntry(DataSet<T> set, FloatColumns<T> columns, float x, float y) {
+        columns.add(x, y);
+        calcMinMax(set, x, y);
+        set.onEntryAppended();
+    }
+
+    /**
+     * Adds the given values at their appropriate index respective to their x-position and updates
+     * the min and max values of the DataSet.
+     *
+     * @param set
+     * @param columns
+     * @param x
+     * @param y
+     */
+    static <T extends Entry> void addEntryOrdered(DataSet<T> set, FloatColumns<T> columns, float x, float y) {
+
+        if (columns.size() > 0 && columns.getX(columns.size() - 1) > x) {
+            columns.add(columns.upperBound(x), x, y);
+            set.invalidateRangeIndex();
+        } else {
+            columns.add(x, y);
+            set.onEntryAppended();
+        }
+
+        calcMinMax(set, x, y);
+    }
+
+    /**
+     * Extends the min and max values of the DataSet by the given values.
+     *
+     * @param set
+     * @param x
+     * @param y
+     */
+    static void calcMinMax(DataSet<?> set, float x, float y) {
+
+        if (x < set.mXMin)
+            set.mXMin = x;
+        if (x > set.mXMax)
+            set.mXMax = x;
+
+        if (y < set.mYMin)
+            set.mYMin = y;
+        if (y > set.mYMax)
+            set.mYMax = y;
+    }
+
+    /**
+     * Recalculates the min and max values of the DataSet from all values of the columns.
+     *
+     * @param set
+     * @param columns may be null
+     */
+    static <T extends Entry> void calcMinMax(DataSet<T> set, FloatColumns<T> columns) {
+
+        set.mYMax = -Float.MAX_VALUE;
+        set.mYMin = Float.MAX_VALUE;
+        set.mXMax = -Float.MAX_VALUE;
+        set.mXMin = Float.MAX_VALUE;
+
+        set.invalidateRangeIndex();
+
+        if (columns == null)
+            return;
+
+        columns.calcMinMax(set);
+    }
+
+    /**
+     * Returns the version of a DataSet with the given own version and columns, it also changes
+     * when a value of the columns is changed in place.
+     *
+     * @param setVersion
+     * @param columns may be null
+     * @return
+     */
+    static int getVersion(int setVersion, FloatColumns<?> columns) {
+        return columns == null ? setVersion : setVersion + columns.getValueVersion();
+    }
+
+    /**
+     * Writes the y-range of the value at the given index, see DataSet.getYRange(...).
+     *
+     * @param columns
+     * @param index
+     * @param out
+     */
+    static void getYRange(FloatColumns<?> columns, int index, float[] out) {
+
+        float y = columns.getY(index);
+
+        if (Float.isNaN(y)) {
+            out[0] = Float.MAX_VALUE;
+            out[1] = -Float.MAX_VALUE;
+        } else {
+            out[0] = y;
+            out[1] = y;
+        }
+    }
+
+    /**
+     * Removes the value at the given index. The min and max values of the DataSet are only
+     * recalculated if the value was at its bounds (see DataSet.onEntryRemoved(...)). Returns
+     * false if the index is out of bounds.
+     *
+     * @param set
+     * @param columns
+     * @param index
+     * @return
+     */
+    static <T extends Entry> boolean removeEntry(DataSet<T> set, FloatColumns<T> columns, int index) {
+
+        if (index < 0 || index >= columns.size())
+            return false;
+
+        T e = columns.get(index);
+
+        columns.removeAt(index);
+        set.onEntryRemoved(e, index);
+        return true;
+    }
+
+    /**
+     * Replaces the values of the columns with the values of the given entries.
+     *
+     * @param columns
+     * @param entries may be null
+     */
+    static <T extends Entry> void copyEntries(FloatColumns<T> columns, List<T> entries) {
+
+        columns.clear();
+
+        if (entries != null) {
+            columns.ensureCapacity(entries.size());
+            for (T e : entries)
+                columns.add(e.getX(), e.getY());
+        }
+    }
+}
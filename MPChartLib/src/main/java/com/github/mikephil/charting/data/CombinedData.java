@@ -53,6 +53,15 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
         notifyDataChanged();
     }
 
+    @Override
+    public void notifyDataSetsChanged() {
+
+        // collect the DataSets of all data objects first
+        calcMinMax();
+
+        super.notifyDataSetsChanged();
+    }
+
     @Override
     public void calcMinMax() {
 
@@ -0,0 +1,112 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * LineDataSet that background threads can append values to while the chart draws it (see
+ * {@link SnapshotColumns}). Writers call append(...) or removeFirst(...) on any thread, the chart
+ * keeps drawing the values it has pinned until update() is called on the UI thread, e.g.:
+ * <pre>
+ * set.append(x, y); // any thread
+ * chart.post(...);  // on the UI thread: set.update(); chart.notifyDataValuesChanged();
+ * </pre>
+ * The x-values need to be appended in ascending order.
+ */
+public class ConcurrentLineDataSet extends LineColumnDataSet {
+
+    public ConcurrentLineDataSet(String label) {
+        super(new SnapshotColumns(), label);
+    }
+
+    @Override
+    public SnapshotColumns getColumns() {
+        return (SnapshotColumns) mEntries;
+    }
+
+    /**
+     * Appends the given values, can be called on any thread. They are drawn after the next call
+     * of update().
+     *
+     * @param x
+     * @param y
+     */
+    public void append(float x, float y) {
+        getColumns().append(x, y);
+    }
+
+    /**
+     * Appends the given number of values from the given arrays at once, can be called on any
+     * thread. They are drawn after the next call of update().
+     *
+     * @param xVals
+     * @param yVals
+     * @param offset
+     * @param count
+     */
+    public void append(float[] xVals, float[] yVals, int offset, int count) {
+        getColumns().append(xVals, yVals, offset, count);
+    }
+
+    /**
+     * Removes the given number of the oldest values, can be called on any thread. They are
+     * removed from the chart with the next call of update().
+     *
+     * @param count
+     */
+    public void removeFirst(int count) {
+        getColumns().removeFirst(count);
+    }
+
+    /**
+     * Pins the latest published values for drawing and updates the min and max values. Must be
+     * called on the UI thread, followed by notifyDataValuesChanged() of the chart. Returns true
+     * if the values changed.
+     *
+     * @return
+     */
+    public boolean update() {
+
+        SnapshotColumns columns = getColumns();
+        SnapshotColumns.Snapshot previous = columns.update();
+
+        if (previous == null)
+            return false;
+
+        SnapshotColumns.Snapshot current = columns.getSnapshot();
+
+        if (current.getStart() == previous.getStart() && previous.size() > 0) {
+
+            // only appended, the min and max values of the old values still hold
+            final int count = current.size();
+
+            for (int i = previous.size(); i < count; i++)
+                calcMinMax(current.getX(i), current.getY(i));
+
+            invalidateRangeIndex();
+
+        } else {
+            calcMinMax();
+        }
+
+        return true;
+    }
+
+    @Override
+    public void addEntry(float x, float y) {
+        append(x, y);
+        update();
+    }
+
+    @Override
+    public void addEntryOrdered(float x, float y) {
+        addEntry(x, y);
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        addEntry(e.getX(), e.getY());
+        return true;
+    }
+}
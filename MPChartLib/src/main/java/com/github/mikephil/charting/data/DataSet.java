@@ -1,7 +1,11 @@
 
 package com.github.mikephil.charting.data;
 
+import com.github.mikephil.charting.utils.MinMaxSegmentTree;
+import com.github.mikephil.charting.utils.Transformer;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -39,6 +43,51 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    /**
+     * the number of entries per block of cached min and max values
+     */
+    private static final int BOUNDS_BLOCK_SIZE = 256;
+
+    /**
+     * the min and max values of each full block of BOUNDS_BLOCK_SIZE entries, in the order xMin,
+     * xMax, yMin, yMax. Used to recalculate the min and max values after an entry was removed
+     * without iterating all entries.
+     */
+    private float[] mBlockBounds = new float[0];
+
+    /**
+     * the number of leading blocks whose cached min and max values are up to date
+     */
+    private int mValidBlocks = 0;
+
+    /**
+     * the number of entries that were removed from the front of block 0. Entry i belongs to
+     * block (i + mBlockOffset) / BOUNDS_BLOCK_SIZE, so removing the first entry does not move
+     * the entries of all other blocks. Block 0 is incomplete while this is greater than 0, its
+     * cached values are not used then.
+     */
+    private int mBlockOffset = 0;
+
+    /**
+     * index over the y-range of each entry that answers calcMinMaxY(fromX, toX) in O(log n),
+     * null if disabled
+     */
+    private MinMaxSegmentTree mRangeIndex = null;
+
+    /**
+     * true if the range index needs to be rebuilt before it can be used
+     */
+    private boolean mRangeIndexDirty = true;
+
+    /**
+     * buffer for reading the y-range of an entry or querying the range index
+     */
+    private float[] mYRangeBuffer = new float[2];
+
+    /**
+     * incremented whenever the entries change
+     */
+    private int mVersion = 0;
 
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
@@ -61,17 +110,146 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     @Override
     public void calcMinMax() {
 
+        // the entries could have been modified from outside, nothing cached can be trusted
+        mValidBlocks = 0;
+        mBlockOffset = 0;
+        mRangeIndexDirty = true;
+        mVersion++;
+
+        updateMinMax();
+    }
+
+    /**
+     * Recalculates the min and max values, reusing the cached min and max values of all blocks
+     * of entries that did not change since they were calculated. Only the remaining entries are
+     * iterated.
+     */
+    protected void updateMinMax() {
+
+        final int count = mEntries == null ? 0 : mEntries.size();
+        final int offset = mBlockOffset;
+
+        // block 0 is incomplete if entries were removed from its front
+        final int firstBlock = offset > 0 ? 1 : 0;
+
+        // the number of blocks whose last entry exists
+        final int blocks = (count + offset) / BOUNDS_BLOCK_SIZE;
+
+        if (mBlockBounds.length < blocks * 4)
+            mBlockBounds = Arrays.copyOf(mBlockBounds, blocks * 4 + (blocks * 4 >> 1));
+
+        final float[] bounds = mBlockBounds;
+
+        for (int b = Math.max(Math.min(mValidBlocks, blocks), firstBlock); b < blocks; b++) {
+
+            resetMinMax();
+
+            for (int i = b * BOUNDS_BLOCK_SIZE - offset; i < (b + 1) * BOUNDS_BLOCK_SIZE - offset; i++)
+                calcMinMax(mEntries.get(i));
+
+            bounds[b * 4] = mXMin;
+            bounds[b * 4 + 1] = mXMax;
+            bounds[b * 4 + 2] = mYMin;
+            bounds[b * 4 + 3] = mYMax;
+        }
+
+        mValidBlocks = blocks;
+
+        resetMinMax();
+
+        // the remaining entries of the incomplete block 0
+        final int headEnd = offset > 0 ? Math.min(BOUNDS_BLOCK_SIZE - offset, count) : 0;
+
+        for (int i = 0; i < headEnd; i++)
+            calcMinMax(mEntries.get(i));
+
+        // entries after the last full block
+        for (int i = Math.max(blocks * BOUNDS_BLOCK_SIZE - offset, headEnd); i < count; i++)
+            calcMinMax(mEntries.get(i));
+
+        for (int b = firstBlock; b < blocks; b++) {
+
+            if (bounds[b * 4] < mXMin)
+                mXMin = bounds[b * 4];
+            if (bounds[b * 4 + 1] > mXMax)
+                mXMax = bounds[b * 4 + 1];
+            if (bounds[b * 4 + 2] < mYMin)
+                mYMin = bounds[b * 4 + 2];
+            if (bounds[b * 4 + 3] > mYMax)
+                mYMax = bounds[b * 4 + 3];
+        }
+    }
+
+    private void resetMinMax() {
         mYMax = -Float.MAX_VALUE;
         mYMin = Float.MAX_VALUE;
         mXMax = -Float.MAX_VALUE;
         mXMin = Float.MAX_VALUE;
+    }
 
-        if (mEntries == null || mEntries.isEmpty())
-            return;
+    /**
+     * Updates the min and max values after the given Entry was removed from the given index.
+     * They only need to be recalculated if the Entry was at the bounds of this DataSet.
+     *
+     * @param e
+     * @param index
+     */
+    protected void onEntryRemoved(T e, int index) {
+
+        mVersion++;
+
+        if (index == 0) {
+            // only block 0 shrinks, all other entries keep their blocks
+            mBlockOffset++;
+
+            if (mBlockOffset == BOUNDS_BLOCK_SIZE) {
+                // block 0 is empty, drop it
+                final int validBlocks = Math.max(mValidBlocks - 1, 0);
+
+                System.arraycopy(mBlockBounds, 4, mBlockBounds, 0, validBlocks * 4);
 
-        for (T e : mEntries) {
-            calcMinMax(e);
+                mValidBlocks = validBlocks;
+                mBlockOffset = 0;
+            }
+        } else {
+            // the entries of all following blocks moved
+            mValidBlocks = Math.min(mValidBlocks, (index + mBlockOffset) / BOUNDS_BLOCK_SIZE);
         }
+
+        if (mRangeIndex != null && !mRangeIndexDirty) {
+            if (index == mRangeIndex.size() - 1)
+                mRangeIndex.removeLast();
+            else
+                mRangeIndexDirty = true;
+        }
+
+        if (isAtBounds(e))
+            updateMinMax();
+    }
+
+    /**
+     * Returns true if the given Entry reaches the current min or max x- or y-value of this
+     * DataSet, that is if removing it could change them.
+     *
+     * @param e
+     * @return
+     */
+    private boolean isAtBounds(T e) {
+
+        final float xMin = mXMin, xMax = mXMax, yMin = mYMin, yMax = mYMax;
+
+        // let the (possibly overridden) calcMinMax(e) tell what the entry covers
+        resetMinMax();
+        calcMinMax(e);
+
+        boolean atBounds = mXMin <= xMin || mXMax >= xMax || mYMin <= yMin || mYMax >= yMax;
+
+        mXMin = xMin;
+        mXMax = xMax;
+        mYMin = yMin;
+        mYMax = yMax;
+
+        return atBounds;
     }
 
     @Override
@@ -87,6 +265,17 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
         if (indexTo < indexFrom) return;
 
+        if (mRangeIndex != null) {
+
+            if (mRangeIndexDirty)
+                buildRangeIndex();
+
+            mRangeIndex.query(indexFrom, indexTo, mYRangeBuffer);
+            mYMin = mYRangeBuffer[0];
+            mYMax = mYRangeBuffer[1];
+            return;
+        }
+
         for (int i = indexFrom; i <= indexTo; i++) {
 
             // only recalculate y
@@ -94,6 +283,96 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         }
     }
 
+    /**
+     * Enables / disables the range index of this DataSet. If enabled, calcMinMaxY(fromX, toX),
+     * which is called on every frame if the chart auto scales its y-axis, takes O(log n) instead
+     * of iterating all entries in the range. The index needs two floats per entry. Default:
+     * disabled
+     *
+     * @param enabled
+     */
+    public void setRangeIndexEnabled(boolean enabled) {
+
+        if (enabled && mRangeIndex == null) {
+            mRangeIndex = new MinMaxSegmentTree(getEntryCount());
+            mRangeIndexDirty = true;
+        } else if (!enabled) {
+            mRangeIndex = null;
+        }
+    }
+
+    /**
+     * Returns true if the range index of this DataSet is enabled.
+     *
+     * @return
+     */
+    public boolean isRangeIndexEnabled() {
+        return mRangeIndex != null;
+    }
+
+    /**
+     * Marks the range index as outdated, it is rebuilt the next time it is needed. Needs to be
+     * called if entries were changed in a way this DataSet does not notice.
+     */
+    protected void invalidateRangeIndex() {
+        mRangeIndexDirty = true;
+        mVersion++;
+    }
+
+    private void buildRangeIndex() {
+
+        final int count = getEntryCount();
+        final float[] range = mYRangeBuffer;
+
+        mRangeIndex.reset(count);
+
+        for (int i = 0; i < count; i++) {
+            getYRange(i, range);
+            mRangeIndex.setLeaf(i, range[0], range[1]);
+        }
+
+        mRangeIndex.build();
+        mRangeIndexDirty = false;
+    }
+
+    /**
+     * Keeps the range index up to date after an entry was appended to the end of the entries.
+     */
+    protected void onEntryAppended() {
+
+        mVersion++;
+
+        if (mRangeIndex == null || mRangeIndexDirty)
+            return;
+
+        getYRange(getEntryCount() - 1, mYRangeBuffer);
+        mRangeIndex.add(mYRangeBuffer[0], mYRangeBuffer[1]);
+    }
+
+    /**
+     * Writes the smallest (out[0]) and largest (out[1]) y-value that the entry at the given index
+     * covers into the given array, as used by calcMinMaxY(fromX, toX). Entries without a y-value
+     * write Float.MAX_VALUE and -Float.MAX_VALUE.
+     *
+     * @param index
+     * @param out
+     */
+    protected void getYRange(int index, float[] out) {
+
+        final float yMin = mYMin, yMax = mYMax;
+
+        // let the (possibly overridden) calcMinMaxY(e) tell what the entry covers
+        mYMin = Float.MAX_VALUE;
+        mYMax = -Float.MAX_VALUE;
+        calcMinMaxY(mEntries.get(index));
+
+        out[0] = mYMin;
+        out[1] = mYMax;
+
+        mYMin = yMin;
+        mYMax = yMax;
+    }
+
     /**
      * Updates the min and max x and y value of this DataSet based on the given Entry.
      *
@@ -211,6 +490,11 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         return buffer.toString();
     }
 
+    @Override
+    public int getVersion() {
+        return mVersion;
+    }
+
     @Override
     public float getYMin() {
         return mYMin;
@@ -246,8 +530,12 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries.size() > 0 && mEntries.get(mEntries.size() - 1).getX() > e.getX()) {
             int closestIndex = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
             mEntries.add(closestIndex, e);
+            mValidBlocks = Math.min(mValidBlocks, (closestIndex + mBlockOffset) / BOUNDS_BLOCK_SIZE);
+            mRangeIndexDirty = true;
+            mVersion++;
         } else {
             mEntries.add(e);
+            onEntryAppended();
         }
     }
 
@@ -271,7 +559,13 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMax(e);
 
         // add the entry
-        return values.add(e);
+        if (!values.add(e))
+            return false;
+
+        if (values == mEntries)
+            onEntryAppended();
+
+        return true;
     }
 
     @Override
@@ -283,14 +577,38 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries == null)
             return false;
 
+        int index = mEntries.indexOf(e);
+
+        if (index < 0)
+            return false;
+
         // remove the entry
-        boolean removed = mEntries.remove(e);
+        mEntries.remove(index);
+        onEntryRemoved(e, index);
 
-        if (removed) {
-            calcMinMax();
-        }
+        return true;
+    }
 
-        return removed;
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (mEntries == null || index < 0 || index >= mEntries.size())
+            return false;
+
+        T e = mEntries.remove(index);
+        onEntryRemoved(e, index);
+
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(getEntryCount() - 1);
     }
 
     @Override
@@ -317,6 +635,27 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         return mEntries.get(index);
     }
 
+    @Override
+    public int copyXY(int from, int to, float[] out, int offset, float phaseY) {
+
+        for (int i = from; i < to; i++) {
+            final T e = mEntries.get(i);
+            out[offset++] = e.getX();
+            out[offset++] = e.getY() * phaseY;
+        }
+
+        return offset;
+    }
+
+    @Override
+    public int copyPixelXY(int from, int to, float[] out, int offset, float phaseY, Transformer trans) {
+
+        final int end = copyXY(from, to, out, offset, phaseY);
+        trans.pointValuesToPixel(out, offset, (end - offset) / 2);
+
+        return end;
+    }
+
     @Override
     public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
 
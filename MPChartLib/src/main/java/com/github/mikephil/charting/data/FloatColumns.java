@@ -0,0 +1,643 @@
+package com.github.mikephil.charting.data;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Columnar storage for the x- and y-values of a DataSet. Instead of holding one Entry object per
+ * value, the values are kept in two growable primitive float arrays. To stay compatible with the
+ * List based DataSet api, this class is also a List of entries: Entry objects are only created
+ * when they are requested via get(...), and they are detached copies of the stored values.
+ * Changing an Entry returned by this list does NOT change the stored values, use setY(...) for
+ * that. Additional data and icons of entries that are added to this list are not stored.
+ *
+ * @param <T> The type of Entry this list hands out.
+ */
+public abstract class FloatColumns<T extends Entry> extends AbstractList<T> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * the x-values, ordered ascending
+     */
+    protected float[] mXVals;
+
+    /**
+     * the y-values, mYVals[i] belongs to mXVals[i]
+     */
+    protected float[] mYVals;
+
+    /**
+     * the number of values that are actually in use
+     */
+    protected int mCount = 0;
+
+    /**
+     * incremented whenever a value is changed in place, see getValueVersion()
+     */
+    protected int mValueVersion = 0;
+
+    public FloatColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the initial number of values that fit into this list without growing it
+     */
+    public FloatColumns(int capacity) {
+        capacity = Math.max(capacity, 1);
+        mXVals = new float[capacity];
+        mYVals = new float[capacity];
+    }
+
+    /**
+     * Creates the columns from the given arrays. The arrays are NOT copied but used as the
+     * backing store directly, the x-values must be ordered ascending.
+     *
+     * @param xVals
+     * @param yVals
+     * @param count the number of values in use in both arrays
+     */
+    public FloatColumns(float[] xVals, float[] yVals, int count) {
+
+        if (xVals.length < count || yVals.length < count)
+            throw new IllegalArgumentException("The value arrays are smaller than the count.");
+
+        mXVals = xVals;
+        mYVals = yVals;
+        mCount = count;
+    }
+
+    /**
+     * Creates the Entry object that represents the given values.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    protected abstract T createEntry(float x, float y);
+
+    /**
+     * Creates a new, empty instance of the same type as this one.
+     *
+     * @param capacity
+     * @return
+     */
+    protected abstract FloatColumns<T> newInstance(int capacity);
+
+    /**
+     * Returns an exact copy of this object, the value arrays are copied.
+     *
+     * @return
+     */
+    public FloatColumns<T> copy() {
+        FloatColumns<T> copied = newInstance(mCount);
+        copied.addAll(getXValues(), getYValues(), 0, mCount);
+        return copied;
+    }
+
+    @Override
+    public int size() {
+        return mCount;
+    }
+
+    /**
+     * Returns the x-value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getX(int index) {
+        return mXVals[index];
+    }
+
+    /**
+     * Returns the y-value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getY(int index) {
+        return mYVals[index];
+    }
+
+    /**
+     * Sets the y-value at the given index. This changes the version of the DataSet the columns
+     * belong to, so cached positions are recalculated, but not its min and max values: call
+     * notifyDataSetChanged() afterwards if the new value may change them.
+     *
+     * @param index
+     * @param y
+     */
+    public void setY(int index, float y) {
+        checkIndex(index);
+        mYVals[index] = y;
+        mValueVersion++;
+    }
+
+    /**
+     * Returns a number that changes whenever a value is changed in place (setY(...),
+     * set(...)). Values that are added or removed change the version of the DataSet instead.
+     *
+     * @return
+     */
+    public int getValueVersion() {
+        return mValueVersion;
+    }
+
+    /**
+     * Returns the backing array of the x-values. Only the first size() values are valid.
+     *
+     * @return
+     */
+    public float[] getXValues() {
+        return mXVals;
+    }
+
+    /**
+     * Returns the backing array of the y-values. Only the first size() values are valid.
+     *
+     * @return
+     */
+    public float[] getYValues() {
+        return mYVals;
+    }
+
+    /**
+     * Copies the values from index "from" (inclusive) to index "to" (exclusive) into the given
+     * array, in the order x,y,x,y,... The y-values are multiplied with phaseY.
+     *
+     * @param from
+     * @param to
+     * @param out
+     * @param offset the position in the out-array to start writing at
+     * @param phaseY
+     * @return the position in the out-array after the last written value
+     */
+    public int copyXY(int from, int to, float[] out, int offset, float phaseY) {
+
+        if (from < 0 || to > mCount)
+            throw new IndexOutOfBoundsException("Range: " + from + " - " + to + ", Size: " + mCount);
+
+        final float[] xVals = mXVals;
+        final float[] yVals = mYVals;
+
+        for (int i = from; i < to; i++) {
+            out[offset++] = xVals[i];
+            out[offset++] = yVals[i] * phaseY;
+        }
+
+        return offset;
+    }
+
+    /**
+     * Makes sure that at least the given number of values fit into the arrays without growing
+     * them again.
+     *
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (capacity <= mXVals.length)
+            return;
+
+        int newCapacity = Math.max(capacity, mXVals.length + (mXVals.length >> 1) + 1);
+        mXVals = Arrays.copyOf(mXVals, newCapacity);
+        mYVals = Arrays.copyOf(mYVals, newCapacity);
+    }
+
+    /**
+     * Appends the given values to the end of the columns.
+     *
+     * @param x
+     * @param y
+     */
+    public void add(float x, float y) {
+        ensureCapacity(mCount + 1);
+        mXVals[mCount] = x;
+        mYVals[mCount] = y;
+        mCount++;
+        modCount++;
+    }
+
+    /**
+     * Inserts the given values at the given index.
+     *
+     * @param index
+     * @param x
+     * @param y
+     */
+    public void add(int index, float x, float y) {
+
+        if (index < 0 || index > mCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mCount);
+
+        ensureCapacity(mCount + 1);
+        System.arraycopy(mXVals, index, mXVals, index + 1, mCount - index);
+        System.arraycopy(mYVals, index, mYVals, index + 1, mCount - index);
+        mXVals[index] = x;
+        mYVals[index] = y;
+        mCount++;
+        modCount++;
+    }
+
+    /**
+     * Appends count values of the given arrays, starting at offset.
+     *
+     * @param xVals
+     * @param yVals
+     * @param offset
+     * @param count
+     */
+    public void addAll(float[] xVals, float[] yVals, int offset, int count) {
+        ensureCapacity(mCount + count);
+        System.arraycopy(xVals, offset, mXVals, mCount, count);
+        System.arraycopy(yVals, offset, mYVals, mCount, count);
+        mCount += count;
+        modCount++;
+    }
+
+    /**
+     * Removes the values at the given index.
+     *
+     * @param index
+     */
+    public void removeAt(int index) {
+        checkIndex(index);
+
+        int moved = mCount - index - 1;
+        if (moved > 0) {
+            System.arraycopy(mXVals, index + 1, mXVals, index, moved);
+            System.arraycopy(mYVals, index + 1, mYVals, index, moved);
+        }
+
+        mCount--;
+        modCount++;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return createEntry(getX(index), getY(index));
+    }
+
+    @Override
+    public T set(int index, T e) {
+        T old = get(index);
+        mXVals[index] = e.getX();
+        mYVals[index] = e.getY();
+        mValueVersion++;
+        return old;
+    }
+
+    @Override
+    public void add(int index, T e) {
+        add(index, e.getX(), e.getY());
+    }
+
+    @Override
+    public T remove(int index) {
+        T old = get(index);
+        removeAt(index);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        mCount = 0;
+        modCount++;
+    }
+
+    /**
+     * Entry objects handed out by this list are created on demand, so the index is found by
+     * comparing values instead of references: returns the first index with the same x- and
+     * y-value as the given Entry, or -1.
+     *
+     * @param o
+     * @return
+     */
+    @Override
+    public int indexOf(Object o) {
+
+        if (!(o instanceof Entry))
+            return -1;
+
+        Entry e = (Entry) o;
+        float x = e.getX();
+        float y = e.getY();
+
+        for (int i = lowerBound(x); i < mCount && getX(i) == x; i++) {
+            if (getY(i) == y)
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+
+        int index = indexOf(o);
+
+        if (index < 0)
+            return index;
+
+        Entry e = (Entry) o;
+
+        while (index + 1 < mCount && getX(index + 1) == e.getX() && getY(index + 1) == e.getY())
+            index++;
+
+        return index;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+
+        int index = indexOf(o);
+
+        if (index < 0)
+            return false;
+
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Returns the first index whose x-value is not smaller than the given x-value (mCount if
+     * there is none).
+     *
+     * @param xValue
+     * @return
+     */
+    public int lowerBound(float xValue) {
+
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (getX(m) < xValue)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the first index whose x-value is greater than the given x-value (mCount if there
+     * is none).
+     *
+     * @param xValue
+     * @return
+     */
+    public int upperBound(float xValue) {
+
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (getX(m) <= xValue)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    /**
+     * Same as {@link DataSet#getEntryIndex(float, float, DataSet.Rounding)}, but works on the
+     * primitive values and does not create any Entry objects.
+     *
+     * @param xValue
+     * @param closestToY
+     * @param rounding
+     * @return
+     */
+    public int getEntryIndex(float xValue, float closestToY, DataSet.Rounding rounding) {
+
+        if (mCount == 0)
+            return -1;
+
+        int low = 0;
+        int high = mCount - 1;
+        int closest = high;
+
+        while (low < high) {
+            int m = (low + high) / 2;
+
+            final float d1 = getX(m) - xValue,
+                    d2 = getX(m + 1) - xValue,
+                    ad1 = Math.abs(d1), ad2 = Math.abs(d2);
+
+            if (ad2 < ad1) {
+                // [m + 1] is closer to xValue
+                low = m + 1;
+            } else if (ad1 < ad2) {
+                // [m] is closer to xValue
+                high = m;
+            } else {
+                // We have multiple sequential x-value with same distance
+                if (d1 >= 0.0) {
+                    high = m;
+                } else if (d1 < 0.0) {
+                    low = m + 1;
+                }
+            }
+
+            closest = high;
+        }
+
+        float closestXValue = getX(closest);
+        if (rounding == DataSet.Rounding.UP) {
+            if (closestXValue < xValue && closest < mCount - 1) {
+                ++closest;
+            }
+        } else if (rounding == DataSet.Rounding.DOWN) {
+            if (closestXValue > xValue && closest > 0) {
+                --closest;
+            }
+        }
+
+        // Search by closest to y-value
+        if (!Float.isNaN(closestToY)) {
+            while (closest > 0 && getX(closest - 1) == closestXValue)
+                closest -= 1;
+
+            float closestYValue = getY(closest);
+            int closestYIndex = closest;
+
+            while (true) {
+                closest += 1;
+                if (closest >= mCount)
+                    break;
+
+                if (getX(closest) != closestXValue)
+                    break;
+
+                if (Math.abs(getY(closest) - closestToY) <= Math.abs(closestYValue - closestToY)) {
+                    closestYValue = getY(closest);
+                    closestYIndex = closest;
+                }
+            }
+
+            closest = closestYIndex;
+        }
+
+        return closest;
+    }
+
+    /**
+     * Returns Entry objects for all values at the given x-value, or an empty list.
+     *
+     * @param xValue
+     * @return
+     */
+    public List<T> getEntriesForXValue(float xValue) {
+
+        List<T> entries = new ArrayList<T>();
+
+        for (int i = lowerBound(xValue); i < mCount && getX(i) == xValue; i++) {
+            entries.add(createEntry(getX(i), getY(i)));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Calculates the minimum and maximum x- and y-values of the given DataSet from these columns.
+     * NaN y-values are ignored. The values are read through getX(...) and getY(...), so this
+     * works for all subclasses.
+     *
+     * @param set the DataSet these columns belong to
+     */
+    void calcMinMax(DataSet<T> set) {
+
+        float xMin = Float.MAX_VALUE, xMax = -Float.MAX_VALUE;
+        float yMin = Float.MAX_VALUE, yMax = -Float.MAX_VALUE;
+
+        for (int i = 0; i < mCount; i++) {
+
+            final float x = getX(i);
+            final float y = getY(i);
+
+            if (x < xMin)
+                xMin = x;
+            if (x > xMax)
+                xMax = x;
+
+            if (y < yMin)
+                yMin = y;
+            if (y > yMax)
+                yMax = y;
+        }
+
+        set.mXMin = xMin;
+        set.mXMax = xMax;
+        set.mYMin = yMin;
+        set.mYMax = yMax;
+    }
+
+    /**
+     * Calculates the minimum and maximum y-values of the given DataSet between the values closest
+     * to fromX and toX.
+     *
+     * @param set the DataSet these columns belong to
+     * @param fromX
+     * @param toX
+     */
+    void calcMinMaxY(DataSet<T> set, float fromX, float toX) {
+
+        float yMin = Float.MAX_VALUE, yMax = -Float.MAX_VALUE;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, DataSet.Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, DataSet.Rounding.UP);
+
+        for (int i = Math.max(indexFrom, 0); i <= indexTo; i++) {
+
+            final float y = getY(i);
+
+            if (y < yMin)
+                yMin = y;
+            if (y > yMax)
+                yMax = y;
+        }
+
+        set.mYMin = yMin;
+        set.mYMax = yMax;
+    }
+
+    protected void checkIndex(int index) {
+        if (index < 0 || index >= mCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mCount);
+    }
+
+    /**
+     * Columns that hand out plain Entry objects.
+     */
+    public static class EntryColumns extends FloatColumns<Entry> {
+
+        public EntryColumns() {
+            super();
+        }
+
+        public EntryColumns(int capacity) {
+            super(capacity);
+        }
+
+        public EntryColumns(float[] xVals, float[] yVals, int count) {
+            super(xVals, yVals, count);
+        }
+
+        @Override
+        protected Entry createEntry(float x, float y) {
+            return new Entry(x, y);
+        }
+
+        @Override
+        protected FloatColumns<Entry> newInstance(int capacity) {
+            return new EntryColumns(capacity);
+        }
+    }
+
+    /**
+     * Columns that hand out (non-stacked) BarEntry objects.
+     */
+    public static class BarEntryColumns extends FloatColumns<BarEntry> {
+
+        public BarEntryColumns() {
+            super();
+        }
+
+        public BarEntryColumns(int capacity) {
+            super(capacity);
+        }
+
+        public BarEntryColumns(float[] xVals, float[] yVals, int count) {
+            super(xVals, yVals, count);
+        }
+
+        @Override
+        protected BarEntry createEntry(float x, float y) {
+            return new BarEntry(x, y);
+        }
+
+        @Override
+        protected FloatColumns<BarEntry> newInstance(int capacity) {
+            return new BarEntryColumns(capacity);
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * Fixed-capacity FloatColumns that store their values in a circular buffer, meant for streaming
+ * data. Once the capacity is reached, appending a value evicts the oldest one. Appending and
+ * removing the oldest value are O(1), and the minimum and maximum y-value of all values in the
+ * buffer are tracked with two monotonic queues, so they never need to be recalculated by
+ * iterating all values. Inserting or removing values anywhere else is possible, but O(n).
+ */
+public class FloatRingColumns extends FloatColumns<Entry> {
+
+    /**
+     * the array index of the value at index 0
+     */
+    protected int mHead = 0;
+
+    /**
+     * array indices of the candidates for the minimum y-value, the first one is the minimum
+     */
+    private SlotQueue mMinQueue;
+
+    /**
+     * array indices of the candidates for the maximum y-value, the first one is the maximum
+     */
+    private SlotQueue mMaxQueue;
+
+    /**
+     * @param capacity the maximum number of values, the oldest values are evicted beyond that
+     */
+    public FloatRingColumns(int capacity) {
+        super(capacity);
+        mMinQueue = new SlotQueue(mXVals.length);
+        mMaxQueue = new SlotQueue(mXVals.length);
+    }
+
+    /**
+     * Returns the maximum number of values these columns can hold.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return mXVals.length;
+    }
+
+    /**
+     * Returns the smallest y-value in the buffer (NaN values are ignored), or Float.MAX_VALUE if
+     * there is none.
+     *
+     * @return
+     */
+    public float getYMin() {
+        return mMinQueue.isEmpty() ? Float.MAX_VALUE : mYVals[mMinQueue.first()];
+    }
+
+    /**
+     * Returns the largest y-value in the buffer (NaN values are ignored), or -Float.MAX_VALUE if
+     * there is none.
+     *
+     * @return
+     */
+    public float getYMax() {
+        return mMaxQueue.isEmpty() ? -Float.MAX_VALUE : mYVals[mMaxQueue.first()];
+    }
+
+    /**
+     * Returns the array index of the value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    protected int slot(int index) {
+        int slot = mHead + index;
+        return slot >= mXVals.length ? slot - mXVals.length : slot;
+    }
+
+    @Override
+    public FloatColumns<Entry> copy() {
+
+        FloatRingColumns copied = new FloatRingColumns(getCapacity());
+
+        for (int i = 0; i < mCount; i++) {
+            int slot = slot(i);
+            copied.add(mXVals[slot], mYVals[slot]);
+        }
+
+        return copied;
+    }
+
+    @Override
+    protected FloatColumns<Entry> newInstance(int capacity) {
+        return new FloatRingColumns(capacity);
+    }
+
+    @Override
+    protected Entry createEntry(float x, float y) {
+        return new Entry(x, y);
+    }
+
+    @Override
+    public float getX(int index) {
+        return mXVals[slot(index)];
+    }
+
+    @Override
+    public float getY(int index) {
+        return mYVals[slot(index)];
+    }
+
+    @Override
+    public void setY(int index, float y) {
+        checkIndex(index);
+        mYVals[slot(index)] = y;
+        mValueVersion++;
+        rebuildQueues();
+    }
+
+    @Override
+    public Entry set(int index, Entry e) {
+        Entry old = get(index);
+        int slot = slot(index);
+        mXVals[slot] = e.getX();
+        mYVals[slot] = e.getY();
+        mValueVersion++;
+        rebuildQueues();
+        return old;
+    }
+
+    /**
+     * Moves the values to the start of the arrays before returning them, so that the first
+     * size() values are valid and in order. This is O(n) if the buffer has wrapped around.
+     *
+     * @return
+     */
+    @Override
+    public float[] getXValues() {
+
+        if (mHead != 0) {
+            linearize();
+            rebuildQueues();
+        }
+
+        return mXVals;
+    }
+
+    /**
+     * Moves the values to the start of the arrays before returning them, so that the first
+     * size() values are valid and in order. This is O(n) if the buffer has wrapped around.
+     *
+     * @return
+     */
+    @Override
+    public float[] getYValues() {
+
+        if (mHead != 0) {
+            linearize();
+            rebuildQueues();
+        }
+
+        return mYVals;
+    }
+
+    @Override
+    public int copyXY(int from, int to, float[] out, int offset, float phaseY) {
+
+        if (from < 0 || to > mCount)
+            throw new IndexOutOfBoundsException("Range: " + from + " - " + to + ", Size: " + mCount);
+
+        final float[] xVals = mXVals;
+        final float[] yVals = mYVals;
+        final int capacity = xVals.length;
+
+        int slot = slot(from);
+
+        for (int i = from; i < to; i++) {
+            out[offset++] = xVals[slot];
+            out[offset++] = yVals[slot] * phaseY;
+
+            if (++slot == capacity)
+                slot = 0;
+        }
+
+        return offset;
+    }
+
+    /**
+     * The capacity is fixed, this does nothing.
+     *
+     * @param capacity
+     */
+    @Override
+    public void ensureCapacity(int capacity) {
+    }
+
+    /**
+     * Appends the given values, evicting the oldest values if the buffer is full.
+     *
+     * @param x
+     * @param y
+     */
+    @Override
+    public void add(float x, float y) {
+
+        if (mCount == mXVals.length)
+            removeAt(0);
+
+        int slot = slot(mCount);
+        mXVals[slot] = x;
+        mYVals[slot] = y;
+        mCount++;
+        modCount++;
+
+        push(slot);
+    }
+
+    /**
+     * Inserts the given values at the given index. If the buffer is full, the oldest values are
+     * evicted first, values that would be evicted right away (index 0) are not added.
+     *
+     * @param index
+     * @param x
+     * @param y
+     */
+    @Override
+    public void add(int index, float x, float y) {
+
+        if (index == mCount) {
+            add(x, y);
+            return;
+        }
+
+        if (index < 0 || index > mCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mCount);
+
+        if (mCount == mXVals.length) {
+
+            if (index == 0)
+                return;
+
+            removeAt(0);
+            index--;
+        }
+
+        linearize();
+        super.add(index, x, y);
+        rebuildQueues();
+    }
+
+    @Override
+    public void addAll(float[] xVals, float[] yVals, int offset, int count) {
+        for (int i = offset; i < offset + count; i++)
+            add(xVals[i], yVals[i]);
+    }
+
+    @Override
+    public void removeAt(int index) {
+        checkIndex(index);
+
+        if (index == 0) {
+
+            int slot = mHead;
+
+            if (!mMinQueue.isEmpty() && mMinQueue.first() == slot)
+                mMinQueue.pollFirst();
+            if (!mMaxQueue.isEmpty() && mMaxQueue.first() == slot)
+                mMaxQueue.pollFirst();
+
+            mHead = slot(1);
+            mCount--;
+            modCount++;
+
+        } else if (index == mCount - 1) {
+
+            // values that were dropped from the queues because of the last value could become
+            // candidates again, the queues need to be rebuilt
+            mCount--;
+            modCount++;
+            rebuildQueues();
+
+        } else {
+            linearize();
+            super.removeAt(index);
+            rebuildQueues();
+        }
+    }
+
+    @Override
+    public void clear() {
+        mHead = 0;
+        mCount = 0;
+        mMinQueue.clear();
+        mMaxQueue.clear();
+        modCount++;
+    }
+
+    /**
+     * The x-values are expected to be ordered ascending, so the x-range is given by the first and
+     * last value, the y-range is taken from the monotonic queues. This is O(1).
+     *
+     * @param set the DataSet these columns belong to
+     */
+    @Override
+    void calcMinMax(DataSet<Entry> set) {
+
+        if (mCount == 0) {
+            set.mXMin = Float.MAX_VALUE;
+            set.mXMax = -Float.MAX_VALUE;
+        } else {
+            set.mXMin = getX(0);
+            set.mXMax = getX(mCount - 1);
+        }
+
+        set.mYMin = getYMin();
+        set.mYMax = getYMax();
+    }
+
+    /**
+     * Adds the value at the given array index (the newest value) to the min and max queues.
+     *
+     * @param slot
+     */
+    private void push(int slot) {
+
+        final float y = mYVals[slot];
+
+        if (Float.isNaN(y))
+            return;
+
+        while (!mMinQueue.isEmpty() && mYVals[mMinQueue.last()] >= y)
+            mMinQueue.pollLast();
+        mMinQueue.add(slot);
+
+        while (!mMaxQueue.isEmpty() && mYVals[mMaxQueue.last()] <= y)
+            mMaxQueue.pollLast();
+        mMaxQueue.add(slot);
+    }
+
+    /**
+     * Recreates the min and max queues from all values, O(n).
+     */
+    private void rebuildQueues() {
+
+        mMinQueue.clear();
+        mMaxQueue.clear();
+
+        for (int i = 0; i < mCount; i++)
+            push(slot(i));
+    }
+
+    /**
+     * Moves the values to the start of the arrays so that the head is at index 0. The queues hold
+     * array indices and are invalid afterwards, they need to be rebuilt by the caller.
+     */
+    private void linearize() {
+
+        if (mHead == 0)
+            return;
+
+        final int capacity = mXVals.length;
+
+        float[] xVals = new float[capacity];
+        float[] yVals = new float[capacity];
+
+        int first = Math.min(mCount, capacity - mHead);
+        System.arraycopy(mXVals, mHead, xVals, 0, first);
+        System.arraycopy(mYVals, mHead, yVals, 0, first);
+        System.arraycopy(mXVals, 0, xVals, first, mCount - first);
+        System.arraycopy(mYVals, 0, yVals, first, mCount - first);
+
+        mXVals = xVals;
+        mYVals = yVals;
+        mHead = 0;
+    }
+
+    /**
+     * Double ended queue of array indices, backed by a circular int array.
+     */
+    private static class SlotQueue {
+
+        private final int[] mSlots;
+        private int mFirst = 0;
+        private int mSize = 0;
+
+        SlotQueue(int capacity) {
+            mSlots = new int[capacity];
+        }
+
+        boolean isEmpty() {
+            return mSize == 0;
+        }
+
+        int first() {
+            return mSlots[mFirst];
+        }
+
+        int last() {
+            return mSlots[(mFirst + mSize - 1) % mSlots.length];
+        }
+
+        void pollFirst() {
+            mFirst = (mFirst + 1) % mSlots.length;
+            mSize--;
+        }
+
+        void pollLast() {
+            mSize--;
+        }
+
+        void add(int slot) {
+            mSlots[(mFirst + mSize) % mSlots.length] = slot;
+            mSize++;
+        }
+
+        void clear() {
+            mFirst = 0;
+            mSize = 0;
+        }
+    }
+}
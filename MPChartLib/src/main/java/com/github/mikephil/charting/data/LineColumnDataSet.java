@@ -0,0 +1,179 @@
+package com.github.mikephil.charting.data;
+
+import java.util.List;
+
+/**
+ * LineDataSet that stores its values in primitive float arrays (see {@link FloatColumns}) instead
+ * of one Entry object per value. Use this for very large datasets. It can be styled and used like
+ * any other LineDataSet, Entry objects are only created when they are explicitly requested.
+ */
+public class LineColumnDataSet extends LineDataSet {
+
+    /**
+     * Creates an empty dataset, add values with addEntry(float, float).
+     *
+     * @param label
+     */
+    public LineColumnDataSet(String label) {
+        this(new FloatColumns.EntryColumns(), label);
+    }
+
+    /**
+     * Creates a dataset backed by the given arrays (they are not copied). The x-values need to
+     * be ordered ascending.
+     *
+     * @param xVals
+     * @param yVals
+     * @param count the number of values in use in both arrays
+     * @param label
+     */
+    public LineColumnDataSet(float[] xVals, float[] yVals, int count, String label) {
+        this(new FloatColumns.EntryColumns(xVals, yVals, count), label);
+    }
+
+    public LineColumnDataSet(FloatColumns<Entry> columns, String label) {
+        super(columns, label);
+    }
+
+    /**
+     * Returns the columns that hold the values of this DataSet.
+     *
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public FloatColumns<Entry> getColumns() {
+        return (FloatColumns<Entry>) mEntries;
+    }
+
+    /**
+     * Returns the x-value at the given index without creating an Entry.
+     *
+     * @param index
+     * @return
+     */
+    public float getX(int index) {
+        return getColumns().getX(index);
+    }
+
+    /**
+     * Returns the y-value at the given index without creating an Entry.
+     *
+     * @param index
+     * @return
+     */
+    public float getY(int index) {
+        return getColumns().getY(index);
+    }
+
+    @Override
+    public int getVersion() {
+        return ColumnDataSets.getVersion(super.getVersion(), getColumns());
+    }
+
+    /**
+     * Appends the given values to the end of this DataSet and updates the min and max values.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+        ColumnDataSets.addEntry(this, getColumns(), x, y);
+    }
+
+    /**
+     * Adds the given values at their appropriate index respective to their x-position.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntryOrdered(float x, float y) {
+        ColumnDataSets.addEntryOrdered(this, getColumns(), x, y);
+    }
+
+    protected void calcMinMax(float x, float y) {
+        ColumnDataSets.calcMinMax(this, x, y);
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+
+        if (e == null)
+            return;
+
+        addEntryOrdered(e.getX(), e.getY());
+    }
+
+    @Override
+    public void calcMinMax() {
+        ColumnDataSets.calcMinMax(this, getColumns());
+    }
+
+    @Override
+    protected void updateMinMax() {
+        calcMinMax();
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        if (isRangeIndexEnabled())
+            super.calcMinMaxY(fromX, toX);
+        else
+            getColumns().calcMinMaxY(this, fromX, toX);
+    }
+
+    @Override
+    protected void getYRange(int index, float[] out) {
+        ColumnDataSets.getYRange(getColumns(), index, out);
+    }
+
+    @Override
+    public int copyXY(int from, int to, float[] out, int offset, float phaseY) {
+        return getColumns().copyXY(from, to, out, offset, phaseY);
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+        return getColumns().getEntryIndex(xValue, closestToY, rounding);
+    }
+
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+        return getColumns().getEntriesForXValue(xValue);
+    }
+
+    @Override
+    public boolean contains(Entry e) {
+        return getColumns().contains(e);
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        return ColumnDataSets.removeEntry(this, getColumns(), index);
+    }
+
+    /**
+     * Replaces the values of this DataSet with the given entries. If the given list is not a
+     * FloatColumns object, its values are copied.
+     *
+     * @param entries
+     */
+    @Override
+    public void setEntries(List<Entry> entries) {
+
+        if (entries instanceof FloatColumns) {
+            super.setEntries(entries);
+            return;
+        }
+
+        ColumnDataSets.copyEntries(getColumns(), entries);
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        LineColumnDataSet copied = new LineColumnDataSet(getColumns().copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
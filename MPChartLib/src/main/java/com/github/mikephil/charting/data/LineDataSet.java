@@ -64,6 +64,15 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
 
     private boolean mDrawCircleHole = true;
 
+    /**
+     * the maximum number of points the line is drawn with, 0 if unlimited
+     */
+    private int mMaxRenderedPoints = 0;
+
+    /**
+     * if true, the colors of a line with multiple colors blend into each other along the x-axis
+     */
+    private boolean mColorGradientEnabled = false;
 
     public LineDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
@@ -105,6 +114,8 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         lineDataSet.mDrawCircles = mDrawCircleHole;
         lineDataSet.mFillFormatter = mFillFormatter;
         lineDataSet.mMode = mMode;
+        lineDataSet.mMaxRenderedPoints = mMaxRenderedPoints;
+        lineDataSet.mColorGradientEnabled = mColorGradientEnabled;
     }
 
     /**
@@ -408,6 +419,41 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         return mFillFormatter;
     }
 
+    /**
+     * Limits the number of points the visible part of the line is drawn with. If more entries
+     * are visible, the line is reduced to the given number of points with the
+     * Douglas-Peucker algorithm (see ApproximatorN), which keeps the most significant points of
+     * its shape. Only linear lines with a single color are reduced. Set to 0 to disable.
+     * Default: 0
+     *
+     * @param count
+     */
+    public void setMaxRenderedPoints(int count) {
+        mMaxRenderedPoints = Math.max(count, 0);
+    }
+
+    @Override
+    public int getMaxRenderedPoints() {
+        return mMaxRenderedPoints;
+    }
+
+    /**
+     * If set to true, a linear line with multiple colors is drawn with a single horizontal
+     * gradient: the color of each entry (see getColor(int)) is placed at its x-position and
+     * blends into the color of the next entry. The whole line then takes one draw call instead
+     * of one per color change. Default: false
+     *
+     * @param enabled
+     */
+    public void setColorGradientEnabled(boolean enabled) {
+        mColorGradientEnabled = enabled;
+    }
+
+    @Override
+    public boolean isColorGradientEnabled() {
+        return mColorGradientEnabled;
+    }
+
     public enum Mode {
         LINEAR,
         STEPPED,
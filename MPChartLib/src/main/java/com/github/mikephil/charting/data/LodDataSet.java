@@ -0,0 +1,178 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * LineDataSet for huge amounts of values (millions) that keeps a level-of-detail pyramid (see
+ * {@link LodPyramid}) next to its values. When zoomed out, the LineChartRenderer draws the min
+ * and max values of the pyramid level that matches the current scale instead of all visible
+ * values, so that only about 2 - 4 points per pixel are touched, no matter how large the
+ * DataSet is. Only lines with a single color use the pyramid.
+ *
+ * The pyramid is kept up to date when values are appended and rebuilt together with the min and
+ * max values in calcMinMax(), other changes rebuild it the next time it is needed. So it is built
+ * in the background if the DataSet is created or prepared there (e.g. by Chart.setDataAsync(...)
+ * or the parallel ChartData.notifyDataSetsChanged()), not on the first draw.
+ */
+public class LodDataSet extends LineColumnDataSet {
+
+    /**
+     * the number of values per bucket on the finest level
+     */
+    private static final int BASE_BUCKET_SIZE = 16;
+
+    private LodPyramid mPyramid;
+
+    /**
+     * true if the pyramid needs to be rebuilt before it can be used, not initialized as the
+     * pyramid is already built by calcMinMax() in the super constructor
+     */
+    private boolean mPyramidDirty;
+
+    public LodDataSet(String label) {
+        super(label);
+    }
+
+    /**
+     * Creates a DataSet backed by the given arrays (they are not copied). The x-values need to
+     * be ordered ascending.
+     *
+     * @param xVals
+     * @param yVals
+     * @param count the number of values in use in both arrays
+     * @param label
+     */
+    public LodDataSet(float[] xVals, float[] yVals, int count, String label) {
+        super(xVals, yVals, count, label);
+    }
+
+    /**
+     * Creates a DataSet with the values of the given DataSet (they are copied) and builds the
+     * pyramid.
+     *
+     * @param source
+     * @param label
+     */
+    public LodDataSet(IDataSet<?> source, String label) {
+        super(label);
+
+        final int count = source.getEntryCount();
+        final FloatColumns<Entry> columns = getColumns();
+        final float[] buffer = new float[Math.min(count, 4096) * 2];
+
+        columns.ensureCapacity(count);
+
+        for (int from = 0; from < count; from += buffer.length / 2) {
+
+            int to = Math.min(from + buffer.length / 2, count);
+            source.copyXY(from, to, buffer, 0, 1f);
+
+            for (int i = 0; i < (to - from) * 2; i += 2)
+                columns.add(buffer[i], buffer[i + 1]);
+        }
+
+        calcMinMax();
+    }
+
+    public LodDataSet(FloatColumns<Entry> columns, String label) {
+        super(columns, label);
+    }
+
+    /**
+     * Returns the level-of-detail pyramid of the values of this DataSet, it is rebuilt first if
+     * the values changed.
+     *
+     * @return
+     */
+    public LodPyramid getPyramid() {
+
+        if (mPyramid == null || mPyramidDirty)
+            buildPyramid();
+
+        return mPyramid;
+    }
+
+    private void buildPyramid() {
+
+        if (mPyramid == null)
+            mPyramid = new LodPyramid(BASE_BUCKET_SIZE);
+
+        mPyramid.build(getColumns());
+        mPyramidDirty = false;
+    }
+
+    /**
+     * Returns the pyramid level to draw the given number of visible values on the given number
+     * of pixels with, or -1 if all values should be drawn.
+     *
+     * @param valueCount
+     * @param pixels
+     * @return
+     */
+    public int getLevel(int valueCount, float pixels) {
+        return getPyramid().getLevel(valueCount, pixels);
+    }
+
+    /**
+     * Same as copyXY(...), but copies the min and max values of the buckets of the given pyramid
+     * level. The array needs to hold 4 floats per bucket.
+     *
+     * @param level
+     * @param from
+     * @param to
+     * @param out
+     * @param offset
+     * @param phaseY
+     * @return the position in the out-array after the last written value
+     */
+    public int copyLevelXY(int level, int from, int to, float[] out, int offset, float phaseY) {
+        return getPyramid().copyXY(level, from, to, out, offset, phaseY);
+    }
+
+    @Override
+    protected void onEntryAppended() {
+        super.onEntryAppended();
+
+        if (mPyramidDirty || mPyramid == null)
+            return;
+
+        final int index = getEntryCount() - 1;
+
+        if (mPyramid.size() == index)
+            mPyramid.add(getX(index), getY(index));
+        else
+            mPyramidDirty = true;
+    }
+
+    @Override
+    public void addEntryOrdered(float x, float y) {
+
+        boolean append = getEntryCount() == 0 || getX(getEntryCount() - 1) <= x;
+
+        super.addEntryOrdered(x, y);
+
+        if (!append)
+            mPyramidDirty = true;
+    }
+
+    @Override
+    protected void onEntryRemoved(Entry e, int index) {
+        super.onEntryRemoved(e, index);
+        mPyramidDirty = true;
+    }
+
+    @Override
+    public void calcMinMax() {
+        super.calcMinMax();
+
+        // O(n) like the min and max values, so it runs on the same (possibly background) thread
+        buildPyramid();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        LodDataSet copied = new LodDataSet(getColumns().copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
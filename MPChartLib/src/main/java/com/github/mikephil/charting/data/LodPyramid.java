@@ -0,0 +1,311 @@
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Level-of-detail pyramid over the values of a DataSet. Every level splits the values into
+ * buckets of a power-of-two size and stores the lowest and highest y-value of each bucket
+ * (together with their x-values). Level 0 has buckets of the base size, each following level
+ * doubles the bucket size, until a single bucket covers all values. Drawing the min and max of
+ * every bucket of a suitable level keeps the shape and the peaks of a line, while the number of
+ * points only depends on the number of pixels, not on the number of values.
+ *
+ * The pyramid needs about 8 / base size bytes per value. It can be built in O(n), appending a
+ * value is O(log n).
+ */
+public class LodPyramid {
+
+    /**
+     * log2 of the bucket size of level 0
+     */
+    private final int mBaseShift;
+
+    /**
+     * the number of values covered by the pyramid
+     */
+    private int mCount = 0;
+
+    private List<Level> mLevels = new ArrayList<Level>();
+
+    /**
+     * @param baseBucketSize the number of values per bucket on level 0, rounded up to a power of
+     *                       two (minimum 2)
+     */
+    public LodPyramid(int baseBucketSize) {
+
+        int shift = 1;
+        while ((1 << shift) < baseBucketSize)
+            shift++;
+
+        mBaseShift = shift;
+    }
+
+    /**
+     * Returns the number of values that are covered by the pyramid.
+     *
+     * @return
+     */
+    public int size() {
+        return mCount;
+    }
+
+    /**
+     * Returns the number of levels.
+     *
+     * @return
+     */
+    public int getLevelCount() {
+        return mLevels.size();
+    }
+
+    /**
+     * Returns the number of values per bucket on the given level.
+     *
+     * @param level
+     * @return
+     */
+    public int getBucketSize(int level) {
+        return 1 << (mBaseShift + level);
+    }
+
+    public void clear() {
+        mLevels.clear();
+        mCount = 0;
+    }
+
+    /**
+     * Appends the given value, O(log n).
+     *
+     * @param x
+     * @param y
+     */
+    public void add(float x, float y) {
+
+        final int index = mCount++;
+
+        for (int i = 0; i < mLevels.size(); i++) {
+
+            Level level = mLevels.get(i);
+            int bucket = index >> (mBaseShift + i);
+
+            if (bucket == level.count)
+                level.addBucket(x, y, x, y);
+            else
+                level.update(bucket, x, y);
+        }
+
+        if (mLevels.isEmpty()) {
+            Level level = new Level(16);
+            level.addBucket(x, y, x, y);
+            mLevels.add(level);
+        }
+
+        addTopLevels();
+    }
+
+    /**
+     * Rebuilds the pyramid from all values of the given columns, O(n).
+     *
+     * @param columns
+     */
+    public void build(FloatColumns<?> columns) {
+
+        clear();
+
+        final int count = columns.size();
+        if (count == 0)
+            return;
+
+        final int bucketSize = getBucketSize(0);
+        final int bucketCount = (count + bucketSize - 1) / bucketSize;
+
+        Level base = new Level(bucketCount);
+
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+
+            int from = bucket * bucketSize;
+            int to = Math.min(from + bucketSize, count);
+
+            float x = columns.getX(from), y = columns.getY(from);
+            base.addBucket(x, y, x, y);
+
+            for (int i = from + 1; i < to; i++)
+                base.update(bucket, columns.getX(i), columns.getY(i));
+        }
+
+        mLevels.add(base);
+        mCount = count;
+
+        addTopLevels();
+    }
+
+    /**
+     * Adds levels on top until the top level consists of a single bucket.
+     */
+    private void addTopLevels() {
+
+        Level top = mLevels.get(mLevels.size() - 1);
+
+        while (top.count > 1) {
+
+            Level level = new Level((top.count + 1) / 2);
+
+            for (int bucket = 0; bucket < top.count; bucket += 2) {
+
+                level.addBucket(top.minX[bucket], top.minY[bucket], top.maxX[bucket], top.maxY[bucket]);
+
+                if (bucket + 1 < top.count)
+                    level.merge(bucket / 2, top, bucket + 1);
+            }
+
+            mLevels.add(level);
+            top = level;
+        }
+    }
+
+    /**
+     * Returns the level whose buckets are closest to (but not larger than) the given number of
+     * values per pixel, or -1 if the values are dense enough to be drawn without the pyramid.
+     *
+     * @param valueCount the number of values to draw
+     * @param pixels     the number of pixels to draw them on
+     * @return
+     */
+    public int getLevel(int valueCount, float pixels) {
+
+        if (pixels <= 0f || mLevels.isEmpty())
+            return -1;
+
+        float valuesPerPixel = valueCount / pixels;
+
+        int level = -1;
+        while (level + 1 < mLevels.size() && getBucketSize(level + 1) <= valuesPerPixel)
+            level++;
+
+        return level;
+    }
+
+    /**
+     * Copies the lowest and highest value of all buckets of the given level that contain values
+     * from index "from" (inclusive) to index "to" (exclusive) into the given array, ordered by
+     * x, in the order x,y,x,y,... The y-values are multiplied with phaseY. The array needs to
+     * hold 4 floats per bucket.
+     *
+     * @param level
+     * @param from
+     * @param to
+     * @param out
+     * @param offset the position in the out-array to start writing at
+     * @param phaseY
+     * @return the position in the out-array after the last written value
+     */
+    public int copyXY(int level, int from, int to, float[] out, int offset, float phaseY) {
+
+        if (from >= to)
+            return offset;
+
+        final Level l = mLevels.get(level);
+        final int shift = mBaseShift + level;
+
+        final int last = Math.min((to - 1) >> shift, l.count - 1);
+
+        for (int bucket = from >> shift; bucket <= last; bucket++) {
+
+            final float minX = l.minX[bucket], minY = l.minY[bucket];
+            final float maxX = l.maxX[bucket], maxY = l.maxY[bucket];
+
+            // no values with a y-value in the bucket
+            if (minY > maxY)
+                continue;
+
+            if (minX == maxX && minY == maxY) {
+                out[offset++] = minX;
+                out[offset++] = minY * phaseY;
+            } else if (minX <= maxX) {
+                out[offset++] = minX;
+                out[offset++] = minY * phaseY;
+                out[offset++] = maxX;
+                out[offset++] = maxY * phaseY;
+            } else {
+                out[offset++] = maxX;
+                out[offset++] = maxY * phaseY;
+                out[offset++] = minX;
+                out[offset++] = minY * phaseY;
+            }
+        }
+
+        return offset;
+    }
+
+    /**
+     * The buckets of one level.
+     */
+    private static class Level {
+
+        float[] minX;
+        float[] minY;
+        float[] maxX;
+        float[] maxY;
+
+        int count = 0;
+
+        Level(int capacity) {
+            capacity = Math.max(capacity, 1);
+            minX = new float[capacity];
+            minY = new float[capacity];
+            maxX = new float[capacity];
+            maxY = new float[capacity];
+        }
+
+        void addBucket(float minX, float minY, float maxX, float maxY) {
+
+            if (count == this.minX.length) {
+                int capacity = count + (count >> 1) + 1;
+                this.minX = Arrays.copyOf(this.minX, capacity);
+                this.minY = Arrays.copyOf(this.minY, capacity);
+                this.maxX = Arrays.copyOf(this.maxX, capacity);
+                this.maxY = Arrays.copyOf(this.maxY, capacity);
+            }
+
+            // NaN values are ignored
+            if (Float.isNaN(minY)) {
+                minY = Float.MAX_VALUE;
+                maxY = -Float.MAX_VALUE;
+            }
+
+            this.minX[count] = minX;
+            this.minY[count] = minY;
+            this.maxX[count] = maxX;
+            this.maxY[count] = maxY;
+            count++;
+        }
+
+        void update(int bucket, float x, float y) {
+
+            if (y < minY[bucket]) {
+                minY[bucket] = y;
+                minX[bucket] = x;
+            }
+
+            if (y > maxY[bucket]) {
+                maxY[bucket] = y;
+                maxX[bucket] = x;
+            }
+        }
+
+        void merge(int bucket, Level other, int otherBucket) {
+
+            if (other.minY[otherBucket] < minY[bucket]) {
+                minY[bucket] = other.minY[otherBucket];
+                minX[bucket] = other.minX[otherBucket];
+            }
+
+            if (other.maxY[otherBucket] > maxY[bucket]) {
+                maxY[bucket] = other.maxY[otherBucket];
+                maxX[bucket] = other.maxX[otherBucket];
+            }
+        }
+    }
+}
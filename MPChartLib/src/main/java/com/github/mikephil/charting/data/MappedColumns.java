@@ -0,0 +1,146 @@
+package com.github.mikephil.charting.data;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Read-only FloatColumns that read their values straight from a ByteBuffer, usually a file that
+ * is memory-mapped with FileUtils.mapColumns(...), instead of copying them into arrays. The
+ * buffer holds all x-values followed by all y-values, both as little-endian floats or doubles
+ * (doubles are rounded to floats when read). Values can not be added, removed or changed.
+ */
+public class MappedColumns extends AccessorColumns {
+
+    private final ByteBuffer mBuffer;
+
+    private final boolean mDoubles;
+
+    private FloatBuffer mXFloats;
+    private FloatBuffer mYFloats;
+
+    private DoubleBuffer mXDoubles;
+    private DoubleBuffer mYDoubles;
+
+    /**
+     * @param buffer  the values, starting at the current position of the buffer: count x-values
+     *                followed by count y-values
+     * @param count   the number of values
+     * @param doubles true if the values are stored as doubles, false for floats
+     */
+    public MappedColumns(ByteBuffer buffer, int count, boolean doubles) {
+
+        final int size = doubles ? 8 : 4;
+
+        if (buffer.remaining() < (long) count * size * 2)
+            throw new IllegalArgumentException("The buffer is smaller than the count.");
+
+        mBuffer = buffer;
+        mDoubles = doubles;
+        mCount = count;
+
+        ByteBuffer xs = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        xs.limit(count * size);
+
+        ByteBuffer ys = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        ys.position(count * size);
+        ys = ys.slice().order(ByteOrder.LITTLE_ENDIAN);
+        ys.limit(count * size);
+
+        if (doubles) {
+            mXDoubles = xs.asDoubleBuffer();
+            mYDoubles = ys.asDoubleBuffer();
+        } else {
+            mXFloats = xs.asFloatBuffer();
+            mYFloats = ys.asFloatBuffer();
+        }
+    }
+
+    /**
+     * Returns true if the values are stored as doubles.
+     *
+     * @return
+     */
+    public boolean isDoubles() {
+        return mDoubles;
+    }
+
+    /**
+     * Returns the buffer the values are read from.
+     *
+     * @return
+     */
+    public ByteBuffer getBuffer() {
+        return mBuffer;
+    }
+
+    @Override
+    public float getX(int index) {
+        return mDoubles ? (float) mXDoubles.get(index) : mXFloats.get(index);
+    }
+
+    @Override
+    public float getY(int index) {
+        return mDoubles ? (float) mYDoubles.get(index) : mYFloats.get(index);
+    }
+
+    @Override
+    public int copyXY(int from, int to, float[] out, int offset, float phaseY) {
+
+        if (from < 0 || to > mCount)
+            throw new IndexOutOfBoundsException("Range: " + from + " - " + to + ", Size: " + mCount);
+
+        if (mDoubles) {
+
+            for (int i = from; i < to; i++) {
+                out[offset++] = (float) mXDoubles.get(i);
+                out[offset++] = (float) (mYDoubles.get(i) * phaseY);
+            }
+
+        } else {
+
+            for (int i = from; i < to; i++) {
+                out[offset++] = mXFloats.get(i);
+                out[offset++] = mYFloats.get(i) * phaseY;
+            }
+        }
+
+        return offset;
+    }
+
+    @Override
+    public void setY(int index, float y) {
+        throw new UnsupportedOperationException("Mapped columns are read-only.");
+    }
+
+    @Override
+    public Entry set(int index, Entry e) {
+        throw new UnsupportedOperationException("Mapped columns are read-only.");
+    }
+
+    @Override
+    public void add(float x, float y) {
+        throw new UnsupportedOperationException("Mapped columns are read-only.");
+    }
+
+    @Override
+    public void add(int index, float x, float y) {
+        throw new UnsupportedOperationException("Mapped columns are read-only.");
+    }
+
+    @Override
+    public void addAll(float[] xVals, float[] yVals, int offset, int count) {
+        throw new UnsupportedOperationException("Mapped columns are read-only.");
+    }
+
+    @Override
+    public void removeAt(int index) {
+        throw new UnsupportedOperationException("Mapped columns are read-only.");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Mapped columns are read-only.");
+    }
+}
@@ -0,0 +1,396 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * FloatColumns that can be written by any number of threads while the chart reads them on the UI
+ * thread, without locks on the read side. Values are stored in fixed-size chunks that are never
+ * moved or overwritten: writers append values behind the last published value and then publish a
+ * new immutable Snapshot (the chunks, the index of the first and behind the last value) with a
+ * single volatile write. Removing the oldest values only publishes a Snapshot that starts later,
+ * so readers of an older Snapshot are not affected.
+ * <p>
+ * All reading methods of these columns (size(), getX(...), copyXY(...), ...) read the Snapshot
+ * that was pinned with the last call of update(), which must be called on the thread that reads
+ * the columns. Writers use append(...), removeFirst(...) and clearValues(), the FloatColumns
+ * methods that modify the columns in place are not supported.
+ */
+public class SnapshotColumns extends AccessorColumns {
+
+    private static final int CHUNK_SHIFT = 12;
+
+    /**
+     * number of values per chunk
+     */
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     * Immutable state of the columns. The values at the indices start to end - 1 are never
+     * changed once a Snapshot containing them was published.
+     */
+    public static final class Snapshot {
+
+        private final float[][] mXChunks;
+        private final float[][] mYChunks;
+
+        /**
+         * the global chunk index of mXChunks[0]
+         */
+        private final int mChunkBase;
+
+        /**
+         * the global index of the first and behind the last value
+         */
+        private final long mStart;
+        private final long mEnd;
+
+        private final long mVersion;
+
+        private Snapshot(float[][] xChunks, float[][] yChunks, int chunkBase, long start, long end,
+                         long version) {
+            mXChunks = xChunks;
+            mYChunks = yChunks;
+            mChunkBase = chunkBase;
+            mStart = start;
+            mEnd = end;
+            mVersion = version;
+        }
+
+        /**
+         * Returns the number of values in this Snapshot.
+         *
+         * @return
+         */
+        public int size() {
+            return (int) (mEnd - mStart);
+        }
+
+        /**
+         * Returns the number of values that were removed from the front of the columns before
+         * this Snapshot was published.
+         *
+         * @return
+         */
+        public long getStart() {
+            return mStart;
+        }
+
+        /**
+         * Returns the version of this Snapshot, it is incremented with every published change.
+         *
+         * @return
+         */
+        public long getVersion() {
+            return mVersion;
+        }
+
+        public float getX(int index) {
+            final long i = mStart + index;
+            return mXChunks[(int) (i >>> CHUNK_SHIFT) - mChunkBase][(int) (i & CHUNK_MASK)];
+        }
+
+        public float getY(int index) {
+            final long i = mStart + index;
+            return mYChunks[(int) (i >>> CHUNK_SHIFT) - mChunkBase][(int) (i & CHUNK_MASK)];
+        }
+
+        /**
+         * Copies the values from index "from" to "to" (exclusive) as x,y pairs into the given
+         * array, chunk by chunk.
+         *
+         * @param from
+         * @param to
+         * @param out
+         * @param offset
+         * @param phaseY
+         * @return the position in the out-array after the last written value
+         */
+        public int copyXY(int from, int to, float[] out, int offset, float phaseY) {
+
+            long i = mStart + from;
+            final long end = mStart + to;
+
+            while (i < end) {
+
+                final int chunk = (int) (i >>> CHUNK_SHIFT) - mChunkBase;
+                final float[] xs = mXChunks[chunk];
+                final float[] ys = mYChunks[chunk];
+
+                final int first = (int) (i & CHUNK_MASK);
+                final int last = (int) Math.min(CHUNK_SIZE, first + (end - i));
+
+                for (int j = first; j < last; j++) {
+                    out[offset++] = xs[j];
+                    out[offset++] = ys[j] * phaseY;
+                }
+
+                i += last - first;
+            }
+
+            return offset;
+        }
+    }
+
+    private final Object mWriteLock = new Object();
+
+    /**
+     * the latest published state, written by the writers
+     */
+    private volatile Snapshot mPublished;
+
+    /**
+     * the state that is read, only changed by update()
+     */
+    private Snapshot mView;
+
+    // state of the writers, guarded by mWriteLock
+    private float[][] mXChunks;
+    private float[][] mYChunks;
+    private int mChunkBase = 0;
+    private long mStart = 0;
+    private long mEnd = 0;
+    private long mVersion = 0;
+
+    public SnapshotColumns() {
+
+        mXChunks = new float[4][];
+        mYChunks = new float[4][];
+
+        mPublished = new Snapshot(mXChunks, mYChunks, 0, 0, 0, 0);
+        mView = mPublished;
+    }
+
+    /**
+     * Appends the given values to the end of the columns and publishes them. Can be called on
+     * any thread, the values are not visible to readers until they call update().
+     *
+     * @param x
+     * @param y
+     */
+    public void append(float x, float y) {
+
+        synchronized (mWriteLock) {
+            write(x, y);
+            publish();
+        }
+    }
+
+    /**
+     * Appends the given number of values from the given arrays and publishes them all at once.
+     * Can be called on any thread.
+     *
+     * @param xVals
+     * @param yVals
+     * @param offset
+     * @param count
+     */
+    public void append(float[] xVals, float[] yVals, int offset, int count) {
+
+        synchronized (mWriteLock) {
+
+            for (int i = 0; i < count; i++)
+                write(xVals[offset + i], yVals[offset + i]);
+
+            publish();
+        }
+    }
+
+    /**
+     * Removes the given number of the oldest values and publishes the change. Chunks that only
+     * contained removed values are released once no Snapshot refers to them anymore. Can be
+     * called on any thread.
+     *
+     * @param count
+     */
+    public void removeFirst(int count) {
+
+        synchronized (mWriteLock) {
+
+            mStart = Math.min(mStart + Math.max(count, 0), mEnd);
+
+            final int firstChunk = (int) (mStart >>> CHUNK_SHIFT);
+            final int dropped = firstChunk - mChunkBase;
+
+            if (dropped > 0) {
+
+                // copy on write, published Snapshots keep the old chunk arrays
+                float[][] xChunks = new float[mXChunks.length][];
+                float[][] yChunks = new float[mYChunks.length][];
+
+                System.arraycopy(mXChunks, dropped, xChunks, 0, mXChunks.length - dropped);
+                System.arraycopy(mYChunks, dropped, yChunks, 0, mYChunks.length - dropped);
+
+                mXChunks = xChunks;
+                mYChunks = yChunks;
+                mChunkBase = firstChunk;
+            }
+
+            publish();
+        }
+    }
+
+    /**
+     * Removes all values and publishes the change. Can be called on any thread.
+     */
+    public void clearValues() {
+
+        synchronized (mWriteLock) {
+            mXChunks = new float[4][];
+            mYChunks = new float[4][];
+            mChunkBase = (int) (mEnd >>> CHUNK_SHIFT);
+            mStart = mEnd;
+            publish();
+        }
+    }
+
+    private void write(float x, float y) {
+
+        final int chunk = (int) (mEnd >>> CHUNK_SHIFT) - mChunkBase;
+
+        if (chunk >= mXChunks.length) {
+
+            // copy on write, published Snapshots keep the old chunk arrays
+            float[][] xChunks = new float[mXChunks.length * 2][];
+            float[][] yChunks = new float[mYChunks.length * 2][];
+
+            System.arraycopy(mXChunks, 0, xChunks, 0, mXChunks.length);
+            System.arraycopy(mYChunks, 0, yChunks, 0, mYChunks.length);
+
+            mXChunks = xChunks;
+            mYChunks = yChunks;
+        }
+
+        // published Snapshots never read slots of chunks behind their end, so new chunks can be
+        // added to a shared chunk array
+        if (mXChunks[chunk] == null) {
+            mXChunks[chunk] = new float[CHUNK_SIZE];
+            mYChunks[chunk] = new float[CHUNK_SIZE];
+        }
+
+        final int slot = (int) (mEnd & CHUNK_MASK);
+
+        mXChunks[chunk][slot] = x;
+        mYChunks[chunk][slot] = y;
+
+        mEnd++;
+    }
+
+    private void publish() {
+        mVersion++;
+        mPublished = new Snapshot(mXChunks, mYChunks, mChunkBase, mStart, mEnd, mVersion);
+    }
+
+    /**
+     * Returns the latest published Snapshot. Can be called on any thread, the Snapshot can be
+     * read without synchronization.
+     *
+     * @return
+     */
+    public Snapshot getPublished() {
+        return mPublished;
+    }
+
+    /**
+     * Returns the Snapshot that is read by these columns.
+     *
+     * @return
+     */
+    public Snapshot getSnapshot() {
+        return mView;
+    }
+
+    /**
+     * Makes the latest published Snapshot the one that is read by these columns. Must be called
+     * on the thread that reads the columns (usually the UI thread). Returns the previously read
+     * Snapshot, or null if nothing changed.
+     *
+     * @return
+     */
+    public Snapshot update() {
+
+        final Snapshot published = mPublished;
+        final Snapshot previous = mView;
+
+        if (published == previous)
+            return null;
+
+        mView = published;
+        mCount = published.size();
+        modCount++;
+
+        return previous;
+    }
+
+    @Override
+    public float getX(int index) {
+        return mView.getX(index);
+    }
+
+    @Override
+    public float getY(int index) {
+        return mView.getY(index);
+    }
+
+    @Override
+    public int copyXY(int from, int to, float[] out, int offset, float phaseY) {
+
+        if (from < 0 || to > mCount)
+            throw new IndexOutOfBoundsException("Range: " + from + " - " + to + ", Size: " + mCount);
+
+        return mView.copyXY(from, to, out, offset, phaseY);
+    }
+
+    @Override
+    public void setY(int index, float y) {
+        throw new UnsupportedOperationException("Published values can not be changed.");
+    }
+
+    @Override
+    public Entry set(int index, Entry e) {
+        throw new UnsupportedOperationException("Published values can not be changed.");
+    }
+
+    /**
+     * Appends the given values and pins the result right away, see append(...). Only call this
+     * on the thread that reads the columns.
+     *
+     * @param x
+     * @param y
+     */
+    @Override
+    public void add(float x, float y) {
+        append(x, y);
+        update();
+    }
+
+    @Override
+    public void add(int index, float x, float y) {
+
+        if (index != mCount)
+            throw new UnsupportedOperationException("Values can only be appended.");
+
+        add(x, y);
+    }
+
+    @Override
+    public void addAll(float[] xVals, float[] yVals, int offset, int count) {
+        append(xVals, yVals, offset, count);
+        update();
+    }
+
+    @Override
+    public void removeAt(int index) {
+
+        if (index != 0)
+            throw new UnsupportedOperationException("Only the first value can be removed.");
+
+        removeFirst(1);
+        update();
+    }
+
+    @Override
+    public void clear() {
+        clearValues();
+        update();
+    }
+}
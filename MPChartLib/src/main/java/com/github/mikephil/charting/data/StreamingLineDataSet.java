@@ -0,0 +1,71 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * LineDataSet for realtime data that holds at most a fixed number of values (see
+ * {@link FloatRingColumns}). Appending a value once the capacity is reached evicts the oldest
+ * value, both in O(1), and the min and max values are kept up to date without iterating the
+ * values. The x-values need to be appended in ascending order.
+ */
+public class StreamingLineDataSet extends LineColumnDataSet {
+
+    /**
+     * @param capacity the maximum number of values this DataSet holds
+     * @param label
+     */
+    public StreamingLineDataSet(int capacity, String label) {
+        super(new FloatRingColumns(capacity), label);
+    }
+
+    public StreamingLineDataSet(FloatRingColumns columns, String label) {
+        super(columns, label);
+    }
+
+    @Override
+    public FloatRingColumns getColumns() {
+        return (FloatRingColumns) mEntries;
+    }
+
+    /**
+     * Returns the maximum number of values this DataSet holds.
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return getColumns().getCapacity();
+    }
+
+    /**
+     * Appends the given values, evicting the oldest values if the DataSet is full.
+     *
+     * @param x
+     * @param y
+     */
+    @Override
+    public void addEntry(float x, float y) {
+        getColumns().add(x, y);
+        calcMinMax();
+    }
+
+    @Override
+    public void addEntryOrdered(float x, float y) {
+        super.addEntryOrdered(x, y);
+        calcMinMax();
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        addEntry(e.getX(), e.getY());
+        return true;
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        StreamingLineDataSet copied = new StreamingLineDataSet((FloatRingColumns) getColumns().copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
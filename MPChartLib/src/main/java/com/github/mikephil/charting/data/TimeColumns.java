@@ -0,0 +1,272 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.AffineTransform;
+
+import java.util.Arrays;
+
+/**
+ * Columns for time series: next to the float x-values, the exact 64-bit timestamps are kept in a
+ * long array. The float x-value of a timestamp is its distance to a base timestamp, divided by
+ * the time unit (e.g. a unit of 1000 for millisecond timestamps and x-values in seconds), so the
+ * float x-values stay small. Searching for a timestamp and transforming timestamps into pixels
+ * works on the exact timestamps.
+ */
+public class TimeColumns extends FloatColumns.EntryColumns {
+
+    /**
+     * the timestamp at x = 0
+     */
+    private final long mBase;
+
+    /**
+     * the number of timestamp steps per x-unit
+     */
+    private final double mUnit;
+
+    /**
+     * the exact timestamps, mTimes[i] belongs to mXVals[i]
+     */
+    private long[] mTimes;
+
+    /**
+     * @param base the timestamp at x = 0
+     * @param unit the number of timestamp steps per x-unit, e.g. 1000 for millisecond
+     *             timestamps and x-values in seconds
+     */
+    public TimeColumns(long base, double unit) {
+        this(base, unit, 16);
+    }
+
+    public TimeColumns(long base, double unit, int capacity) {
+        super(capacity);
+
+        if (unit <= 0.0)
+            throw new IllegalArgumentException("The time unit needs to be greater than 0.");
+
+        mBase = base;
+        mUnit = unit;
+        mTimes = new long[Math.max(capacity, 1)];
+    }
+
+    public long getBase() {
+        return mBase;
+    }
+
+    public double getUnit() {
+        return mUnit;
+    }
+
+    /**
+     * Returns the float x-value that belongs to the given timestamp.
+     *
+     * @param time
+     * @return
+     */
+    public float toX(long time) {
+        return (float) ((time - mBase) / mUnit);
+    }
+
+    /**
+     * Returns the timestamp that belongs to the given x-value, rounded to the next full step.
+     *
+     * @param x
+     * @return
+     */
+    public long toTime(double x) {
+        return mBase + Math.round(x * mUnit);
+    }
+
+    /**
+     * Returns the timestamp at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public long getTime(int index) {
+        return mTimes[index];
+    }
+
+    /**
+     * Returns the backing array of the timestamps. Only the first size() values are valid.
+     *
+     * @return
+     */
+    public long[] getTimes() {
+        return mTimes;
+    }
+
+    /**
+     * Appends the given timestamp and y-value to the end of the columns.
+     *
+     * @param time
+     * @param y
+     */
+    public void addTime(long time, float y) {
+        super.add(toX(time), y);
+        mTimes[mCount - 1] = time;
+    }
+
+    /**
+     * Inserts the given timestamp and y-value at the given index.
+     *
+     * @param index
+     * @param time
+     * @param y
+     */
+    public void addTime(int index, long time, float y) {
+        super.add(index, toX(time), y);
+        System.arraycopy(mTimes, index, mTimes, index + 1, mCount - 1 - index);
+        mTimes[index] = time;
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        super.ensureCapacity(capacity);
+
+        if (mTimes != null && mTimes.length < mXVals.length)
+            mTimes = Arrays.copyOf(mTimes, mXVals.length);
+    }
+
+    @Override
+    public void add(float x, float y) {
+        addTime(toTime(x), y);
+    }
+
+    @Override
+    public void add(int index, float x, float y) {
+        addTime(index, toTime(x), y);
+    }
+
+    @Override
+    public void addAll(float[] xVals, float[] yVals, int offset, int count) {
+
+        ensureCapacity(mCount + count);
+
+        for (int i = 0; i < count; i++)
+            addTime(toTime(xVals[offset + i]), yVals[offset + i]);
+    }
+
+    @Override
+    public void removeAt(int index) {
+        super.removeAt(index);
+        System.arraycopy(mTimes, index + 1, mTimes, index, mCount - index);
+    }
+
+    @Override
+    public Entry set(int index, Entry e) {
+        Entry old = super.set(index, e);
+        mTimes[index] = toTime(e.getX());
+        return old;
+    }
+
+    @Override
+    public FloatColumns<Entry> copy() {
+
+        TimeColumns copied = new TimeColumns(mBase, mUnit, mCount);
+
+        for (int i = 0; i < mCount; i++)
+            copied.addTime(mTimes[i], mYVals[i]);
+
+        return copied;
+    }
+
+    @Override
+    protected FloatColumns<Entry> newInstance(int capacity) {
+        return new TimeColumns(mBase, mUnit, capacity);
+    }
+
+    /**
+     * Returns the first index whose timestamp is not smaller than the given one (size() if there
+     * is none).
+     *
+     * @param time
+     * @return
+     */
+    public int lowerBound(long time) {
+
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+
+            if (mTimes[m] < time)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the index of the value at the given timestamp. If there is none, the index of the
+     * closest timestamp according to the rounding is returned, -1 if the columns are empty.
+     *
+     * @param time
+     * @param rounding
+     * @return
+     */
+    public int getIndexForTime(long time, DataSet.Rounding rounding) {
+
+        if (mCount == 0)
+            return -1;
+
+        final int index = lowerBound(time);
+
+        if (index < mCount && mTimes[index] == time)
+            return index;
+
+        // mTimes[index - 1] < time < mTimes[index]
+        if (rounding == DataSet.Rounding.UP)
+            return Math.min(index, mCount - 1);
+
+        if (rounding == DataSet.Rounding.DOWN)
+            return Math.max(index - 1, 0);
+
+        if (index == 0)
+            return 0;
+
+        if (index == mCount)
+            return mCount - 1;
+
+        return time - mTimes[index - 1] <= mTimes[index] - time ? index - 1 : index;
+    }
+
+    /**
+     * Same as copyXY(...), but the values are transformed into pixels with the given
+     * transformation right away. The x-values are calculated from the exact timestamps with
+     * double precision, so neighbouring timestamps stay apart no matter how large they are.
+     *
+     * @param from
+     * @param to
+     * @param out
+     * @param offset
+     * @param phaseY
+     * @param valueToPixel
+     * @return the position in the out-array after the last written value
+     */
+    public int copyPixelXY(int from, int to, float[] out, int offset, float phaseY,
+                           AffineTransform valueToPixel) {
+
+        if (from < 0 || to > mCount)
+            throw new IndexOutOfBoundsException("Range: " + from + " - " + to + ", Size: " + mCount);
+
+        final long[] times = mTimes;
+        final float[] yVals = mYVals;
+        final long base = mBase;
+
+        // (time - base) / unit * scaleX + transX
+        final double scaleX = valueToPixel.getScaleX() / mUnit;
+        final double transX = valueToPixel.getTransX();
+        final double scaleY = valueToPixel.getScaleY();
+        final double transY = valueToPixel.getTransY();
+
+        for (int i = from; i < to; i++) {
+            out[offset++] = (float) ((times[i] - base) * scaleX + transX);
+            out[offset++] = (float) (yVals[i] * phaseY * scaleY + transY);
+        }
+
+        return offset;
+    }
+}
@@ -0,0 +1,178 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.AffineTransform;
+import com.github.mikephil.charting.utils.Transformer;
+
+/**
+ * LineDataSet for time series with 64-bit timestamps (e.g. epoch milliseconds), see
+ * {@link TimeColumns}. The x-values of the entries are the distance of their timestamp to a base
+ * timestamp in a given unit, so there is no need to subtract a reference time by hand, and the
+ * exact timestamps are kept. Searching by timestamp and transforming the values into pixels use
+ * the exact timestamps, so neighbouring values stay apart even when zoomed in deeply on a
+ * timeline of many years.
+ */
+public class TimeSeriesDataSet extends LineColumnDataSet {
+
+    /**
+     * @param base  the timestamp at x = 0, e.g. the first timestamp of the series
+     * @param unit  the number of timestamp steps per x-unit, e.g. 1000 for millisecond
+     *              timestamps and x-values in seconds
+     * @param label
+     */
+    public TimeSeriesDataSet(long base, double unit, String label) {
+        super(new TimeColumns(base, unit), label);
+    }
+
+    /**
+     * Creates a dataset from the given timestamps (ordered ascending) and y-values, the arrays
+     * are copied.
+     *
+     * @param times
+     * @param yVals
+     * @param count the number of values in use in both arrays
+     * @param base
+     * @param unit
+     * @param label
+     */
+    public TimeSeriesDataSet(long[] times, float[] yVals, int count, long base, double unit, String label) {
+        this(fill(new TimeColumns(base, unit, count), times, yVals, count), label);
+    }
+
+    public TimeSeriesDataSet(TimeColumns columns, String label) {
+        super(columns, label);
+    }
+
+    private static TimeColumns fill(TimeColumns columns, long[] times, float[] yVals, int count) {
+
+        for (int i = 0; i < count; i++)
+            columns.addTime(times[i], yVals[i]);
+
+        return columns;
+    }
+
+    @Override
+    public TimeColumns getColumns() {
+        return (TimeColumns) mEntries;
+    }
+
+    /**
+     * Returns the exact timestamp at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public long getTime(int index) {
+        return getColumns().getTime(index);
+    }
+
+    /**
+     * Returns the smallest timestamp of this DataSet, Long.MAX_VALUE if it is empty.
+     *
+     * @return
+     */
+    public long getTimeMin() {
+        return getEntryCount() > 0 ? getTime(0) : Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the largest timestamp of this DataSet, Long.MIN_VALUE if it is empty.
+     *
+     * @return
+     */
+    public long getTimeMax() {
+        return getEntryCount() > 0 ? getTime(getEntryCount() - 1) : Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns the x-value that belongs to the given timestamp.
+     *
+     * @param time
+     * @return
+     */
+    public float getXForTime(long time) {
+        return getColumns().toX(time);
+    }
+
+    /**
+     * Returns the timestamp that belongs to the given x-value, e.g. for formatting axis labels.
+     *
+     * @param x
+     * @return
+     */
+    public long getTimeForX(double x) {
+        return getColumns().toTime(x);
+    }
+
+    /**
+     * Appends the given value to the end of this DataSet and updates the min and max values.
+     *
+     * @param time
+     * @param y
+     */
+    public void addEntry(long time, float y) {
+        TimeColumns columns = getColumns();
+        columns.addTime(time, y);
+        calcMinMax(columns.getX(columns.size() - 1), y);
+        onEntryAppended();
+    }
+
+    /**
+     * Adds the given value at its appropriate index respective to its timestamp.
+     *
+     * @param time
+     * @param y
+     */
+    public void addEntryOrdered(long time, float y) {
+
+        TimeColumns columns = getColumns();
+        final int count = columns.size();
+
+        if (count > 0 && columns.getTime(count - 1) > time) {
+
+            int index = columns.lowerBound(time);
+
+            // behind all values with the same timestamp
+            while (index < count && columns.getTime(index) == time)
+                index++;
+
+            columns.addTime(index, time, y);
+            invalidateRangeIndex();
+        } else {
+            columns.addTime(time, y);
+            onEntryAppended();
+        }
+
+        calcMinMax(columns.toX(time), y);
+    }
+
+    /**
+     * Returns the index of the entry at the given timestamp with binary search on the exact
+     * timestamps. If there is none, the index of the closest entry according to the rounding is
+     * returned, -1 if this DataSet is empty.
+     *
+     * @param time
+     * @param rounding
+     * @return
+     */
+    public int getEntryIndexForTime(long time, Rounding rounding) {
+        return getColumns().getIndexForTime(time, rounding);
+    }
+
+    @Override
+    public int copyPixelXY(int from, int to, float[] out, int offset, float phaseY, Transformer trans) {
+
+        AffineTransform valueToPixel = trans.getValueToPixelTransform();
+
+        if (valueToPixel == null)
+            return super.copyPixelXY(from, to, out, offset, phaseY, trans);
+
+        return getColumns().copyPixelXY(from, to, out, offset, phaseY, valueToPixel);
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        TimeSeriesDataSet copied = new TimeSeriesDataSet((TimeColumns) getColumns().copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
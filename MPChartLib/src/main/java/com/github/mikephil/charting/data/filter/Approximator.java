@@ -14,89 +14,134 @@ import java.util.Arrays;
  */
 public class Approximator {
 
+    /**
+     * marks of the points that are kept by the last reduction, reused
+     */
+    private boolean[] mKeep = new boolean[0];
+
+    /**
+     * stack of (start, end) index pairs of the lines that still need to be checked, reused
+     */
+    private int[] mStack = new int[0];
+
     @TargetApi(Build.VERSION_CODES.GINGERBREAD)
     public float[] reduceWithDouglasPeucker(float[] points, float tolerance) {
 
-        int greatestIndex = 0;
-        float greatestDistance = 0f;
+        float[] reduced = new float[points.length];
+        int count = reduceWithDouglasPeucker(points, points.length / 2, tolerance, reduced);
 
-        Line line = new Line(points[0], points[1], points[points.length - 2], points[points.length - 1]);
-
-        for (int i = 2; i < points.length - 2; i += 2) {
+        return Arrays.copyOf(reduced, count * 2);
+    }
 
-            float distance = line.distance(points[i], points[i + 1]);
+    /**
+     * Reduces the given points (x,y,x,y,...) with the Douglas-Peucker algorithm and writes the
+     * remaining points into the out-array. Works without recursion and, once its buffers are
+     * large enough, without allocations. The out-array may be the points-array itself.
+     *
+     * @param points
+     * @param pointCount the number of points (not floats) to reduce
+     * @param tolerance
+     * @param out        the array to write the remaining points into
+     * @return the number of points written into the out-array
+     */
+    public int reduceWithDouglasPeucker(float[] points, int pointCount, float tolerance, float[] out) {
 
-            if (distance > greatestDistance) {
-                greatestDistance = distance;
-                greatestIndex = i;
-            }
+        if (pointCount < 3) {
+            System.arraycopy(points, 0, out, 0, pointCount * 2);
+            return pointCount;
         }
 
-        if (greatestDistance > tolerance) {
+        final boolean[] keep = markWithDouglasPeucker(points, 0, pointCount, tolerance);
 
-            float[] reduced1 = reduceWithDouglasPeucker(Arrays.copyOfRange(points, 0, greatestIndex + 2), tolerance);
-            float[] reduced2 = reduceWithDouglasPeucker(Arrays.copyOfRange(points, greatestIndex, points.length),
-                    tolerance);
+        int count = 0;
 
-            float[] result1 = reduced1;
-            float[] result2 = Arrays.copyOfRange(reduced2, 2, reduced2.length);
+        for (int i = 0; i < pointCount; i++) {
 
-            return concat(result1, result2);
-        } else {
-            return line.getPoints();
+            if (keep[i]) {
+                out[count * 2] = points[i * 2];
+                out[count * 2 + 1] = points[i * 2 + 1];
+                count++;
+            }
         }
+
+        return count;
     }
 
     /**
-     * Combine arrays.
+     * Marks the points that are kept by the Douglas-Peucker algorithm. The returned array is
+     * reused by the next call, its first pointCount values are valid.
      *
-     * @param arrays
+     * @param points
+     * @param offset     the index of the first point (not float) to reduce
+     * @param pointCount the number of points (not floats) to reduce, at least 2
+     * @param tolerance
      * @return
      */
-    float[] concat(float[]... arrays) {
-        int length = 0;
-        for (float[] array : arrays) {
-            length += array.length;
-        }
-        float[] result = new float[length];
-        int pos = 0;
-        for (float[] array : arrays) {
-            for (float element : array) {
-                result[pos] = element;
-                pos++;
-            }
-        }
-        return result;
-    }
+    boolean[] markWithDouglasPeucker(float[] points, int offset, int pointCount, float tolerance) {
 
-    private class Line {
+        if (mKeep.length < pointCount)
+            mKeep = new boolean[pointCount + (pointCount >> 1)];
 
-        private float[] points;
+        // every line on the stack splits into two, there are never more lines than points
+        if (mStack.length < pointCount * 2)
+            mStack = new int[pointCount * 3];
 
-        private float sxey;
-        private float exsy;
+        final boolean[] keep = mKeep;
+        final int[] stack = mStack;
 
-        private float dx;
-        private float dy;
+        Arrays.fill(keep, 0, pointCount, false);
 
-        private float length;
+        // first and last always stay
+        keep[0] = true;
+        keep[pointCount - 1] = true;
 
-        public Line(float x1, float y1, float x2, float y2) {
-            dx = x1 - x2;
-            dy = y1 - y2;
-            sxey = x1 * y2;
-            exsy = x2 * y1;
-            length = (float) Math.sqrt(dx * dx + dy * dy);
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = pointCount - 1;
 
-            points = new float[]{x1, y1, x2, y2};
-        }
+        while (top > 0) {
 
-        public float distance(float x, float y) {
-            return Math.abs(dy * x - dx * y + sxey - exsy) / length;
-        }
+            final int end = stack[--top];
+            final int start = stack[--top];
+
+            final float x1 = points[(offset + start) * 2];
+            final float y1 = points[(offset + start) * 2 + 1];
+            final float x2 = points[(offset + end) * 2];
+            final float y2 = points[(offset + end) * 2 + 1];
+
+            final float dx = x1 - x2;
+            final float dy = y1 - y2;
+            final float sxey = x1 * y2;
+            final float exsy = x2 * y1;
+            final float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+            int greatestIndex = 0;
+            float greatestDistance = 0f;
+
+            for (int i = start + 1; i < end; i++) {
 
-        public float[] getPoints() {
-            return points;
+                final float x = points[(offset + i) * 2];
+                final float y = points[(offset + i) * 2 + 1];
+
+                float distance = Math.abs(dy * x - dx * y + sxey - exsy) / length;
+
+                if (distance > greatestDistance) {
+                    greatestDistance = distance;
+                    greatestIndex = i;
+                }
+            }
+
+            if (greatestDistance > tolerance) {
+
+                keep[greatestIndex] = true;
+
+                stack[top++] = start;
+                stack[top++] = greatestIndex;
+                stack[top++] = greatestIndex;
+                stack[top++] = end;
+            }
         }
+
+        return keep;
     }
 }
@@ -1,14 +1,35 @@
 
 package com.github.mikephil.charting.data.filter;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Implemented according to modified Douglas Peucker {@link}
  * http://psimpl.sourceforge.net/douglas-peucker.html
+ *
+ * Instead of a tolerance, the number of points to keep is given: the line with the point of the
+ * greatest distance is always split first. The lines are kept in a binary max-heap over
+ * primitive arrays, so a reduction takes O(n log n) and, once the buffers are large enough, no
+ * allocations.
  */
 public class ApproximatorN
 {
+    /**
+     * marks of the points that are kept by the last reduction, reused
+     */
+    private boolean[] mKeep = new boolean[0];
+
+    /**
+     * the heap of lines that can still be split, one slot per line: start and end index of the
+     * line, index and distance of its point with the greatest distance, reused
+     */
+    private int[] mHeapStart = new int[0];
+    private int[] mHeapEnd = new int[0];
+    private int[] mHeapIndex = new int[0];
+    private float[] mHeapDistance = new float[0];
+
+    private int mHeapSize = 0;
+
     public float[] reduceWithDouglasPeucker(float[] points, float resultCount) {
 
         int pointCount = points.length / 2;
@@ -17,7 +38,51 @@ public class ApproximatorN
         if (resultCount <= 2 || resultCount >= pointCount)
             return points;
 
-        boolean[] keep = new boolean[pointCount];
+        float[] reduced = new float[(int) resultCount * 2];
+        int count = reduceWithDouglasPeucker(points, pointCount, (int) resultCount, reduced);
+
+        return count * 2 == reduced.length ? reduced : Arrays.copyOf(reduced, count * 2);
+    }
+
+    /**
+     * Reduces the given points (x,y,x,y,...) to at most resultCount points and writes them into
+     * the out-array, first and last point always stay. Fewer points are written if the remaining
+     * points are exactly on the line. The out-array may be the points-array itself.
+     *
+     * @param points
+     * @param pointCount  the number of points (not floats) to reduce
+     * @param resultCount the maximum number of points to keep
+     * @param out         the array to write the remaining points into
+     * @return the number of points written into the out-array
+     */
+    public int reduceWithDouglasPeucker(float[] points, int pointCount, int resultCount, float[] out) {
+
+        // if a shape has 2 or less points it cannot be reduced
+        if (resultCount >= pointCount || pointCount <= 2) {
+
+            if (out != points)
+                System.arraycopy(points, 0, out, 0, pointCount * 2);
+
+            return pointCount;
+        }
+
+        // first and last always stay
+        resultCount = Math.max(resultCount, 2);
+
+        if (mKeep.length < pointCount)
+            mKeep = new boolean[pointCount + (pointCount >> 1)];
+
+        // every split removes one line and adds at most two, there are never more lines than
+        // kept points
+        if (mHeapStart.length < resultCount) {
+            mHeapStart = new int[resultCount];
+            mHeapEnd = new int[resultCount];
+            mHeapIndex = new int[resultCount];
+            mHeapDistance = new float[resultCount];
+        }
+
+        final boolean[] keep = mKeep;
+        Arrays.fill(keep, 0, pointCount, false);
 
         // first and last always stay
         keep[0] = true;
@@ -25,122 +90,134 @@ public class ApproximatorN
 
         int currentStoredPoints = 2;
 
-        ArrayList<Line> queue = new ArrayList<>();
-        Line line = new Line(0, pointCount - 1, points);
-        queue.add(line);
+        mHeapSize = 0;
+        push(points, 0, pointCount - 1);
 
-        do {
-            line = queue.remove(queue.size() - 1);
+        while (currentStoredPoints < resultCount && mHeapSize > 0) {
 
-            // store the key
-            keep[line.index] = true;
+            final int start = mHeapStart[0];
+            final int end = mHeapEnd[0];
+            final int index = mHeapIndex[0];
 
-            // check point count tolerance
-            currentStoredPoints += 1;
+            pop();
 
-            if (currentStoredPoints == resultCount)
-                break;
+            // store the key
+            keep[index] = true;
+            currentStoredPoints++;
 
-            // split the polyline at the key and recurse
-            Line left = new Line(line.start, line.index, points);
-            if (left.index > 0) {
-                int insertionIndex = insertionIndex(left, queue);
-                queue.add(insertionIndex, left);
-            }
+            // split the polyline at the key
+            push(points, start, index);
+            push(points, index, end);
+        }
 
-            Line right = new Line(line.index, line.end, points);
-            if (right.index > 0) {
-                int insertionIndex = insertionIndex(right, queue);
-                queue.add(insertionIndex, right);
-            }
-        } while (queue.isEmpty());
+        int count = 0;
 
-        float[] reducedEntries = new float[currentStoredPoints * 2];
+        for (int i = 0; i < pointCount; i++) {
 
-        for (int i = 0, i2 = 0, r2 = 0; i < currentStoredPoints; i++, r2 += 2) {
             if (keep[i]) {
-                reducedEntries[i2++] = points[r2];
-                reducedEntries[i2++] = points[r2 + 1];
+                out[count * 2] = points[i * 2];
+                out[count * 2 + 1] = points[i * 2 + 1];
+                count++;
             }
         }
 
-        return reducedEntries;
+        return count;
     }
 
-    private static float distanceToLine(
-            float ptX, float ptY, float[]
-            fromLinePoint1, float[] fromLinePoint2) {
-        float dx = fromLinePoint2[0] - fromLinePoint1[0];
-        float dy = fromLinePoint2[1] - fromLinePoint1[1];
-
-        float dividend = Math.abs(
-                dy * ptX -
-                        dx * ptY -
-                        fromLinePoint1[0] * fromLinePoint2[1] +
-                        fromLinePoint2[0] * fromLinePoint1[1]);
-        double divisor = Math.sqrt(dx * dx + dy * dy);
-
-        return (float)(dividend / divisor);
-    }
+    /**
+     * Finds the point of the given line with the greatest distance and adds the line to the
+     * heap, unless all of its points are on the line.
+     */
+    private void push(float[] points, int start, int end) {
 
-    private static class Line {
-        int start;
-        int end;
+        if (end <= start + 1)
+            return;
 
-        float distance = 0;
-        int index = 0;
+        final float x1 = points[start * 2];
+        final float y1 = points[start * 2 + 1];
+        final float x2 = points[end * 2];
+        final float y2 = points[end * 2 + 1];
 
-        Line(int start, int end, float[] points) {
-            this.start = start;
-            this.end = end;
+        final float dx = x2 - x1;
+        final float dy = y2 - y1;
+        final float cross = x2 * y1 - x1 * y2;
+        final double divisor = Math.sqrt(dx * dx + dy * dy);
 
-            float[] startPoint = new float[]{points[start * 2], points[start * 2 + 1]};
-            float[] endPoint = new float[]{points[end * 2], points[end * 2 + 1]};
+        int greatestIndex = 0;
+        float greatestDistance = 0f;
 
-            if (end <= start + 1) return;
+        for (int i = start + 1; i < end; i++) {
 
-            for (int i = start + 1, i2 = i * 2; i < end; i++, i2 += 2) {
-                float distance = distanceToLine(
-                        points[i2], points[i2 + 1],
-                        startPoint, endPoint);
+            float distance = (float) (Math.abs(dy * points[i * 2] - dx * points[i * 2 + 1] + cross) / divisor);
 
-                if (distance > this.distance) {
-                    this.index = i;
-                    this.distance = distance;
-                }
+            if (distance > greatestDistance) {
+                greatestDistance = distance;
+                greatestIndex = i;
             }
         }
 
-        boolean equals(final Line rhs) {
-            return (start == rhs.start) && (end == rhs.end) && index == rhs.index;
-        }
+        if (greatestIndex == 0)
+            return;
+
+        // sift up
+        int slot = mHeapSize++;
+
+        while (slot > 0) {
+
+            final int parent = (slot - 1) >> 1;
+
+            if (mHeapDistance[parent] >= greatestDistance)
+                break;
 
-        boolean lessThan(final Line rhs) {
-            return distance < rhs.distance;
+            move(parent, slot);
+            slot = parent;
         }
+
+        mHeapStart[slot] = start;
+        mHeapEnd[slot] = end;
+        mHeapIndex[slot] = greatestIndex;
+        mHeapDistance[slot] = greatestDistance;
     }
 
-    private static int insertionIndex(Line line, ArrayList<Line> queue) {
-        int min = 0;
-        int max = queue.size();
+    /**
+     * Removes the line with the greatest distance (the root) from the heap.
+     */
+    private void pop() {
 
-        while (!queue.isEmpty()) {
-            int midIndex = min + (max - min) / 2;
-            Line midLine = queue.get(midIndex);
+        final int last = --mHeapSize;
 
-            if (midLine.equals(line)) {
-                return midIndex;
-            }
-            else if (line.lessThan(midLine)) {
-                // perform search in left half
-                max = midIndex;
-            }
-            else {
-                // perform search in right half
-                min = midIndex + 1;
-            }
+        if (last == 0)
+            return;
+
+        final float distance = mHeapDistance[last];
+
+        // sift down the last line, starting at the root
+        int slot = 0;
+
+        while (true) {
+
+            int child = slot * 2 + 1;
+
+            if (child >= last)
+                break;
+
+            if (child + 1 < last && mHeapDistance[child + 1] > mHeapDistance[child])
+                child++;
+
+            if (mHeapDistance[child] <= distance)
+                break;
+
+            move(child, slot);
+            slot = child;
         }
 
-        return min;
+        move(last, slot);
+    }
+
+    private void move(int from, int to) {
+        mHeapStart[to] = mHeapStart[from];
+        mHeapEnd[to] = mHeapEnd[from];
+        mHeapIndex[to] = mHeapIndex[from];
+        mHeapDistance[to] = mHeapDistance[from];
     }
 }
@@ -0,0 +1,22 @@
+package com.github.mikephil.charting.data.filter;
+
+/**
+ * Reduces the number of points of a line before it is drawn, without changing how the line looks
+ * (noticeably). The renderer uses it if far more points are visible than there are pixels.
+ */
+public interface IDecimator {
+
+    /**
+     * Reduces the given points and writes the result into the out-array. The points are pixel
+     * coordinates in the order x,y,x,y,... with ascending x-values. The first and the last point
+     * need to be kept.
+     *
+     * @param points
+     * @param pointCount  the number of points (not floats) in the points-array
+     * @param out         the array to write the reduced points into, at least as large as the
+     *                    points-array
+     * @param targetCount the number of points the result should roughly have
+     * @return the number of points written into the out-array
+     */
+    int decimate(float[] points, int pointCount, float[] out, int targetCount);
+}
@@ -0,0 +1,86 @@
+package com.github.mikephil.charting.data.filter;
+
+/**
+ * Decimator implementing Largest-Triangle-Three-Buckets (Sveinn Steinarsson, 2013). The points
+ * between the first and the last one are split into targetCount - 2 buckets, and of each bucket
+ * the point that forms the largest triangle with the point chosen for the previous bucket and
+ * the average of the next bucket is kept. This keeps the shape of the line well with exactly
+ * targetCount points, but single-point peaks within a bucket may be lost.
+ */
+public class LttbDecimator implements IDecimator {
+
+    @Override
+    public int decimate(float[] points, int pointCount, float[] out, int targetCount) {
+
+        if (targetCount >= pointCount || targetCount < 3) {
+            System.arraycopy(points, 0, out, 0, pointCount * 2);
+            return pointCount;
+        }
+
+        final float bucketSize = (float) (pointCount - 2) / (targetCount - 2);
+
+        int count = 0;
+
+        // the first point is always kept
+        out[count++] = points[0];
+        out[count++] = points[1];
+
+        int a = 0;
+
+        for (int bucket = 0; bucket < targetCount - 2; bucket++) {
+
+            // average of the next bucket
+            int nextFrom = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextTo = Math.min((int) ((bucket + 2) * bucketSize) + 1, pointCount);
+
+            float avgX = 0f, avgY = 0f;
+
+            for (int i = nextFrom; i < nextTo; i++) {
+                avgX += points[i * 2];
+                avgY += points[i * 2 + 1];
+            }
+
+            int nextCount = nextTo - nextFrom;
+
+            if (nextCount > 0) {
+                avgX /= nextCount;
+                avgY /= nextCount;
+            } else {
+                avgX = points[(pointCount - 1) * 2];
+                avgY = points[(pointCount - 1) * 2 + 1];
+            }
+
+            // the point of the current bucket with the largest triangle
+            int from = (int) (bucket * bucketSize) + 1;
+            int to = (int) ((bucket + 1) * bucketSize) + 1;
+
+            final float ax = points[a * 2];
+            final float ay = points[a * 2 + 1];
+
+            float maxArea = -1f;
+            int chosen = from;
+
+            for (int i = from; i < to; i++) {
+
+                float area = Math.abs((ax - avgX) * (points[i * 2 + 1] - ay)
+                        - (ax - points[i * 2]) * (avgY - ay));
+
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+
+            out[count++] = points[chosen * 2];
+            out[count++] = points[chosen * 2 + 1];
+
+            a = chosen;
+        }
+
+        // the last point is always kept
+        out[count++] = points[(pointCount - 1) * 2];
+        out[count++] = points[(pointCount - 1) * 2 + 1];
+
+        return count / 2;
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.mikephil.charting.data.filter;
+
+/**
+ * Decimator that keeps the first, the last, the lowest and the highest point of every pixel
+ * column (in their original order). A line drawn through the remaining points covers the same
+ * pixels as the line through all points, so all peaks stay visible. The result has at most 4
+ * points per pixel column, the target count is not used.
+ */
+public class MinMaxDecimator implements IDecimator {
+
+    @Override
+    public int decimate(float[] points, int pointCount, float[] out, int targetCount) {
+
+        if (pointCount <= 4) {
+            System.arraycopy(points, 0, out, 0, pointCount * 2);
+            return pointCount;
+        }
+
+        int count = 0;
+
+        int i = 0;
+        while (i < pointCount) {
+
+            final int column = column(points[i * 2]);
+
+            final int first = i;
+            int min = i, max = i;
+
+            // find the end of the column and its lowest and highest point
+            for (i++; i < pointCount && column(points[i * 2]) == column; i++) {
+
+                final float y = points[i * 2 + 1];
+
+                if (y < points[min * 2 + 1])
+                    min = i;
+                if (y > points[max * 2 + 1])
+                    max = i;
+            }
+
+            final int last = i - 1;
+
+            // keep the original order of the points
+            count = add(points, first, out, count);
+
+            if (min < max) {
+                count = addIfNew(points, min, first, out, count);
+                count = addIfNew(points, max, first, out, count);
+            } else {
+                count = addIfNew(points, max, first, out, count);
+                count = addIfNew(points, min, first, out, count);
+            }
+
+            if (last != min && last != max)
+                count = addIfNew(points, last, first, out, count);
+        }
+
+        return count;
+    }
+
+    private static int column(float x) {
+        int column = (int) x;
+        return x < column ? column - 1 : column;
+    }
+
+    private static int add(float[] points, int index, float[] out, int count) {
+        out[count * 2] = points[index * 2];
+        out[count * 2 + 1] = points[index * 2 + 1];
+        return count + 1;
+    }
+
+    private static int addIfNew(float[] points, int index, int first, float[] out, int count) {
+        return index == first ? count : add(points, index, out, count);
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.mikephil.charting.data.filter;
+
+import java.util.Arrays;
+
+/**
+ * Douglas-Peucker reduction of data that arrives in chunks. Every chunk is reduced together with
+ * the points of the previous chunks that are not final yet: all points up to the last point that
+ * is kept before the end of the data are final and written out, the points after it are kept
+ * for the next chunk. Call flush() after the last chunk to write out the remaining points.
+ *
+ * The points that are not final are limited by maxPending, if more points are pending (e.g. on
+ * a long straight line), all of them are written out.
+ */
+public class StreamingApproximator {
+
+    private final Approximator mApproximator = new Approximator();
+
+    private final float mTolerance;
+
+    private final int mMaxPending;
+
+    /**
+     * the points that are not final yet, the first one is the last point that was written out
+     */
+    private float[] mPending = new float[64];
+
+    private int mPendingCount = 0;
+
+    /**
+     * @param tolerance
+     * @param maxPending the maximum number of points that are held back for the next chunk
+     */
+    public StreamingApproximator(float tolerance, int maxPending) {
+        mTolerance = tolerance;
+        mMaxPending = Math.max(maxPending, 2);
+    }
+
+    /**
+     * Returns the number of points that are held back for the next chunk.
+     *
+     * @return
+     */
+    public int getPendingCount() {
+        return mPendingCount;
+    }
+
+    /**
+     * Adds the given chunk of points (x,y,x,y,... with ascending x) and writes all points that
+     * are final into the out-array. The out-array needs room for pointCount +
+     * getPendingCount() points.
+     *
+     * @param points
+     * @param offset     the index of the first point (not float) of the chunk
+     * @param pointCount the number of points (not floats) of the chunk
+     * @param out
+     * @return the number of points written into the out-array
+     */
+    public int add(float[] points, int offset, int pointCount, float[] out) {
+
+        int count = 0;
+        int from = offset;
+        final int end = offset + pointCount;
+
+        if (mPendingCount == 0) {
+
+            if (pointCount == 0)
+                return 0;
+
+            // the very first point is always kept and becomes the anchor
+            out[0] = mPending[0] = points[offset * 2];
+            out[1] = mPending[1] = points[offset * 2 + 1];
+            count = 1;
+
+            mPendingCount = 1;
+            from++;
+        }
+
+        final int total = mPendingCount + end - from;
+
+        if (mPending.length < total * 2)
+            mPending = Arrays.copyOf(mPending, total * 3);
+
+        System.arraycopy(points, from * 2, mPending, mPendingCount * 2, (end - from) * 2);
+        mPendingCount = total;
+
+        if (mPendingCount < 3)
+            return count;
+
+        final boolean[] keep = mApproximator.markWithDouglasPeucker(mPending, 0, mPendingCount, mTolerance);
+
+        // everything up to the last kept point before the end is final
+        int last = mPendingCount - 1;
+
+        if (mPendingCount <= mMaxPending) {
+            last--;
+            while (last > 0 && !keep[last])
+                last--;
+        }
+
+        for (int i = 1; i <= last; i++) {
+
+            if (keep[i]) {
+                out[count * 2] = mPending[i * 2];
+                out[count * 2 + 1] = mPending[i * 2 + 1];
+                count++;
+            }
+        }
+
+        // the last final point becomes the new anchor
+        mPendingCount -= last;
+        System.arraycopy(mPending, last * 2, mPending, 0, mPendingCount * 2);
+
+        return count;
+    }
+
+    /**
+     * Writes out the remaining points that are held back (reduced) and resets this object for new
+     * data. The out-array needs room for getPendingCount() points.
+     *
+     * @param out
+     * @return the number of points written into the out-array
+     */
+    public int flush(float[] out) {
+
+        int count = 0;
+
+        if (mPendingCount >= 2) {
+
+            final boolean[] keep = mApproximator.markWithDouglasPeucker(mPending, 0, mPendingCount, mTolerance);
+
+            // the anchor was written out already
+            for (int i = 1; i < mPendingCount; i++) {
+
+                if (keep[i]) {
+                    out[count * 2] = mPending[i * 2];
+                    out[count * 2 + 1] = mPending[i * 2 + 1];
+                    count++;
+                }
+            }
+        }
+
+        mPendingCount = 0;
+
+        return count;
+    }
+}
@@ -9,6 +9,7 @@ import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.Transformer;
 
 import java.util.List;
 
@@ -60,6 +61,16 @@ public interface IDataSet<T extends Entry> {
      */
     void calcMinMax();
 
+    /**
+     * Returns a number that changes whenever entries are added to or removed from this DataSet
+     * or its min and max values are recalculated (e.g. by notifyDataSetChanged()). Values that
+     * were calculated from the entries are outdated if the version changed since. Changing an
+     * Entry object in place does not change the version, call notifyDataSetChanged() after that.
+     *
+     * @return
+     */
+    int getVersion();
+
     /**
      * Calculates the min and max y-values from the Entry closest to the given fromX to the Entry closest to the given toX value.
      * This is only needed for the autoScaleMinMax feature.
@@ -121,6 +132,36 @@ public interface IDataSet<T extends Entry> {
      */
     T getEntryForIndex(int index);
 
+    /**
+     * Copies the x- and y-values of the entries from index "from" (inclusive) to index "to"
+     * (exclusive) into the given array, in the order x,y,x,y,... starting at the given offset.
+     * The y-values are multiplied with phaseY. This allows renderers to fill their buffers
+     * in one tight loop instead of calling getEntryForIndex(...) for every single entry.
+     *
+     * @param from   the index of the first entry to copy
+     * @param to     the index after the last entry to copy
+     * @param out    the array to copy the values into, needs room for (to - from) * 2 values
+     * @param offset the position in the out-array to start writing at
+     * @param phaseY the animation phase the y-values are multiplied with
+     * @return the position in the out-array after the last written value
+     */
+    int copyXY(int from, int to, float[] out, int offset, float phaseY);
+
+    /**
+     * Same as copyXY(...), but the values are transformed into pixels with the given
+     * Transformer right away. DataSets that hold their x-values with more precision than a
+     * float (e.g. TimeSeriesDataSet) transform them without rounding them to floats first.
+     *
+     * @param from   the index of the first entry to copy
+     * @param to     the index after the last entry to copy
+     * @param out    the array to copy the pixels into, needs room for (to - from) * 2 values
+     * @param offset the position in the out-array to start writing at
+     * @param phaseY the animation phase the y-values are multiplied with
+     * @param trans  the Transformer of the axis this DataSet is plotted against
+     * @return the position in the out-array after the last written value
+     */
+    int copyPixelXY(int from, int to, float[] out, int offset, float phaseY, Transformer trans);
+
     /**
      * Returns the first Entry index found at the given x-value with binary
      * search.
@@ -100,4 +100,19 @@ public interface ILineDataSet extends ILineRadarDataSet<Entry> {
      * @return
      */
     IFillFormatter getFillFormatter();
-}
\ No newline at end of file
+
+    /**
+     * Returns the maximum number of points the visible part of the line is drawn with, 0 if
+     * unlimited.
+     *
+     * @return
+     */
+    int getMaxRenderedPoints();
+
+    /**
+     * Returns true if a line with multiple colors is drawn as a gradient along the x-axis.
+     *
+     * @return
+     */
+    boolean isColorGradientEnabled();
+}
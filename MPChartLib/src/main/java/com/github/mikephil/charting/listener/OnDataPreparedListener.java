@@ -0,0 +1,24 @@
+package com.github.mikephil.charting.listener;
+
+import com.github.mikephil.charting.data.ChartData;
+
+/**
+ * Listener for callbacks of Chart.setDataAsync(...), called on the UI thread.
+ */
+public interface OnDataPreparedListener<T extends ChartData<?>> {
+
+    /**
+     * Called when the data has been prepared in the background and is set to the chart.
+     *
+     * @param data
+     */
+    void onDataPrepared(T data);
+
+    /**
+     * Called when preparing the data failed. The data of the chart is not changed.
+     *
+     * @param data
+     * @param e
+     */
+    void onDataPreparationFailed(T data, RuntimeException e);
+}
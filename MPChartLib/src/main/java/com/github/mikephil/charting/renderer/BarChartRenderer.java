@@ -8,8 +8,10 @@ import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.Range;
@@ -17,10 +19,12 @@ import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.utils.Fill;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.ParallelTasks;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
@@ -34,6 +38,12 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
     protected BarBuffer[] mBarBuffers;
 
+    /**
+     * true for the DataSets whose buffers were filled by feedBuffersParallel(...) for the
+     * current frame
+     */
+    protected boolean[] mBuffersFed;
+
     protected Paint mShadowPaint;
     protected Paint mBarBorderPaint;
 
@@ -63,8 +73,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new BarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
-                    barData.getDataSetCount(), set.isStacked());
+            // the buffer grows to the number of visible bars when it is fed
+            mBarBuffers[i] = new BarBuffer(0, barData.getDataSetCount(), set.isStacked());
         }
     }
 
@@ -73,6 +83,8 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         BarData barData = mChart.getBarData();
 
+        feedBuffersParallel(barData);
+
         for (int i = 0; i < barData.getDataSetCount(); i++) {
 
             IBarDataSet set = barData.getDataSetByIndex(i);
@@ -81,69 +93,143 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 drawDataSet(c, set, i);
             }
         }
+
+        if (mBuffersFed != null)
+            Arrays.fill(mBuffersFed, false);
     }
 
-    private RectF mBarShadowRectBuffer = new RectF();
+    /**
+     * Fills the buffers of all visible DataSets in parallel if ParallelTasks allows it for the
+     * number of entries. drawDataSet(...) then only draws the prepared buffers.
+     *
+     * @param barData
+     */
+    protected void feedBuffersParallel(final BarData barData) {
 
-    protected void drawDataSet(Canvas c, IBarDataSet dataSet, int index) {
+        final int count = barData.getDataSetCount();
+
+        if (!ParallelTasks.shouldRunParallel(count, barData.getEntryCount())
+                || mBarBuffers == null || mBarBuffers.length < count)
+            return;
+
+        // everything that is cached lazily is prepared on this thread
+        final float low = mChart.getLowestVisibleX();
+        final float high = mChart.getHighestVisibleX();
+
+        mChart.getTransformer(YAxis.AxisDependency.LEFT).getValueToPixelTransform();
+        mChart.getTransformer(YAxis.AxisDependency.RIGHT).getValueToPixelTransform();
+
+        if (mBuffersFed == null || mBuffersFed.length < count)
+            mBuffersFed = new boolean[count];
+
+        ParallelTasks.run(count, barData.getEntryCount(), new ParallelTasks.Task() {
+
+            @Override
+            public void run(int index) {
+
+                IBarDataSet set = barData.getDataSetByIndex(index);
+
+                if (!set.isVisible())
+                    return;
+
+                feedBuffer(set, index, low, high);
+                mBuffersFed[index] = true;
+            }
+        });
+    }
+
+    /**
+     * Fills the buffer of the given DataSet with the (already transformed) bars of the visible
+     * x-range, unless feedBuffersParallel(...) already did.
+     *
+     * @param dataSet
+     * @param index
+     * @return
+     */
+    protected BarBuffer prepareBuffer(IBarDataSet dataSet, int index) {
+
+        if (mBuffersFed == null || index >= mBuffersFed.length || !mBuffersFed[index])
+            feedBuffer(dataSet, index, mChart.getLowestVisibleX(), mChart.getHighestVisibleX());
+
+        return mBarBuffers[index];
+    }
+
+    /**
+     * Fills the buffer of the given DataSet with the bars between the given x-values and
+     * transforms them into pixels. Only touches the buffer of the DataSet, so it can run for
+     * several DataSets at once.
+     *
+     * @param dataSet
+     * @param index
+     * @param lowX
+     * @param highX
+     */
+    protected void feedBuffer(IBarDataSet dataSet, int index, float lowX, float highX) {
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
+        int from = dataSet.getEntryIndex(lowX, Float.NaN, DataSet.Rounding.DOWN);
+        int to = dataSet.getEntryIndex(highX, Float.NaN, DataSet.Rounding.UP);
+
+        // initialize the buffer, only the visible bars (and the ones next to them, which can
+        // still reach into the viewport) are fed
+        BarBuffer buffer = mBarBuffers[index];
+        buffer.setPhases(mAnimator.getPhaseX(), mAnimator.getPhaseY());
+        buffer.setDataSet(index);
+        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
+        buffer.setBarWidth(mChart.getBarData().getBarWidth());
+        buffer.limitFrom(Math.max(from, 0) - 1);
+        buffer.limitTo(Math.max(to, 0) + 1);
+
+        buffer.feed(dataSet);
+
+        trans.pointValuesToPixel(buffer.buffer, 0, buffer.size() / 2);
+    }
+
+    private RectF mBarShadowRectBuffer = new RectF();
+
+    protected void drawDataSet(Canvas c, IBarDataSet dataSet, int index) {
+
         mBarBorderPaint.setColor(dataSet.getBarBorderColor());
         mBarBorderPaint.setStrokeWidth(Utils.convertDpToPixel(dataSet.getBarBorderWidth()));
 
         final boolean drawBorder = dataSet.getBarBorderWidth() > 0.f;
 
-        float phaseX = mAnimator.getPhaseX();
-        float phaseY = mAnimator.getPhaseY();
+        BarBuffer buffer = prepareBuffer(dataSet, index);
 
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
 
-            BarData barData = mChart.getBarData();
-
-            final float barWidth = barData.getBarWidth();
-            final float barWidthHalf = barWidth / 2.0f;
-            float x;
+            float lastLeft = Float.NaN;
+            float lastRight = Float.NaN;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
-                i < count;
-                i++) {
+            // the shadows have the same width as the (already transformed) bars
+            for (int j = 0; j < buffer.size(); j += 4) {
 
-                BarEntry e = dataSet.getEntryForIndex(i);
+                final float left = buffer.buffer[j];
+                final float right = buffer.buffer[j + 2];
 
-                x = e.getX();
-
-                mBarShadowRectBuffer.left = x - barWidthHalf;
-                mBarShadowRectBuffer.right = x + barWidthHalf;
+                // all values of a stack share one shadow
+                if (left == lastLeft && right == lastRight)
+                    continue;
 
-                trans.rectValueToPixel(mBarShadowRectBuffer);
+                lastLeft = left;
+                lastRight = right;
 
-                if (!mViewPortHandler.isInBoundsLeft(mBarShadowRectBuffer.right))
+                if (!mViewPortHandler.isInBoundsLeft(right))
                     continue;
 
-                if (!mViewPortHandler.isInBoundsRight(mBarShadowRectBuffer.left))
+                if (!mViewPortHandler.isInBoundsRight(left))
                     break;
 
-                mBarShadowRectBuffer.top = mViewPortHandler.contentTop();
-                mBarShadowRectBuffer.bottom = mViewPortHandler.contentBottom();
+                mBarShadowRectBuffer.set(left, mViewPortHandler.contentTop(),
+                        right, mViewPortHandler.contentBottom());
 
                 c.drawRect(mBarShadowRectBuffer, mShadowPaint);
             }
         }
 
-        // initialize the buffer
-        BarBuffer buffer = mBarBuffers[index];
-        buffer.setPhases(phaseX, phaseY);
-        buffer.setDataSet(index);
-        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
-        buffer.setBarWidth(mChart.getBarData().getBarWidth());
-
-        buffer.feed(dataSet);
-
-        trans.pointValuesToPixel(buffer.buffer);
-
         final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
         final boolean isSingleColor = dataSet.getColors().size() == 1;
         final boolean isInverted = mChart.isInverted(dataSet.getAxisDependency());
@@ -152,7 +238,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
-        for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+        for (int j = 0, pos = buffer.getFirstBar(); j < buffer.size(); j += 4, pos++) {
 
             if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[j + 2]))
                 continue;
@@ -250,7 +336,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    for (int j = 0; j < buffer.size(); j += 4) {
 
                         float x = (buffer.buffer[j] + buffer.buffer[j + 2]) / 2f;
 
@@ -261,14 +347,16 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 || !mViewPortHandler.isInBoundsLeft(x))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        final int entryIndex = buffer.getFrom() + j / 4;
+
+                        BarEntry entry = dataSet.getEntryForIndex(entryIndex);
                         float val = entry.getY();
 
                         if (dataSet.isDrawValuesEnabled()) {
                             drawValue(c, formatter.getBarLabel(entry), x, val >= 0 ?
                                             (buffer.buffer[j + 1] + posOffset) :
                                             (buffer.buffer[j + 3] + negOffset),
-                                    dataSet.getValueTextColor(j / 4));
+                                    dataSet.getValueTextColor(entryIndex));
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -299,13 +387,14 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getFrom();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    for (int next; bufferIndex < buffer.size(); bufferIndex = next, index++) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
                         float[] vals = entry.getYVals();
+                        next = vals == null ? bufferIndex + 4 : bufferIndex + 4 * vals.length;
                         float x = (buffer.buffer[bufferIndex] + buffer.buffer[bufferIndex + 2]) / 2f;
 
                         int color = dataSet.getValueTextColor(index);
@@ -411,9 +500,6 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 }
                             }
                         }
-
-                        bufferIndex = vals == null ? bufferIndex + 4 : bufferIndex + 4 * vals.length;
-                        index++;
                     }
                 }
 
@@ -85,11 +85,12 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
             float low = chart.getLowestVisibleX();
             float high = chart.getHighestVisibleX();
 
-            Entry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN);
-            Entry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.Rounding.UP);
+            // look up the indices directly, this does not need any Entry objects
+            int indexFrom = dataSet.getEntryIndex(low, Float.NaN, DataSet.Rounding.DOWN);
+            int indexTo = dataSet.getEntryIndex(high, Float.NaN, DataSet.Rounding.UP);
 
-            min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
-            max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
+            min = indexFrom < 0 ? 0 : indexFrom;
+            max = indexTo < 0 ? 0 : indexTo;
             range = (int) ((max - min) * phaseX);
         }
     }
@@ -12,11 +12,14 @@ import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.PixelCache;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -40,7 +43,14 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
     @Override
     public void initBuffers() {
+        mPixelCaches.clear();
+        mValuePixelCaches.clear();
+    }
 
+    @Override
+    public void onContentInvalidated() {
+        PixelCache.invalidateAll(mPixelCaches);
+        PixelCache.invalidateAll(mValuePixelCaches);
     }
 
     @Override
@@ -65,6 +75,18 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
         return shapeSize;
     }
 
+    /**
+     * the transformed positions of the visible bubbles of each DataSet, reused on the next frame
+     * if nothing moved
+     */
+    private HashMap<IDataSet<?>, PixelCache> mPixelCaches = new HashMap<>();
+
+    /**
+     * the transformed positions of the value labels of each DataSet, reused on the next frame
+     * if nothing moved
+     */
+    private HashMap<IDataSet<?>, PixelCache> mValuePixelCaches = new HashMap<>();
+
     protected void drawDataSet(Canvas c, IBubbleDataSet dataSet) {
 
         if (dataSet.getEntryCount() < 1)
@@ -88,30 +110,47 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
         final float maxBubbleHeight = Math.abs(mViewPortHandler.contentBottom() - mViewPortHandler.contentTop());
         final float referenceSize = Math.min(maxBubbleHeight, maxBubbleWidth);
 
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+        final int last = mXBounds.range + mXBounds.min;
+
+        // transform all visible bubble positions at once, unless nothing moved since the last
+        // frame
+        final PixelCache pixelCache = PixelCache.get(mPixelCaches, dataSet);
+        final float[] positions;
+
+        if (pixelCache.isValid(dataSet, trans, mXBounds.min, last, 0, phaseY)) {
+            positions = pixelCache.getPoints();
+        } else {
+
+            final int pointCount = mXBounds.range + 1;
+
+            positions = pixelCache.getPoints(pointCount * 2);
+            dataSet.copyPixelXY(mXBounds.min, last + 1, positions, 0, phaseY, trans);
+            pixelCache.setPointCount(pointCount);
+        }
+
+        for (int j = mXBounds.min, p = 0; j <= last; j++, p += 2) {
 
             final BubbleEntry entry = dataSet.getEntryForIndex(j);
 
-            pointBuffer[0] = entry.getX();
-            pointBuffer[1] = (entry.getY()) * phaseY;
-            trans.pointValuesToPixel(pointBuffer);
+            final float x = positions[p];
+            final float y = positions[p + 1];
 
             float shapeHalf = getShapeSize(entry.getSize(), dataSet.getMaxSize(), referenceSize, normalizeSize) / 2f;
 
-            if (!mViewPortHandler.isInBoundsTop(pointBuffer[1] + shapeHalf)
-                    || !mViewPortHandler.isInBoundsBottom(pointBuffer[1] - shapeHalf))
+            if (!mViewPortHandler.isInBoundsTop(y + shapeHalf)
+                    || !mViewPortHandler.isInBoundsBottom(y - shapeHalf))
                 continue;
 
-            if (!mViewPortHandler.isInBoundsLeft(pointBuffer[0] + shapeHalf))
+            if (!mViewPortHandler.isInBoundsLeft(x + shapeHalf))
                 continue;
 
-            if (!mViewPortHandler.isInBoundsRight(pointBuffer[0] - shapeHalf))
+            if (!mViewPortHandler.isInBoundsRight(x - shapeHalf))
                 break;
 
             final int color = dataSet.getColor(j);
 
             mRenderPaint.setColor(color);
-            c.drawCircle(pointBuffer[0], pointBuffer[1], shapeHalf, mRenderPaint);
+            c.drawCircle(x, y, shapeHalf, mRenderPaint);
         }
     }
 
@@ -145,8 +184,15 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
                 mXBounds.set(mChart, dataSet);
 
-                final float[] positions = mChart.getTransformer(dataSet.getAxisDependency())
-                        .generateTransformedValuesBubble(dataSet, phaseY, mXBounds.min, mXBounds.max);
+                final Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+                final PixelCache valueCache = PixelCache.get(mValuePixelCaches, dataSet);
+
+                if (!valueCache.isValid(dataSet, trans, mXBounds.min, mXBounds.max, 0, phaseY))
+                    valueCache.setPoints(trans.generateTransformedValuesBubble(dataSet, phaseY,
+                            mXBounds.min, mXBounds.max));
+
+                final float[] positions = valueCache.getPoints();
+                final int positionCount = valueCache.getPointCount() * 2;
 
                 final float alpha = phaseX == 1 ? phaseY : phaseX;
 
@@ -156,7 +202,7 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < positionCount; j += 2) {
 
                     int valueTextColor = dataSet.getValueTextColor(j / 2 + mXBounds.min);
                     valueTextColor = Color.argb(Math.round(255.f * alpha), Color.red(valueTextColor),
@@ -11,25 +11,23 @@ import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.CandleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.PixelCache;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 
 public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
     protected CandleDataProvider mChart;
 
-    private float[] mShadowBuffers = new float[8];
-    private float[] mBodyBuffers = new float[4];
-    private float[] mRangeBuffers = new float[4];
-    private float[] mOpenBuffers = new float[4];
-    private float[] mCloseBuffers = new float[4];
-
     public CandleStickChartRenderer(CandleDataProvider chart, ChartAnimator animator,
                                     ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -38,7 +36,14 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
     @Override
     public void initBuffers() {
+        mPixelCaches.clear();
+        mValuePixelCaches.clear();
+    }
 
+    @Override
+    public void onContentInvalidated() {
+        PixelCache.invalidateAll(mPixelCaches);
+        PixelCache.invalidateAll(mValuePixelCaches);
     }
 
     @Override
@@ -53,6 +58,25 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
+    /**
+     * the number of floats of the transformed geometry of one entry, the shadow (4 points) and
+     * body (2 points) if the candle bar is shown, otherwise the range, open and close line (2
+     * points each)
+     */
+    private static final int FLOATS_PER_ENTRY = 12;
+
+    /**
+     * the transformed geometry of the visible entries of each DataSet, reused on the next frame
+     * if nothing moved
+     */
+    private HashMap<IDataSet<?>, PixelCache> mPixelCaches = new HashMap<>();
+
+    /**
+     * the transformed positions of the value labels of each DataSet, reused on the next frame
+     * if nothing moved
+     */
+    private HashMap<IDataSet<?>, PixelCache> mValuePixelCaches = new HashMap<>();
+
     @SuppressWarnings("ResourceAsColor")
     protected void drawDataSet(Canvas c, ICandleDataSet dataSet) {
 
@@ -64,10 +88,31 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        final int last = mXBounds.range + mXBounds.min;
+
+        PixelCache pixelCache = PixelCache.get(mPixelCaches, dataSet);
+
+        final int mode = Float.floatToIntBits(barSpace) * 31 + (showCandleBar ? 1 : 0);
+        final float[] buffer;
+
+        if (pixelCache.isValid(dataSet, trans, mXBounds.min, last, mode, phaseY)) {
+            buffer = pixelCache.getPoints();
+        } else {
+
+            final int pointCount = (mXBounds.range + 1) * FLOATS_PER_ENTRY / 2;
+
+            buffer = pixelCache.getPoints(pointCount * 2);
+            fillBuffer(dataSet, buffer, mXBounds.min, last, barSpace, showCandleBar, phaseY);
+
+            // transform the geometry of all visible entries at once
+            trans.pointValuesToPixel(buffer, 0, pointCount);
+            pixelCache.setPointCount(pointCount);
+        }
+
         mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
 
         // draw the body
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+        for (int j = mXBounds.min; j <= last; j++) {
 
             // get the entry
             CandleEntry e = dataSet.getEntryForIndex(j);
@@ -75,39 +120,12 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
             if (e == null)
                 continue;
 
-            final float xPos = e.getX();
+            final int o = (j - mXBounds.min) * FLOATS_PER_ENTRY;
 
             final float open = e.getOpen();
             final float close = e.getClose();
-            final float high = e.getHigh();
-            final float low = e.getLow();
 
             if (showCandleBar) {
-                // calculate the shadow
-
-                mShadowBuffers[0] = xPos;
-                mShadowBuffers[2] = xPos;
-                mShadowBuffers[4] = xPos;
-                mShadowBuffers[6] = xPos;
-
-                if (open > close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = close * phaseY;
-                } else if (open < close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = close * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = open * phaseY;
-                } else {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = mShadowBuffers[3];
-                }
-
-                trans.pointValuesToPixel(mShadowBuffers);
 
                 // draw the shadows
 
@@ -144,16 +162,10 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
                 mRenderPaint.setStyle(Paint.Style.STROKE);
 
-                c.drawLines(mShadowBuffers, mRenderPaint);
-
-                // calculate the body
+                c.drawLines(buffer, o, 8, mRenderPaint);
 
-                mBodyBuffers[0] = xPos - 0.5f + barSpace;
-                mBodyBuffers[1] = close * phaseY;
-                mBodyBuffers[2] = (xPos + 0.5f - barSpace);
-                mBodyBuffers[3] = open * phaseY;
-
-                trans.pointValuesToPixel(mBodyBuffers);
+                // the body: left, close, right, open
+                final int b = o + 8;
 
                 // draw body differently for increasing and decreasing entry
                 if (open > close) { // decreasing
@@ -167,8 +179,8 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                     mRenderPaint.setStyle(dataSet.getDecreasingPaintStyle());
 
                     c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[3],
-                            mBodyBuffers[2], mBodyBuffers[1],
+                            buffer[b], buffer[b + 3],
+                            buffer[b + 2], buffer[b + 1],
                             mRenderPaint);
 
                 } else if (open < close) {
@@ -182,8 +194,8 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                     mRenderPaint.setStyle(dataSet.getIncreasingPaintStyle());
 
                     c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
+                            buffer[b], buffer[b + 1],
+                            buffer[b + 2], buffer[b + 3],
                             mRenderPaint);
                 } else { // equal values
 
@@ -194,31 +206,12 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                     }
 
                     c.drawLine(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
+                            buffer[b], buffer[b + 1],
+                            buffer[b + 2], buffer[b + 3],
                             mRenderPaint);
                 }
             } else {
 
-                mRangeBuffers[0] = xPos;
-                mRangeBuffers[1] = high * phaseY;
-                mRangeBuffers[2] = xPos;
-                mRangeBuffers[3] = low * phaseY;
-
-                mOpenBuffers[0] = xPos - 0.5f + barSpace;
-                mOpenBuffers[1] = open * phaseY;
-                mOpenBuffers[2] = xPos;
-                mOpenBuffers[3] = open * phaseY;
-
-                mCloseBuffers[0] = xPos + 0.5f - barSpace;
-                mCloseBuffers[1] = close * phaseY;
-                mCloseBuffers[2] = xPos;
-                mCloseBuffers[3] = close * phaseY;
-
-                trans.pointValuesToPixel(mRangeBuffers);
-                trans.pointValuesToPixel(mOpenBuffers);
-                trans.pointValuesToPixel(mCloseBuffers);
-
                 // draw the ranges
                 int barColor;
 
@@ -236,18 +229,94 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                             : dataSet.getNeutralColor();
 
                 mRenderPaint.setColor(barColor);
-                c.drawLine(
-                        mRangeBuffers[0], mRangeBuffers[1],
-                        mRangeBuffers[2], mRangeBuffers[3],
-                        mRenderPaint);
-                c.drawLine(
-                        mOpenBuffers[0], mOpenBuffers[1],
-                        mOpenBuffers[2], mOpenBuffers[3],
-                        mRenderPaint);
-                c.drawLine(
-                        mCloseBuffers[0], mCloseBuffers[1],
-                        mCloseBuffers[2], mCloseBuffers[3],
-                        mRenderPaint);
+
+                // range, open and close line
+                c.drawLines(buffer, o, FLOATS_PER_ENTRY, mRenderPaint);
+            }
+        }
+    }
+
+    /**
+     * Writes the geometry (in values) of the entries from index "from" to index "to" (both
+     * inclusive) into the given buffer, FLOATS_PER_ENTRY floats per entry.
+     *
+     * @param dataSet
+     * @param buffer
+     * @param from
+     * @param to
+     * @param barSpace
+     * @param showCandleBar
+     * @param phaseY
+     */
+    private void fillBuffer(ICandleDataSet dataSet, float[] buffer, int from, int to,
+                            float barSpace, boolean showCandleBar, float phaseY) {
+
+        for (int j = from, o = 0; j <= to; j++, o += FLOATS_PER_ENTRY) {
+
+            CandleEntry e = dataSet.getEntryForIndex(j);
+
+            if (e == null) {
+                Arrays.fill(buffer, o, o + FLOATS_PER_ENTRY, 0f);
+                continue;
+            }
+
+            final float xPos = e.getX();
+
+            final float open = e.getOpen();
+            final float close = e.getClose();
+            final float high = e.getHigh();
+            final float low = e.getLow();
+
+            if (showCandleBar) {
+
+                // the shadow
+                buffer[o] = xPos;
+                buffer[o + 2] = xPos;
+                buffer[o + 4] = xPos;
+                buffer[o + 6] = xPos;
+
+                if (open > close) {
+                    buffer[o + 1] = high * phaseY;
+                    buffer[o + 3] = open * phaseY;
+                    buffer[o + 5] = low * phaseY;
+                    buffer[o + 7] = close * phaseY;
+                } else if (open < close) {
+                    buffer[o + 1] = high * phaseY;
+                    buffer[o + 3] = close * phaseY;
+                    buffer[o + 5] = low * phaseY;
+                    buffer[o + 7] = open * phaseY;
+                } else {
+                    buffer[o + 1] = high * phaseY;
+                    buffer[o + 3] = open * phaseY;
+                    buffer[o + 5] = low * phaseY;
+                    buffer[o + 7] = buffer[o + 3];
+                }
+
+                // the body
+                buffer[o + 8] = xPos - 0.5f + barSpace;
+                buffer[o + 9] = close * phaseY;
+                buffer[o + 10] = (xPos + 0.5f - barSpace);
+                buffer[o + 11] = open * phaseY;
+
+            } else {
+
+                // the range
+                buffer[o] = xPos;
+                buffer[o + 1] = high * phaseY;
+                buffer[o + 2] = xPos;
+                buffer[o + 3] = low * phaseY;
+
+                // the open line
+                buffer[o + 4] = xPos - 0.5f + barSpace;
+                buffer[o + 5] = open * phaseY;
+                buffer[o + 6] = xPos;
+                buffer[o + 7] = open * phaseY;
+
+                // the close line
+                buffer[o + 8] = xPos + 0.5f - barSpace;
+                buffer[o + 9] = close * phaseY;
+                buffer[o + 10] = xPos;
+                buffer[o + 11] = close * phaseY;
             }
         }
     }
@@ -274,8 +343,18 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
                 mXBounds.set(mChart, dataSet);
 
-                float[] positions = trans.generateTransformedValuesCandle(
-                        dataSet, mAnimator.getPhaseX(), mAnimator.getPhaseY(), mXBounds.min, mXBounds.max);
+                final float phaseX = mAnimator.getPhaseX();
+                final float phaseY = mAnimator.getPhaseY();
+                final int last = mXBounds.min + (int) ((mXBounds.max - mXBounds.min) * phaseX);
+
+                final PixelCache valueCache = PixelCache.get(mValuePixelCaches, dataSet);
+
+                if (!valueCache.isValid(dataSet, trans, mXBounds.min, last, 0, phaseY))
+                    valueCache.setPoints(trans.generateTransformedValuesCandle(dataSet, phaseX, phaseY,
+                            mXBounds.min, mXBounds.max));
+
+                final float[] positions = valueCache.getPoints();
+                final int positionCount = valueCache.getPointCount() * 2;
 
                 float yOffset = Utils.convertDpToPixel(5f);
 
@@ -285,7 +364,7 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < positionCount; j += 2) {
 
                     float x = positions[j];
                     float y = positions[j + 1];
@@ -82,6 +82,13 @@ public class CombinedChartRenderer extends DataRenderer {
             renderer.initBuffers();
     }
 
+    @Override
+    public void onContentInvalidated() {
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.onContentInvalidated();
+    }
+
     @Override
     public void drawData(Canvas c) {
 
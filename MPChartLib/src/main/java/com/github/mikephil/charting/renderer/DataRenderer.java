@@ -116,6 +116,13 @@ public abstract class DataRenderer extends Renderer {
      */
     public abstract void initBuffers();
 
+    /**
+     * Called when the whole chart is redrawn (Chart.invalidate()), entries may have been changed
+     * in place since the last frame. Renderers that cache positions between frames drop them.
+     */
+    public void onContentInvalidated() {
+    }
+
     /**
      * Draws the actual data in form of lines, bars, ... depending on Renderer subclass.
      *
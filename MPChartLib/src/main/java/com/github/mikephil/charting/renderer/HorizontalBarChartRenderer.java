@@ -45,8 +45,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new HorizontalBarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
-                    barData.getDataSetCount(), set.isStacked());
+            // the buffer grows to the number of visible bars when it is fed
+            mBarBuffers[i] = new HorizontalBarBuffer(0, barData.getDataSetCount(), set.isStacked());
         }
     }
 
@@ -55,63 +55,46 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
     @Override
     protected void drawDataSet(Canvas c, IBarDataSet dataSet, int index) {
 
-        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
-
         mBarBorderPaint.setColor(dataSet.getBarBorderColor());
         mBarBorderPaint.setStrokeWidth(Utils.convertDpToPixel(dataSet.getBarBorderWidth()));
 
         final boolean drawBorder = dataSet.getBarBorderWidth() > 0.f;
 
-        float phaseX = mAnimator.getPhaseX();
-        float phaseY = mAnimator.getPhaseY();
+        BarBuffer buffer = prepareBuffer(dataSet, index);
 
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
 
-            BarData barData = mChart.getBarData();
-
-            final float barWidth = barData.getBarWidth();
-            final float barWidthHalf = barWidth / 2.0f;
-            float x;
-
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
-                 i < count;
-                 i++) {
+            float lastTop = Float.NaN;
+            float lastBottom = Float.NaN;
 
-                BarEntry e = dataSet.getEntryForIndex(i);
+            // the shadows have the same height as the (already transformed) bars
+            for (int j = 0; j < buffer.size(); j += 4) {
 
-                x = e.getX();
+                final float top = buffer.buffer[j + 1];
+                final float bottom = buffer.buffer[j + 3];
 
-                mBarShadowRectBuffer.top = x - barWidthHalf;
-                mBarShadowRectBuffer.bottom = x + barWidthHalf;
+                // all values of a stack share one shadow
+                if (top == lastTop && bottom == lastBottom)
+                    continue;
 
-                trans.rectValueToPixel(mBarShadowRectBuffer);
+                lastTop = top;
+                lastBottom = bottom;
 
-                if (!mViewPortHandler.isInBoundsTop(mBarShadowRectBuffer.bottom))
+                if (!mViewPortHandler.isInBoundsTop(bottom))
                     continue;
 
-                if (!mViewPortHandler.isInBoundsBottom(mBarShadowRectBuffer.top))
+                if (!mViewPortHandler.isInBoundsBottom(top))
                     break;
 
-                mBarShadowRectBuffer.left = mViewPortHandler.contentLeft();
-                mBarShadowRectBuffer.right = mViewPortHandler.contentRight();
+                mBarShadowRectBuffer.set(mViewPortHandler.contentLeft(), top,
+                        mViewPortHandler.contentRight(), bottom);
 
                 c.drawRect(mBarShadowRectBuffer, mShadowPaint);
             }
         }
 
-        // initialize the buffer
-        BarBuffer buffer = mBarBuffers[index];
-        buffer.setPhases(phaseX, phaseY);
-        buffer.setDataSet(index);
-        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
-        buffer.setBarWidth(mChart.getBarData().getBarWidth());
-
-        buffer.feed(dataSet);
-
-        trans.pointValuesToPixel(buffer.buffer);
-
         final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
         final boolean isSingleColor = dataSet.getColors().size() == 1;
         final boolean isInverted = mChart.isInverted(dataSet.getAxisDependency());
@@ -120,7 +103,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
-        for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+        for (int j = 0, pos = buffer.getFirstBar(); j < buffer.size(); j += 4, pos++) {
 
             if (!mViewPortHandler.isInBoundsTop(buffer.buffer[j + 3]))
                 break;
@@ -131,7 +114,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
+                mRenderPaint.setColor(dataSet.getColor(pos));
             }
 
             if (isCustomFill) {
@@ -195,7 +178,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    for (int j = 0; j < buffer.size(); j += 4) {
 
                         float y = (buffer.buffer[j + 1] + buffer.buffer[j + 3]) / 2f;
 
@@ -208,7 +191,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                         if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[j + 1]))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        final int entryIndex = buffer.getFrom() + j / 4;
+
+                        BarEntry entry = dataSet.getEntryForIndex(entryIndex);
                         float val = entry.getY();
                         String formattedValue = formatter.getBarLabel(entry);
 
@@ -228,7 +213,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                     formattedValue,
                                     buffer.buffer[j + 2] + (val >= 0 ? posOffset : negOffset),
                                     y + halfTextHeight,
-                                    dataSet.getValueTextColor(j / 2));
+                                    dataSet.getValueTextColor(entryIndex));
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -257,14 +242,15 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getFrom();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    for (int next; bufferIndex < buffer.size(); bufferIndex = next, index++) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
                         int color = dataSet.getValueTextColor(index);
                         float[] vals = entry.getYVals();
+                        next = vals == null ? bufferIndex + 4 : bufferIndex + 4 * vals.length;
 
                         // we still draw stacked bars, but there is one
                         // non-stacked
@@ -397,9 +383,6 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                 }
                             }
                         }
-
-                        bufferIndex = vals == null ? bufferIndex + 4 : bufferIndex + 4 * vals.length;
-                        index++;
                     }
                 }
 
@@ -4,7 +4,9 @@ import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.LinearGradient;
 import android.graphics.Path;
+import android.graphics.Shader;
 import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
@@ -12,21 +14,27 @@ import com.github.mikephil.charting.charts.LineChart;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.LodDataSet;
+import com.github.mikephil.charting.data.filter.ApproximatorN;
+import com.github.mikephil.charting.data.filter.IDecimator;
+import com.github.mikephil.charting.data.filter.MinMaxDecimator;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
-import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.utils.BitmapPool;
+import com.github.mikephil.charting.utils.CircleSpriteCache;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.PixelCache;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
-import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.List;
+import java.util.WeakHashMap;
 
 public class LineChartRenderer extends LineRadarRenderer {
 
@@ -39,9 +47,9 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     /**
      * Bitmap object used for drawing the paths (otherwise they are too long if
-     * rendered directly on the canvas)
+     * rendered directly on the canvas), taken from the BitmapPool only while a DataSet needs it
      */
-    protected WeakReference<Bitmap> mDrawBitmap;
+    protected Bitmap mDrawBitmap;
 
     /**
      * on this canvas, the paths are rendered, it is initialized with the
@@ -69,6 +77,20 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     @Override
     public void initBuffers() {
+        mLinePixelCaches.clear();
+        mCirclePixelCaches.clear();
+        mValuePixelCaches.clear();
+        mGradientCaches.clear();
+    }
+
+    @Override
+    public void onContentInvalidated() {
+        PixelCache.invalidateAll(mLinePixelCaches);
+        PixelCache.invalidateAll(mCirclePixelCaches);
+        PixelCache.invalidateAll(mValuePixelCaches);
+
+        for (GradientCache cache : mGradientCaches.values())
+            cache.mState.invalidate();
     }
 
     @Override
@@ -77,31 +99,63 @@ public class LineChartRenderer extends LineRadarRenderer {
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
-        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+        LineData lineData = mChart.getLineData();
+
+        // only dashed lines and bezier curves are drawn on the bitmap
+        final boolean needsBitmap = needsDrawBitmap(lineData);
 
-        if (drawBitmap == null
-                || (drawBitmap.getWidth() != width)
-                || (drawBitmap.getHeight() != height)) {
+        if (!needsBitmap) {
+            releaseBitmap();
+        } else if (mDrawBitmap == null
+                || mDrawBitmap.getWidth() < width
+                || mDrawBitmap.getHeight() < height
+                || mDrawBitmap.getConfig() != mBitmapConfig) {
+
+            releaseBitmap();
 
             if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
-                mDrawBitmap = new WeakReference<>(drawBitmap);
-                mBitmapCanvas = new Canvas(drawBitmap);
+                mDrawBitmap = BitmapPool.getInstance().acquire(width, height, mBitmapConfig);
+                mBitmapCanvas = new Canvas(mDrawBitmap);
             } else
                 return;
+        } else {
+            mDrawBitmap.eraseColor(Color.TRANSPARENT);
         }
 
-        drawBitmap.eraseColor(Color.TRANSPARENT);
-
-        LineData lineData = mChart.getLineData();
-
         for (ILineDataSet set : lineData.getDataSets()) {
 
             if (set.isVisible())
                 drawDataSet(c, set);
         }
 
-        c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+        if (needsBitmap)
+            c.drawBitmap(mDrawBitmap, 0, 0, mRenderPaint);
+    }
+
+    /**
+     * Returns true if any of the visible DataSets is drawn on the bitmap (mBitmapCanvas).
+     *
+     * @param lineData
+     * @return
+     */
+    protected boolean needsDrawBitmap(LineData lineData) {
+
+        for (ILineDataSet set : lineData.getDataSets()) {
+
+            if (!set.isVisible() || set.getEntryCount() < 1)
+                continue;
+
+            switch (set.getMode()) {
+                case CUBIC_BEZIER:
+                case HORIZONTAL_BEZIER:
+                    return true;
+                default:
+                    if (set.isDashedLineEnabled())
+                        return true;
+            }
+        }
+
+        return false;
     }
 
     protected void drawDataSet(Canvas c, ILineDataSet dataSet) {
@@ -285,6 +339,32 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     private float[] mLineBuffer = new float[4];
 
+    /**
+     * the transformed positions of the visible entries of each DataSet's line, reused on the
+     * next frame if nothing moved
+     */
+    private HashMap<IDataSet<?>, PixelCache> mLinePixelCaches = new HashMap<>();
+
+    /**
+     * buffer for the decimated positions of the visible entries, order: x,y,x,y,...
+     */
+    private float[] mDecimatedPointsBuffer = new float[2];
+
+    /**
+     * the decimator used to reduce the points of a line, null if disabled
+     */
+    protected IDecimator mDecimator = new MinMaxDecimator();
+
+    /**
+     * the number of visible entries per pixel of content width above which lines are decimated
+     */
+    protected float mDecimationThreshold = 2f;
+
+    /**
+     * reduces lines of DataSets that limit their number of rendered points, reused
+     */
+    private ApproximatorN mApproximatorN = new ApproximatorN();
+
     /**
      * Draws a normal line.
      *
@@ -320,59 +400,73 @@ public class LineChartRenderer extends LineRadarRenderer {
             drawLinearFill(c, dataSet, trans, mXBounds);
         }
 
-        // more than 1 color
-        if (dataSet.getColors().size() > 1) {
+        // copy the visible entries (and the one before the first visible entry) into one
+        // buffer and transform them all at once
+        final int first = Math.max(mXBounds.min - 1, 0);
+        final int last = mXBounds.min + mXBounds.range;
+        int pointCount = last - first + 1;
 
-            int numberOfFloats = pointsPerEntryPair * 2;
+        final boolean multipleColors = dataSet.getColors().size() > 1;
+        final boolean colorGradient = multipleColors && dataSet.isColorGradientEnabled();
 
-            if (mLineBuffer.length <= numberOfFloats)
-                mLineBuffer = new float[numberOfFloats * 2];
+        // zoomed out on a level-of-detail DataSet, only draw the min and max of each bucket
+        int level = -1;
 
-            int max = mXBounds.min + mXBounds.range;
+        if (dataSet instanceof LodDataSet && !multipleColors)
+            level = ((LodDataSet) dataSet).getLevel(pointCount, mViewPortHandler.contentWidth());
 
-            for (int j = mXBounds.min; j < max; j++) {
+        final PixelCache pixelCache = PixelCache.get(mLinePixelCaches, dataSet);
+        final float[] points;
 
-                Entry e = dataSet.getEntryForIndex(j);
-                if (e == null) continue;
+        if (pixelCache.isValid(dataSet, trans, first, last, level, phaseY)) {
 
-                mLineBuffer[0] = e.getX();
-                mLineBuffer[1] = e.getY() * phaseY;
+            points = pixelCache.getPoints();
+            pointCount = pixelCache.getPointCount();
 
-                if (j < mXBounds.max) {
+        } else {
 
-                    e = dataSet.getEntryForIndex(j + 1);
+            points = pixelCache.getPoints(pointCount * 2);
 
-                    if (e == null) break;
+            if (level >= 0) {
+                pointCount = ((LodDataSet) dataSet).copyLevelXY(level, first, last + 1, points, 0, phaseY) / 2;
+                trans.pointValuesToPixel(points, 0, pointCount);
+            } else {
+                dataSet.copyPixelXY(first, last + 1, points, 0, phaseY, trans);
+            }
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = mLineBuffer[1];
-                        mLineBuffer[4] = mLineBuffer[2];
-                        mLineBuffer[5] = mLineBuffer[3];
-                        mLineBuffer[6] = e.getX();
-                        mLineBuffer[7] = e.getY() * phaseY;
-                    } else {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = e.getY() * phaseY;
-                    }
+            pixelCache.setPointCount(pointCount);
+        }
 
-                } else {
-                    mLineBuffer[2] = mLineBuffer[0];
-                    mLineBuffer[3] = mLineBuffer[1];
-                }
+        // more than 1 color
+        if (multipleColors && !colorGradient) {
+
+            int numberOfFloats = pointsPerEntryPair * 2;
+
+            // room for all segments, consecutive segments of the same color are drawn at once
+            final int size = (last - mXBounds.min + 1) * numberOfFloats;
+
+            if (mLineBuffer.length < size)
+                mLineBuffer = new float[size];
+
+            final float[] buffer = mLineBuffer;
+
+            int j = 0;
+            int runColor = 0;
+
+            for (int e = mXBounds.min; e < last; e++) {
+
+                final int p = (e - first) * 2;
 
                 // Determine the start and end coordinates of the line, and make sure they differ.
-                float firstCoordinateX = mLineBuffer[0];
-                float firstCoordinateY = mLineBuffer[1];
-                float lastCoordinateX = mLineBuffer[numberOfFloats - 2];
-                float lastCoordinateY = mLineBuffer[numberOfFloats - 1];
+                float firstCoordinateX = points[p];
+                float firstCoordinateY = points[p + 1];
+                float lastCoordinateX = e < mXBounds.max ? points[p + 2] : firstCoordinateX;
+                float lastCoordinateY = e < mXBounds.max ? points[p + 3] : firstCoordinateY;
 
                 if (firstCoordinateX == lastCoordinateX &&
                         firstCoordinateY == lastCoordinateY)
                     continue;
 
-                trans.pointValuesToPixel(mLineBuffer);
-
                 if (!mViewPortHandler.isInBoundsRight(firstCoordinateX))
                     break;
 
@@ -384,52 +478,110 @@ public class LineChartRenderer extends LineRadarRenderer {
                     continue;
 
                 // get the color that is set for this line-segment
-                mRenderPaint.setColor(dataSet.getColor(j));
+                final int color = dataSet.getColor(e);
+
+                if (color != runColor && j > 0) {
+                    mRenderPaint.setColor(runColor);
+                    canvas.drawLines(buffer, 0, j, mRenderPaint);
+                    j = 0;
+                }
 
-                canvas.drawLines(mLineBuffer, 0, pointsPerEntryPair * 2, mRenderPaint);
+                runColor = color;
+
+                buffer[j++] = firstCoordinateX;
+                buffer[j++] = firstCoordinateY;
+
+                if (isDrawSteppedEnabled) {
+                    buffer[j++] = lastCoordinateX;
+                    buffer[j++] = firstCoordinateY;
+                    buffer[j++] = lastCoordinateX;
+                    buffer[j++] = firstCoordinateY;
+                }
+
+                buffer[j++] = lastCoordinateX;
+                buffer[j++] = lastCoordinateY;
             }
 
-        } else { // only one color per dataset
+            if (j > 0) {
+                mRenderPaint.setColor(runColor);
+                canvas.drawLines(buffer, 0, j, mRenderPaint);
+            }
 
-            if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
-                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
+        } else { // only one color per dataset, or all colors in one gradient
 
-            Entry e1, e2;
+            float[] linePoints = points;
+            int linePointCount = pointCount;
 
-            e1 = dataSet.getEntryForIndex(mXBounds.min);
+            // far more points than pixels, reduce them before building the segments
+            final int targetCount = (int) (mViewPortHandler.contentWidth() * mDecimationThreshold);
 
-            if (e1 != null) {
+            if (mDecimator != null && pointCount > targetCount && targetCount > 0) {
 
-                int j = 0;
-                for (int x = mXBounds.min; x <= mXBounds.range + mXBounds.min; x++) {
+                if (mDecimatedPointsBuffer.length < pointCount * 2)
+                    mDecimatedPointsBuffer = new float[points.length];
 
-                    e1 = dataSet.getEntryForIndex(x == 0 ? 0 : (x - 1));
-                    e2 = dataSet.getEntryForIndex(x);
+                linePoints = mDecimatedPointsBuffer;
+                linePointCount = mDecimator.decimate(points, pointCount, linePoints, targetCount);
+            }
 
-                    if (e1 == null || e2 == null) continue;
+            // the DataSet limits the number of points its line is drawn with
+            final int maxPoints = dataSet.getMaxRenderedPoints();
 
-                    mLineBuffer[j++] = e1.getX();
-                    mLineBuffer[j++] = e1.getY() * phaseY;
+            if (maxPoints > 0 && linePointCount > maxPoints) {
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                    }
+                final float[] source = linePoints;
+
+                // decimated points are reduced in place
+                if (source == points) {
 
-                    mLineBuffer[j++] = e2.getX();
-                    mLineBuffer[j++] = e2.getY() * phaseY;
+                    if (mDecimatedPointsBuffer.length < pointCount * 2)
+                        mDecimatedPointsBuffer = new float[points.length];
+
+                    linePoints = mDecimatedPointsBuffer;
+                }
+
+                linePointCount = mApproximatorN.reduceWithDouglasPeucker(source, linePointCount, maxPoints, linePoints);
+            }
+
+            final int size = Math.max(linePointCount * pointsPerEntryPair, pointsPerEntryPair) * 2;
+
+            if (mLineBuffer.length < size)
+                mLineBuffer = new float[size * 2];
+
+            // the first segment starts at the entry before the first visible one, if there is one
+            final int start = first == mXBounds.min ? 0 : 1;
+
+            int j = 0;
+            for (int x = start; x < linePointCount; x++) {
+
+                final int p1 = (x == 0 ? 0 : (x - 1)) * 2;
+                final int p2 = x * 2;
+
+                mLineBuffer[j++] = linePoints[p1];
+                mLineBuffer[j++] = linePoints[p1 + 1];
+
+                if (isDrawSteppedEnabled) {
+                    mLineBuffer[j++] = linePoints[p2];
+                    mLineBuffer[j++] = linePoints[p1 + 1];
+                    mLineBuffer[j++] = linePoints[p2];
+                    mLineBuffer[j++] = linePoints[p1 + 1];
                 }
 
-                if (j > 0) {
-                    trans.pointValuesToPixel(mLineBuffer);
+                mLineBuffer[j++] = linePoints[p2];
+                mLineBuffer[j++] = linePoints[p2 + 1];
+            }
+
+            if (j > 0) {
+
+                if (colorGradient && setColorGradient(dataSet, trans, points, first, last, pointCount)) {
 
-                    final int size = Math.max((mXBounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
+                    canvas.drawLines(mLineBuffer, 0, j, mRenderPaint);
+                    mRenderPaint.setShader(null);
 
+                } else {
                     mRenderPaint.setColor(dataSet.getColor());
 
-                    canvas.drawLines(mLineBuffer, 0, size, mRenderPaint);
+                    canvas.drawLines(mLineBuffer, 0, j, mRenderPaint);
                 }
             }
         }
@@ -437,6 +589,103 @@ public class LineChartRenderer extends LineRadarRenderer {
         mRenderPaint.setPathEffect(null);
     }
 
+    /**
+     * The gradient shader of a DataSet's line and the state it was created for.
+     */
+    private static final class GradientCache {
+
+        private final PixelCache mState = new PixelCache();
+
+        private LinearGradient mShader;
+    }
+
+    /**
+     * the gradient shaders of each DataSet's line, reused on the next frame if nothing moved
+     */
+    private HashMap<IDataSet<?>, GradientCache> mGradientCaches = new HashMap<>();
+
+    /**
+     * Sets a horizontal gradient with the colors of the given entries at their x-positions as
+     * the shader of the render paint. The gradient is reused as long as the DataSet, the visible
+     * range and the matrices do not change. Returns false if there is no room for a gradient.
+     *
+     * @param dataSet
+     * @param trans
+     * @param points     the transformed positions of the entries, starting with entry "first"
+     * @param first
+     * @param last
+     * @param pointCount
+     * @return
+     */
+    private boolean setColorGradient(ILineDataSet dataSet, Transformer trans, float[] points,
+                                     int first, int last, int pointCount) {
+
+        GradientCache cache = mGradientCaches.get(dataSet);
+
+        if (cache == null) {
+            cache = new GradientCache();
+            mGradientCaches.put(dataSet, cache);
+        }
+
+        if (!cache.mState.isValid(dataSet, trans, first, last, 0, mAnimator.getPhaseY()))
+            cache.mShader = createColorGradient(dataSet, points, first, pointCount);
+
+        if (cache.mShader == null)
+            return false;
+
+        mRenderPaint.setColor(Color.BLACK);
+        mRenderPaint.setShader(cache.mShader);
+
+        return true;
+    }
+
+    /**
+     * Creates a horizontal gradient with the colors of the given entries at their x-positions,
+     * with at most about one color stop per pixel. Returns null if there is no room for a
+     * gradient.
+     *
+     * @param dataSet
+     * @param points     the transformed positions of the entries, starting with entry "first"
+     * @param first
+     * @param pointCount
+     * @return
+     */
+    private LinearGradient createColorGradient(ILineDataSet dataSet, float[] points, int first, int pointCount) {
+
+        if (pointCount < 2)
+            return null;
+
+        final float startX = points[0];
+        final float endX = points[(pointCount - 1) * 2];
+
+        if (!(endX > startX))
+            return null;
+
+        final float width = endX - startX;
+
+        // more entries than pixels only use the color of every step-th entry, and of the last
+        final int step = Math.max((int) Math.ceil(pointCount / width), 1);
+        final int stops = (pointCount - 1) / step + ((pointCount - 1) % step == 0 ? 1 : 2);
+
+        final int[] colors = new int[stops];
+        final float[] positions = new float[stops];
+
+        float position = 0f;
+
+        for (int s = 0; s < stops; s++) {
+
+            final int i = Math.min(s * step, pointCount - 1);
+
+            // the positions need to be ascending
+            position = Math.max(position, Math.min((points[i * 2] - startX) / width, 1f));
+
+            colors[s] = dataSet.getColor(first + i);
+            positions[s] = position;
+        }
+
+        return new LinearGradient(startX, 0f, endX, 0f, colors, positions, Shader.TileMode.CLAMP);
+    }
+
     protected Path mGenerateFilledPathBuffer = new Path();
 
     /**
@@ -560,15 +809,26 @@ public class LineChartRenderer extends LineRadarRenderer {
 
                 mXBounds.set(mChart, dataSet);
 
-                float[] positions = trans.generateTransformedValuesLine(dataSet, mAnimator.getPhaseX(), mAnimator
-                        .getPhaseY(), mXBounds.min, mXBounds.max);
+                final float phaseX = mAnimator.getPhaseX();
+                final float phaseY = mAnimator.getPhaseY();
+                final int last = mXBounds.min + (int) ((mXBounds.max - mXBounds.min) * phaseX);
+
+                final PixelCache valueCache = PixelCache.get(mValuePixelCaches, dataSet);
+
+                if (!valueCache.isValid(dataSet, trans, mXBounds.min, last, 0, phaseY))
+                    valueCache.setPoints(trans.generateTransformedValuesLine(dataSet, phaseX, phaseY,
+                            mXBounds.min, mXBounds.max));
+
+                final float[] positions = valueCache.getPoints();
+                final int positionCount = valueCache.getPointCount() * 2;
+
                 ValueFormatter formatter = dataSet.getValueFormatter();
 
                 MPPointF iconsOffset = MPPointF.getInstance(dataSet.getIconsOffset());
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < positionCount; j += 2) {
 
                     float x = positions[j];
                     float y = positions[j + 1];
@@ -604,6 +864,12 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
     }
 
+    /**
+     * the transformed positions of the value labels of each DataSet, reused on the next frame
+     * if nothing moved
+     */
+    private HashMap<IDataSet<?>, PixelCache> mValuePixelCaches = new HashMap<>();
+
     @Override
     public void drawValue(Canvas c, String valueText, float x, float y, int color) {
         mValuePaint.setColor(color);
@@ -616,14 +882,15 @@ public class LineChartRenderer extends LineRadarRenderer {
     }
 
     /**
-     * cache for the circle bitmaps of all datasets
+     * the circle sprites of each DataSet, weak keys so replaced DataSets are not kept alive
      */
-    private HashMap<IDataSet, DataSetImageCache> mImageCaches = new HashMap<>();
+    private WeakHashMap<IDataSet<?>, DataSetImageCache> mImageCaches = new WeakHashMap<>();
 
     /**
-     * buffer for drawing the circles
+     * the transformed positions of the visible circles of each DataSet, reused on the next
+     * frame if nothing moved
      */
-    private float[] mCirclesBuffer = new float[2];
+    private HashMap<IDataSet<?>, PixelCache> mCirclePixelCaches = new HashMap<>();
 
     protected void drawCircles(Canvas c) {
 
@@ -631,9 +898,6 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         float phaseY = mAnimator.getPhaseY();
 
-        mCirclesBuffer[0] = 0;
-        mCirclesBuffer[1] = 0;
-
         List<ILineDataSet> dataSets = mChart.getLineData().getDataSets();
 
         for (int i = 0; i < dataSets.size(); i++) {
@@ -655,49 +919,52 @@ public class LineChartRenderer extends LineRadarRenderer {
             boolean drawCircleHole = dataSet.isDrawCircleHoleEnabled() &&
                     circleHoleRadius < circleRadius &&
                     circleHoleRadius > 0.f;
-            boolean drawTransparentCircleHole = drawCircleHole &&
-                    dataSet.getCircleHoleColor() == ColorTemplate.COLOR_NONE;
 
-            DataSetImageCache imageCache;
+            DataSetImageCache imageCache = mImageCaches.get(dataSet);
 
-            if (mImageCaches.containsKey(dataSet)) {
-                imageCache = mImageCaches.get(dataSet);
-            } else {
+            if (imageCache == null) {
                 imageCache = new DataSetImageCache();
                 mImageCaches.put(dataSet, imageCache);
             }
 
-            boolean changeRequired = imageCache.init(dataSet);
-
-            // only fill the cache with new bitmaps if a change is required
-            if (changeRequired) {
-                imageCache.fill(dataSet, drawCircleHole, drawTransparentCircleHole);
+            // only look up the sprites again if the styling changed
+            if (imageCache.init(dataSet, drawCircleHole)) {
+                imageCache.fill(dataSet, drawCircleHole);
             }
 
             int boundsRangeCount = mXBounds.range + mXBounds.min;
+            int pointCount = mXBounds.range + 1;
+
+            final PixelCache pixelCache = PixelCache.get(mCirclePixelCaches, dataSet);
+            final float[] positions;
 
-            for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
+            if (pixelCache.isValid(dataSet, trans, mXBounds.min, boundsRangeCount, 0, phaseY)) {
+                positions = pixelCache.getPoints();
+            } else {
 
-                Entry e = dataSet.getEntryForIndex(j);
+                positions = pixelCache.getPoints(pointCount * 2);
 
-                if (e == null) break;
+                // transform all visible circle positions at once
+                dataSet.copyPixelXY(mXBounds.min, boundsRangeCount + 1, positions, 0, phaseY, trans);
+                pixelCache.setPointCount(pointCount);
+            }
 
-                mCirclesBuffer[0] = e.getX();
-                mCirclesBuffer[1] = e.getY() * phaseY;
+            for (int j = mXBounds.min, p = 0; j <= boundsRangeCount; j++, p += 2) {
 
-                trans.pointValuesToPixel(mCirclesBuffer);
+                final float x = positions[p];
+                final float y = positions[p + 1];
 
-                if (!mViewPortHandler.isInBoundsRight(mCirclesBuffer[0]))
+                if (!mViewPortHandler.isInBoundsRight(x))
                     break;
 
-                if (!mViewPortHandler.isInBoundsLeft(mCirclesBuffer[0]) ||
-                        !mViewPortHandler.isInBoundsY(mCirclesBuffer[1]))
+                if (!mViewPortHandler.isInBoundsLeft(x) ||
+                        !mViewPortHandler.isInBoundsY(y))
                     continue;
 
                 Bitmap circleBitmap = imageCache.getBitmap(j);
 
                 if (circleBitmap != null) {
-                    c.drawBitmap(circleBitmap, mCirclesBuffer[0] - circleRadius, mCirclesBuffer[1] - circleRadius, null);
+                    c.drawBitmap(circleBitmap, x - circleRadius, y - circleRadius, null);
                 }
             }
         }
@@ -730,6 +997,48 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
     }
 
+    /**
+     * Sets the decimator that reduces the points of a line before it is drawn, if far more
+     * entries are visible than there are pixels. Only lines with a single color are decimated.
+     * Set to null to disable decimation. Default: MinMaxDecimator
+     *
+     * @param decimator
+     */
+    public void setDecimator(IDecimator decimator) {
+        mDecimator = decimator;
+    }
+
+    /**
+     * Returns the decimator that reduces the points of a line before it is drawn, null if
+     * decimation is disabled.
+     *
+     * @return
+     */
+    public IDecimator getDecimator() {
+        return mDecimator;
+    }
+
+    /**
+     * Sets the number of visible entries per pixel of content width above which lines are
+     * decimated, this is also the number of points per pixel the decimator aims for.
+     * Default: 2
+     *
+     * @param pointsPerPixel
+     */
+    public void setDecimationThreshold(float pointsPerPixel) {
+        mDecimationThreshold = pointsPerPixel;
+    }
+
+    /**
+     * Returns the number of visible entries per pixel of content width above which lines are
+     * decimated.
+     *
+     * @return
+     */
+    public float getDecimationThreshold() {
+        return mDecimationThreshold;
+    }
+
     /**
      * Sets the Bitmap.Config to be used by this renderer.
      * Default: Bitmap.Config.ARGB_8888
@@ -752,7 +1061,7 @@ public class LineChartRenderer extends LineRadarRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
+     * Returns the drawing bitmap to the BitmapPool. This should be called when {@link LineChart#onDetachedFromWindow()}.
      */
     public void releaseBitmap() {
         if (mBitmapCanvas != null) {
@@ -760,100 +1069,71 @@ public class LineChartRenderer extends LineRadarRenderer {
             mBitmapCanvas = null;
         }
         if (mDrawBitmap != null) {
-            Bitmap drawBitmap = mDrawBitmap.get();
-            if (drawBitmap != null) {
-                drawBitmap.recycle();
-            }
-            mDrawBitmap.clear();
+            BitmapPool.getInstance().release(mDrawBitmap);
             mDrawBitmap = null;
         }
     }
 
-    private class DataSetImageCache {
-
-        private Path mCirclePathBuffer = new Path();
+    private static class DataSetImageCache {
 
         private Bitmap[] circleBitmaps;
 
         /**
-         * Sets up the cache, returns true if a change of cache was required.
+         * the styling the sprites were looked up for
+         */
+        private int[] mColors = new int[0];
+        private float mRadius;
+        private float mHoleRadius;
+        private int mHoleColor;
+
+        /**
+         * Sets up the cache, returns true if the styling of the DataSet changed and the sprites
+         * need to be looked up again.
          *
          * @param set
+         * @param drawCircleHole
          * @return
          */
-        protected boolean init(ILineDataSet set) {
+        protected boolean init(ILineDataSet set, boolean drawCircleHole) {
 
-            int size = set.getCircleColorCount();
-            boolean changeRequired = false;
+            final int size = set.getCircleColorCount();
+            final float holeRadius = drawCircleHole ? set.getCircleHoleRadius() : 0f;
 
-            if (circleBitmaps == null) {
-                circleBitmaps = new Bitmap[size];
-                changeRequired = true;
-            } else if (circleBitmaps.length != size) {
+            boolean changeRequired = circleBitmaps == null
+                    || circleBitmaps.length != size
+                    || mRadius != set.getCircleRadius()
+                    || mHoleRadius != holeRadius
+                    || mHoleColor != set.getCircleHoleColor();
+
+            for (int i = 0; !changeRequired && i < size; i++)
+                changeRequired = mColors[i] != set.getCircleColor(i);
+
+            if (changeRequired && (circleBitmaps == null || circleBitmaps.length != size)) {
                 circleBitmaps = new Bitmap[size];
-                changeRequired = true;
+                mColors = new int[size];
             }
 
             return changeRequired;
         }
 
         /**
-         * Fills the cache with bitmaps for the given dataset.
+         * Fills the cache with the sprites of the given dataset from the shared
+         * CircleSpriteCache.
          *
          * @param set
          * @param drawCircleHole
-         * @param drawTransparentCircleHole
          */
-        protected void fill(ILineDataSet set, boolean drawCircleHole, boolean drawTransparentCircleHole) {
-
-            int colorCount = set.getCircleColorCount();
-            float circleRadius = set.getCircleRadius();
-            float circleHoleRadius = set.getCircleHoleRadius();
-
-            for (int i = 0; i < colorCount; i++) {
-
-                Bitmap.Config conf = Bitmap.Config.ARGB_4444;
-                Bitmap circleBitmap = Bitmap.createBitmap((int) (circleRadius * 2.1), (int) (circleRadius * 2.1), conf);
-
-                Canvas canvas = new Canvas(circleBitmap);
-                circleBitmaps[i] = circleBitmap;
-                mRenderPaint.setColor(set.getCircleColor(i));
+        protected void fill(ILineDataSet set, boolean drawCircleHole) {
 
-                if (drawTransparentCircleHole) {
-                    // Begin path for circle with hole
-                    mCirclePathBuffer.reset();
+            mRadius = set.getCircleRadius();
+            mHoleRadius = drawCircleHole ? set.getCircleHoleRadius() : 0f;
+            mHoleColor = set.getCircleHoleColor();
 
-                    mCirclePathBuffer.addCircle(
-                            circleRadius,
-                            circleRadius,
-                            circleRadius,
-                            Path.Direction.CW);
+            CircleSpriteCache sprites = CircleSpriteCache.getInstance();
 
-                    // Cut hole in path
-                    mCirclePathBuffer.addCircle(
-                            circleRadius,
-                            circleRadius,
-                            circleHoleRadius,
-                            Path.Direction.CCW);
-
-                    // Fill in-between
-                    canvas.drawPath(mCirclePathBuffer, mRenderPaint);
-                } else {
-
-                    canvas.drawCircle(
-                            circleRadius,
-                            circleRadius,
-                            circleRadius,
-                            mRenderPaint);
-
-                    if (drawCircleHole) {
-                        canvas.drawCircle(
-                                circleRadius,
-                                circleRadius,
-                                circleHoleRadius,
-                                mCirclePaintInner);
-                    }
-                }
+            for (int i = 0; i < circleBitmaps.length; i++) {
+                mColors[i] = set.getCircleColor(i);
+                circleBitmaps[i] = sprites.get(mRadius, mHoleRadius, mColors[i], mHoleColor);
             }
         }
 
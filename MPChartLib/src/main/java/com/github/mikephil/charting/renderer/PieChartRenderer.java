@@ -24,12 +24,12 @@ import com.github.mikephil.charting.data.PieEntry;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
-import java.lang.ref.WeakReference;
 import java.util.List;
 
 public class PieChartRenderer extends DataRenderer {
@@ -61,9 +61,9 @@ public class PieChartRenderer extends DataRenderer {
     private RectF[] mRectBuffer = {new RectF(), new RectF(), new RectF()};
 
     /**
-     * Bitmap for drawing the center hole
+     * Bitmap for drawing the center hole, taken from the BitmapPool
      */
-    protected WeakReference<Bitmap> mDrawBitmap;
+    protected Bitmap mDrawBitmap;
 
     protected Canvas mBitmapCanvas;
 
@@ -125,22 +125,21 @@ public class PieChartRenderer extends DataRenderer {
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
-        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+        if (mDrawBitmap == null
+                || mDrawBitmap.getWidth() < width
+                || mDrawBitmap.getHeight() < height) {
 
-        if (drawBitmap == null
-                || (drawBitmap.getWidth() != width)
-                || (drawBitmap.getHeight() != height)) {
+            releaseBitmap();
 
             if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_4444);
-                mDrawBitmap = new WeakReference<>(drawBitmap);
-                mBitmapCanvas = new Canvas(drawBitmap);
+                mDrawBitmap = BitmapPool.getInstance().acquire(width, height, Bitmap.Config.ARGB_4444);
+                mBitmapCanvas = new Canvas(mDrawBitmap);
             } else
                 return;
+        } else {
+            mDrawBitmap.eraseColor(Color.TRANSPARENT);
         }
 
-        drawBitmap.eraseColor(Color.TRANSPARENT);
-
         PieData pieData = mChart.getData();
 
         for (IPieDataSet set : pieData.getDataSets()) {
@@ -234,13 +233,7 @@ public class PieChartRenderer extends DataRenderer {
         final RectF roundedCircleBox = new RectF();
         final boolean drawRoundedSlices = drawInnerArc && mChart.isDrawRoundedSlicesEnabled();
 
-        int visibleAngleCount = 0;
-        for (int j = 0; j < entryCount; j++) {
-            // draw only if the value is greater than zero
-            if ((Math.abs(dataSet.getEntryForIndex(j).getY()) > Utils.FLOAT_EPSILON)) {
-                visibleAngleCount++;
-            }
-        }
+        final int visibleAngleCount = getVisibleSliceCount(dataSet);
 
         final float sliceSpace = visibleAngleCount <= 1 ? 0.f : getSliceSpace(dataSet);
 
@@ -671,7 +664,10 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawExtras(Canvas c) {
         drawHole(c);
-        c.drawBitmap(mDrawBitmap.get(), 0, 0, null);
+
+        if (mDrawBitmap != null)
+            c.drawBitmap(mDrawBitmap, 0, 0, null);
+
         drawCenterText(c);
     }
 
@@ -792,6 +788,32 @@ public class PieChartRenderer extends DataRenderer {
     }
 
     protected RectF mDrawHighlightedRectF = new RectF();
+
+    /**
+     * Returns the number of slices of the given DataSet whose value is not 0. Taken from the
+     * angle calculation of the chart if it only has this DataSet, else counted.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected int getVisibleSliceCount(IPieDataSet dataSet) {
+
+        if (mChart.getData().getDataSetCount() == 1)
+            return mChart.getVisibleSliceCount();
+
+        final int entryCount = dataSet.getEntryCount();
+        int visibleAngleCount = 0;
+
+        for (int j = 0; j < entryCount; j++) {
+            // draw only if the value is greater than zero
+            if ((Math.abs(dataSet.getEntryForIndex(j).getY()) > Utils.FLOAT_EPSILON)) {
+                visibleAngleCount++;
+            }
+        }
+
+        return visibleAngleCount;
+    }
+
     @Override
     public void drawHighlighted(Canvas c, Highlight[] indices) {
 
@@ -835,14 +857,7 @@ public class PieChartRenderer extends DataRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            final int entryCount = set.getEntryCount();
-            int visibleAngleCount = 0;
-            for (int j = 0; j < entryCount; j++) {
-                // draw only if the value is greater than zero
-                if ((Math.abs(set.getEntryForIndex(j).getY()) > Utils.FLOAT_EPSILON)) {
-                    visibleAngleCount++;
-                }
-            }
+            final int visibleAngleCount = getVisibleSliceCount(set);
 
             if (index == 0)
                 angle = 0.f;
@@ -1048,7 +1063,7 @@ public class PieChartRenderer extends DataRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
+     * Returns the drawing bitmap to the BitmapPool. This should be called when {@link LineChart#onDetachedFromWindow()}.
      */
     public void releaseBitmap() {
         if (mBitmapCanvas != null) {
@@ -1056,11 +1071,7 @@ public class PieChartRenderer extends DataRenderer {
             mBitmapCanvas = null;
         }
         if (mDrawBitmap != null) {
-            Bitmap drawBitmap = mDrawBitmap.get();
-            if (drawBitmap != null) {
-                drawBitmap.recycle();
-            }
-            mDrawBitmap.clear();
+            BitmapPool.getInstance().release(mDrawBitmap);
             mDrawBitmap = null;
         }
     }
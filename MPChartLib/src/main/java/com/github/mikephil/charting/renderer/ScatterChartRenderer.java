@@ -10,14 +10,18 @@ import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.renderer.scatter.IBatchShapeRenderer;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.PixelCache;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.HashMap;
 import java.util.List;
 
 public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
@@ -31,6 +35,14 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
     @Override
     public void initBuffers() {
+        mPixelCaches.clear();
+        mValuePixelCaches.clear();
+    }
+
+    @Override
+    public void onContentInvalidated() {
+        PixelCache.invalidateAll(mPixelCaches);
+        PixelCache.invalidateAll(mValuePixelCaches);
     }
 
     @Override
@@ -45,7 +57,17 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
-    float[] mPixelBuffer = new float[2];
+    /**
+     * the transformed positions of the visible entries of each DataSet, reused on the next frame
+     * if nothing moved
+     */
+    private HashMap<IDataSet<?>, PixelCache> mPixelCaches = new HashMap<>();
+
+    /**
+     * the transformed positions of the value labels of each DataSet, reused on the next frame
+     * if nothing moved
+     */
+    private HashMap<IDataSet<?>, PixelCache> mValuePixelCaches = new HashMap<>();
 
     protected void drawDataSet(Canvas c, IScatterDataSet dataSet) {
 
@@ -64,32 +86,100 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             return;
         }
 
-        int max = (int)(Math.min(
-                Math.ceil((float)dataSet.getEntryCount() * mAnimator.getPhaseX()),
-                (float)dataSet.getEntryCount()));
+        // only the visible entries are looked at
+        mXBounds.set(mChart, dataSet);
+
+        final int last = mXBounds.min + mXBounds.range;
+
+        PixelCache pixelCache = PixelCache.get(mPixelCaches, dataSet);
+
+        final float[] positions;
+
+        if (pixelCache.isValid(dataSet, trans, mXBounds.min, last, 0, phaseY)) {
+            positions = pixelCache.getPoints();
+        } else {
+
+            final int pointCount = mXBounds.range + 1;
+
+            // transform all visible positions at once
+            positions = pixelCache.getPoints(pointCount * 2);
+            dataSet.copyPixelXY(mXBounds.min, last + 1, positions, 0, phaseY, trans);
+            pixelCache.setPointCount(pointCount);
+        }
+
+        // shapes that can be batched are collected per color and drawn with a few calls
+        final IBatchShapeRenderer batchRenderer = renderer instanceof IBatchShapeRenderer
+                ? (IBatchShapeRenderer) renderer : null;
 
-        for (int i = 0; i < max; i++) {
+        if (batchRenderer != null && mBatchBuffer.length < (mXBounds.range + 1) * 2)
+            mBatchBuffer = new float[(mXBounds.range + 1) * 2];
 
-            Entry e = dataSet.getEntryForIndex(i);
+        final float[] batch = mBatchBuffer;
+        int batchCount = 0;
+        int batchColor = 0;
 
-            mPixelBuffer[0] = e.getX();
-            mPixelBuffer[1] = e.getY() * phaseY;
+        // the pixel and color of the last drawn shape
+        int lastPixelX = Integer.MIN_VALUE;
+        int lastPixelY = Integer.MIN_VALUE;
+        int lastColor = 0;
 
-            trans.pointValuesToPixel(mPixelBuffer);
+        for (int i = mXBounds.min, p = 0; i <= last; i++, p += 2) {
 
-            if (!viewPortHandler.isInBoundsRight(mPixelBuffer[0]))
+            final float x = positions[p];
+            final float y = positions[p + 1];
+
+            if (!viewPortHandler.isInBoundsRight(x))
                 break;
 
-            if (!viewPortHandler.isInBoundsLeft(mPixelBuffer[0])
-                    || !viewPortHandler.isInBoundsY(mPixelBuffer[1]))
+            if (!viewPortHandler.isInBoundsLeft(x)
+                    || !viewPortHandler.isInBoundsY(y))
+                continue;
+
+            final int color = dataSet.getColor(i / 2);
+
+            // the same shape on the same pixel would not change anything
+            if ((int) x == lastPixelX && (int) y == lastPixelY && color == lastColor)
                 continue;
 
-            mRenderPaint.setColor(dataSet.getColor(i / 2));
+            lastPixelX = (int) x;
+            lastPixelY = (int) y;
+            lastColor = color;
+
+            if (batchRenderer != null) {
+
+                if (color != batchColor && batchCount > 0) {
+                    drawBatch(c, dataSet, batchRenderer, batch, batchCount, batchColor);
+                    batchCount = 0;
+                }
+
+                batch[batchCount * 2] = x;
+                batch[batchCount * 2 + 1] = y;
+                batchCount++;
+                batchColor = color;
+                continue;
+            }
+
+            mRenderPaint.setColor(color);
             renderer.renderShape(
                     c, dataSet, mViewPortHandler,
-                    mPixelBuffer[0], mPixelBuffer[1],
+                    x, y,
                     mRenderPaint);
         }
+
+        if (batchCount > 0)
+            drawBatch(c, dataSet, batchRenderer, batch, batchCount, batchColor);
+    }
+
+    /**
+     * the positions of the shapes of the current batch, reused
+     */
+    private float[] mBatchBuffer = new float[0];
+
+    private void drawBatch(Canvas c, IScatterDataSet dataSet, IBatchShapeRenderer renderer,
+                           float[] positions, int count, int color) {
+
+        mRenderPaint.setColor(color);
+        renderer.renderShapes(c, dataSet, mViewPortHandler, positions, count, mRenderPaint);
     }
 
     @Override
@@ -112,9 +202,19 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
                 mXBounds.set(mChart, dataSet);
 
-                float[] positions = mChart.getTransformer(dataSet.getAxisDependency())
-                        .generateTransformedValuesScatter(dataSet,
-                                mAnimator.getPhaseX(), mAnimator.getPhaseY(), mXBounds.min, mXBounds.max);
+                final Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+                final float phaseX = mAnimator.getPhaseX();
+                final float phaseY = mAnimator.getPhaseY();
+                final int last = mXBounds.min + (int) ((mXBounds.max - mXBounds.min) * phaseX);
+
+                final PixelCache valueCache = PixelCache.get(mValuePixelCaches, dataSet);
+
+                if (!valueCache.isValid(dataSet, trans, mXBounds.min, last, 0, phaseY))
+                    valueCache.setPoints(trans.generateTransformedValuesScatter(dataSet, phaseX, phaseY,
+                            mXBounds.min, mXBounds.max));
+
+                final float[] positions = valueCache.getPoints();
+                final int positionCount = valueCache.getPointCount() * 2;
 
                 float shapeSize = Utils.convertDpToPixel(dataSet.getScatterShapeSize());
 
@@ -124,7 +224,7 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < positionCount; j += 2) {
 
                     if (!mViewPortHandler.isInBoundsRight(positions[j]))
                         break;
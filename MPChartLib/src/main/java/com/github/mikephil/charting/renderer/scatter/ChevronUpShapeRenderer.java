@@ -11,7 +11,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class ChevronUpShapeRenderer implements IShapeRenderer
+public class ChevronUpShapeRenderer implements IBatchShapeRenderer
 {
 
 
@@ -39,4 +39,42 @@ public class ChevronUpShapeRenderer implements IShapeRenderer
                 renderPaint);
 
     }
+
+    /**
+     * buffer for the lines of all shapes of a batch, 2 lines (8 floats) per shape
+     */
+    protected float[] mLinesBuffer = new float[0];
+
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] pixelXY, int count, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+
+        if (mLinesBuffer.length < count * 8)
+            mLinesBuffer = new float[count * 8];
+
+        final float[] lines = mLinesBuffer;
+
+        for (int i = 0, j = 0; i < count; i++) {
+
+            final float x = pixelXY[i * 2];
+            final float y = pixelXY[i * 2 + 1];
+
+            lines[j++] = x;
+            lines[j++] = y - shapeSize;
+            lines[j++] = x + shapeSize;
+            lines[j++] = y;
+
+            lines[j++] = x;
+            lines[j++] = y - shapeSize;
+            lines[j++] = x - shapeSize;
+            lines[j++] = y;
+        }
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
+
+        c.drawLines(lines, 0, count * 8, renderPaint);
+    }
 }
@@ -0,0 +1,32 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * IShapeRenderer that can also draw the shapes of many points at once, with a few draw calls
+ * over all of them (drawPoints, drawLines or one combined Path) instead of several per point.
+ * The ScatterChartRenderer draws all consecutive points of the same color with one call.
+ * All built-in shapes implement it.
+ */
+public interface IBatchShapeRenderer extends IShapeRenderer
+{
+
+    /**
+     * Renders the shapes at all of the given positions. Shapes with a hole draw all outlines
+     * first and all holes afterwards.
+     *
+     * @param c               Canvas object for drawing the shapes
+     * @param dataSet         The DataSet to be drawn
+     * @param viewPortHandler Contains information about the current state of the view
+     * @param pixelXY         Positions to draw the shapes at, order: x,y,x,y,...
+     * @param count           The number of positions (x,y pairs) to draw
+     * @param renderPaint     Paint object used for styling and drawing, already set to the
+     *                        color of the shapes
+     */
+    void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                      float[] pixelXY, int count, Paint renderPaint);
+}
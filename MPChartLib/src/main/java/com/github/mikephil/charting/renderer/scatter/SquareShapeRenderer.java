@@ -2,6 +2,7 @@ package com.github.mikephil.charting.renderer.scatter;
 
 import android.graphics.Canvas;
 import android.graphics.Paint;
+import android.graphics.Path;
 
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
@@ -12,7 +13,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class SquareShapeRenderer implements IShapeRenderer
+public class SquareShapeRenderer implements IBatchShapeRenderer
 {
 
 
@@ -60,4 +61,73 @@ public class SquareShapeRenderer implements IShapeRenderer
                     renderPaint);
         }
     }
+
+    /**
+     * the outlines of all shapes of a batch
+     */
+    protected Path mOutlinesBuffer = new Path();
+
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] pixelXY, int count, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHoleSizeHalf = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius());
+        final float shapeHoleSize = shapeHoleSizeHalf * 2.f;
+        final float shapeStrokeSize = (shapeSize - shapeHoleSize) / 2.f;
+        final float shapeStrokeSizeHalf = shapeStrokeSize / 2.f;
+
+        final int shapeHoleColor = dataSet.getScatterShapeHoleColor();
+
+        if (shapeSize <= 0.0 || count == 0)
+            return;
+
+        if (shapeHoleSizeHalf <= 0.f) {
+
+            // without a hole, the outline covers the whole square
+            drawSquares(c, pixelXY, count, shapeSize, renderPaint);
+            return;
+        }
+
+        final float outlineHalf = shapeHoleSizeHalf + shapeStrokeSizeHalf;
+
+        Path outlines = mOutlinesBuffer;
+        outlines.reset();
+
+        for (int i = 0; i < count; i++) {
+
+            final float x = pixelXY[i * 2];
+            final float y = pixelXY[i * 2 + 1];
+
+            outlines.addRect(x - outlineHalf, y - outlineHalf, x + outlineHalf, y + outlineHalf,
+                    Path.Direction.CW);
+        }
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(shapeStrokeSize);
+
+        c.drawPath(outlines, renderPaint);
+        outlines.reset();
+
+        if (shapeHoleColor != ColorTemplate.COLOR_NONE) {
+            renderPaint.setColor(shapeHoleColor);
+            drawSquares(c, pixelXY, count, shapeHoleSize, renderPaint);
+        }
+    }
+
+    /**
+     * Draws filled squares of the given size at all given positions with a single call.
+     */
+    private void drawSquares(Canvas c, float[] pixelXY, int count, float size, Paint renderPaint) {
+
+        final Paint.Cap cap = renderPaint.getStrokeCap();
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeCap(Paint.Cap.SQUARE);
+        renderPaint.setStrokeWidth(size);
+
+        c.drawPoints(pixelXY, 0, count * 2, renderPaint);
+
+        renderPaint.setStrokeCap(cap);
+    }
 }
@@ -13,7 +13,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class TriangleShapeRenderer implements IShapeRenderer
+public class TriangleShapeRenderer implements IBatchShapeRenderer
 {
 
     protected Path mTrianglePathBuffer = new Path();
@@ -77,4 +77,76 @@ public class TriangleShapeRenderer implements IShapeRenderer
 
     }
 
-}
\ No newline at end of file
+    /**
+     * the holes of all shapes of a batch
+     */
+    protected Path mHolesPathBuffer = new Path();
+
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] pixelXY, int count, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHalf = shapeSize / 2f;
+        final float shapeHoleSizeHalf = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius());
+        final float shapeHoleSize = shapeHoleSizeHalf * 2.f;
+        final float shapeStrokeSize = (shapeSize - shapeHoleSize) / 2.f;
+
+        final int shapeHoleColor = dataSet.getScatterShapeHoleColor();
+        final boolean drawHoles = shapeSize > 0.0 && shapeHoleColor != ColorTemplate.COLOR_NONE;
+
+        // all triangles (and their holes) in one path each
+        Path tri = mTrianglePathBuffer;
+        Path holes = mHolesPathBuffer;
+        tri.reset();
+        holes.reset();
+
+        for (int i = 0; i < count; i++) {
+
+            final float posX = pixelXY[i * 2];
+            final float posY = pixelXY[i * 2 + 1];
+
+            tri.moveTo(posX, posY - shapeHalf);
+            tri.lineTo(posX + shapeHalf, posY + shapeHalf);
+            tri.lineTo(posX - shapeHalf, posY + shapeHalf);
+
+            if (shapeSize > 0.0) {
+                tri.lineTo(posX, posY - shapeHalf);
+
+                tri.moveTo(posX - shapeHalf + shapeStrokeSize,
+                        posY + shapeHalf - shapeStrokeSize);
+                tri.lineTo(posX + shapeHalf - shapeStrokeSize,
+                        posY + shapeHalf - shapeStrokeSize);
+                tri.lineTo(posX,
+                        posY - shapeHalf + shapeStrokeSize);
+                tri.lineTo(posX - shapeHalf + shapeStrokeSize,
+                        posY + shapeHalf - shapeStrokeSize);
+            }
+
+            tri.close();
+
+            if (drawHoles) {
+                holes.moveTo(posX,
+                        posY - shapeHalf + shapeStrokeSize);
+                holes.lineTo(posX + shapeHalf - shapeStrokeSize,
+                        posY + shapeHalf - shapeStrokeSize);
+                holes.lineTo(posX - shapeHalf + shapeStrokeSize,
+                        posY + shapeHalf - shapeStrokeSize);
+                holes.close();
+            }
+        }
+
+        renderPaint.setStyle(Paint.Style.FILL);
+
+        c.drawPath(tri, renderPaint);
+        tri.reset();
+
+        if (drawHoles) {
+
+            renderPaint.setColor(shapeHoleColor);
+
+            c.drawPath(holes, renderPaint);
+            holes.reset();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Matrix;
+import android.graphics.RectF;
+
+/**
+ * Transformation of the form x' = x * scaleX + transX, y' = y * scaleY + transY, which is all
+ * the value, touch and offset matrices of a chart ever contain. The values are kept as doubles
+ * and points are mapped in plain Java, without a JNI call into android.graphics.Matrix. The
+ * results are equal to those of the Matrix within float precision.
+ */
+public class AffineTransform {
+
+    private double mScaleX = 1.0;
+    private double mScaleY = 1.0;
+    private double mTransX = 0.0;
+    private double mTransY = 0.0;
+
+    public AffineTransform() {
+    }
+
+    public AffineTransform(double scaleX, double scaleY, double transX, double transY) {
+        set(scaleX, scaleY, transX, transY);
+    }
+
+    public void set(double scaleX, double scaleY, double transX, double transY) {
+        mScaleX = scaleX;
+        mScaleY = scaleY;
+        mTransX = transX;
+        mTransY = transY;
+    }
+
+    public void set(AffineTransform other) {
+        set(other.mScaleX, other.mScaleY, other.mTransX, other.mTransY);
+    }
+
+    public void reset() {
+        set(1.0, 1.0, 0.0, 0.0);
+    }
+
+    /**
+     * Sets this transformation to the given matrix. Returns false (and leaves this
+     * transformation unchanged) if the matrix skews, rotates or has a perspective, which can not
+     * be represented.
+     *
+     * @param matrix
+     * @param valuesBuffer buffer for the 9 matrix values
+     * @return
+     */
+    public boolean set(Matrix matrix, float[] valuesBuffer) {
+
+        matrix.getValues(valuesBuffer);
+
+        if (valuesBuffer[Matrix.MSKEW_X] != 0f
+                || valuesBuffer[Matrix.MSKEW_Y] != 0f
+                || valuesBuffer[Matrix.MPERSP_0] != 0f
+                || valuesBuffer[Matrix.MPERSP_1] != 0f
+                || valuesBuffer[Matrix.MPERSP_2] != 1f)
+            return false;
+
+        set(valuesBuffer[Matrix.MSCALE_X], valuesBuffer[Matrix.MSCALE_Y],
+                valuesBuffer[Matrix.MTRANS_X], valuesBuffer[Matrix.MTRANS_Y]);
+
+        return true;
+    }
+
+    public double getScaleX() {
+        return mScaleX;
+    }
+
+    public double getScaleY() {
+        return mScaleY;
+    }
+
+    public double getTransX() {
+        return mTransX;
+    }
+
+    public double getTransY() {
+        return mTransY;
+    }
+
+    /**
+     * Appends a translation, like Matrix.postTranslate(...).
+     *
+     * @param dx
+     * @param dy
+     */
+    public void postTranslate(double dx, double dy) {
+        mTransX += dx;
+        mTransY += dy;
+    }
+
+    /**
+     * Appends a scale around the origin, like Matrix.postScale(...).
+     *
+     * @param sx
+     * @param sy
+     */
+    public void postScale(double sx, double sy) {
+        mScaleX *= sx;
+        mScaleY *= sy;
+        mTransX *= sx;
+        mTransY *= sy;
+    }
+
+    /**
+     * Appends the given transformation, like Matrix.postConcat(...): the result first applies
+     * this transformation and then the given one.
+     *
+     * @param other
+     */
+    public void postConcat(AffineTransform other) {
+        mScaleX *= other.mScaleX;
+        mScaleY *= other.mScaleY;
+        mTransX = mTransX * other.mScaleX + other.mTransX;
+        mTransY = mTransY * other.mScaleY + other.mTransY;
+    }
+
+    /**
+     * Writes the inverse of this transformation into the given one. Returns false if this
+     * transformation can not be inverted (a scale is 0).
+     *
+     * @param inverse
+     * @return
+     */
+    public boolean invert(AffineTransform inverse) {
+
+        if (mScaleX == 0.0 || mScaleY == 0.0)
+            return false;
+
+        inverse.set(1.0 / mScaleX, 1.0 / mScaleY, -mTransX / mScaleX, -mTransY / mScaleY);
+        return true;
+    }
+
+    public double mapX(double x) {
+        return x * mScaleX + mTransX;
+    }
+
+    public double mapY(double y) {
+        return y * mScaleY + mTransY;
+    }
+
+    /**
+     * Maps the given points (x,y,x,y,...) in place.
+     *
+     * @param pts
+     */
+    public void mapPoints(float[] pts) {
+        mapPoints(pts, 0, pts.length / 2);
+    }
+
+    /**
+     * Maps a part of the given points (x,y,x,y,...) in place.
+     *
+     * @param pts
+     * @param offset     the index of the first value to map
+     * @param pointCount the number of points (x,y pairs) to map
+     */
+    public void mapPoints(float[] pts, int offset, int pointCount) {
+
+        final double sx = mScaleX, sy = mScaleY, tx = mTransX, ty = mTransY;
+        final int end = offset + pointCount * 2;
+
+        for (int i = offset; i < end; i += 2) {
+            pts[i] = (float) (pts[i] * sx + tx);
+            pts[i + 1] = (float) (pts[i + 1] * sy + ty);
+        }
+    }
+
+    /**
+     * Maps an array that only contains x-values in place.
+     *
+     * @param xs
+     * @param offset
+     * @param count
+     */
+    public void mapXValues(float[] xs, int offset, int count) {
+
+        final double sx = mScaleX, tx = mTransX;
+        final int end = offset + count;
+
+        for (int i = offset; i < end; i++)
+            xs[i] = (float) (xs[i] * sx + tx);
+    }
+
+    /**
+     * Maps an array that only contains y-values in place.
+     *
+     * @param ys
+     * @param offset
+     * @param count
+     */
+    public void mapYValues(float[] ys, int offset, int count) {
+
+        final double sy = mScaleY, ty = mTransY;
+        final int end = offset + count;
+
+        for (int i = offset; i < end; i++)
+            ys[i] = (float) (ys[i] * sy + ty);
+    }
+
+    /**
+     * Maps the given rect in place, left/right and top/bottom are swapped if a scale is negative.
+     *
+     * @param r
+     */
+    public void mapRect(RectF r) {
+
+        final float left = (float) mapX(r.left);
+        final float right = (float) mapX(r.right);
+        final float top = (float) mapY(r.top);
+        final float bottom = (float) mapY(r.bottom);
+
+        r.left = Math.min(left, right);
+        r.right = Math.max(left, right);
+        r.top = Math.min(top, bottom);
+        r.bottom = Math.max(top, bottom);
+    }
+
+    @Override
+    public String toString() {
+        return "AffineTransform, scale: " + mScaleX + ", " + mScaleY
+                + ", translation: " + mTransX + ", " + mTransY;
+    }
+}
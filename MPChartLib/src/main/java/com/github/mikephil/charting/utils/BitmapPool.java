@@ -0,0 +1,223 @@
+package com.github.mikephil.charting.utils;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import java.util.ArrayList;
+
+/**
+ * Pool of offscreen bitmaps shared by all charts. Bitmap sizes are rounded up to buckets, so
+ * charts of similar size (e.g. the rows of a list) reuse each other's bitmaps instead of
+ * allocating new ones. Bitmaps that are released are kept in the pool up to a maximum number of
+ * bytes, the oldest ones are recycled first. The pool is emptied when the system asks to trim
+ * memory, charts register the pool for that automatically.
+ */
+public class BitmapPool {
+
+    /**
+     * bitmap sizes are rounded up to a multiple of this
+     */
+    private static final int BUCKET_SIZE = 64;
+
+    private static final BitmapPool sInstance = new BitmapPool(16 * 1024 * 1024);
+
+    /**
+     * Returns the pool that is shared by all charts.
+     *
+     * @return
+     */
+    public static BitmapPool getInstance() {
+        return sInstance;
+    }
+
+    /**
+     * the bitmaps that are currently not in use, oldest first
+     */
+    private final ArrayList<Bitmap> mPooled = new ArrayList<>();
+
+    private long mMaxPooledBytes;
+
+    private long mPooledBytes = 0;
+
+    private long mAcquiredBytes = 0;
+
+    private boolean mRegistered = false;
+
+    public BitmapPool(long maxPooledBytes) {
+        mMaxPooledBytes = maxPooledBytes;
+    }
+
+    /**
+     * Registers this pool for onTrimMemory(...) callbacks of the application of the given
+     * context. Only the first call has an effect.
+     *
+     * @param context
+     */
+    public synchronized void register(Context context) {
+
+        if (mRegistered || context == null)
+            return;
+
+        Context application = context.getApplicationContext();
+
+        if (application == null)
+            return;
+
+        application.registerComponentCallbacks(new ComponentCallbacks2() {
+
+            @Override
+            public void onTrimMemory(int level) {
+                BitmapPool.this.onTrimMemory(level);
+            }
+
+            @Override
+            public void onConfigurationChanged(Configuration newConfig) {
+            }
+
+            @Override
+            public void onLowMemory() {
+                clear();
+            }
+        });
+
+        mRegistered = true;
+    }
+
+    /**
+     * Returns a transparent bitmap that is at least of the given size. Return it with
+     * release(...) once it is not needed anymore.
+     *
+     * @param width
+     * @param height
+     * @param config
+     * @return
+     */
+    public synchronized Bitmap acquire(int width, int height, Bitmap.Config config) {
+
+        final int bucketWidth = bucket(width);
+        final int bucketHeight = bucket(height);
+
+        Bitmap bitmap = null;
+
+        // the most recently released bitmap first
+        for (int i = mPooled.size() - 1; i >= 0; i--) {
+
+            Bitmap pooled = mPooled.get(i);
+
+            if (pooled.getWidth() == bucketWidth
+                    && pooled.getHeight() == bucketHeight
+                    && pooled.getConfig() == config) {
+
+                bitmap = mPooled.remove(i);
+                mPooledBytes -= bitmap.getByteCount();
+                bitmap.eraseColor(Color.TRANSPARENT);
+                break;
+            }
+        }
+
+        if (bitmap == null)
+            bitmap = Bitmap.createBitmap(bucketWidth, bucketHeight, config);
+
+        mAcquiredBytes += bitmap.getByteCount();
+
+        return bitmap;
+    }
+
+    /**
+     * Returns the given bitmap (acquired with acquire(...)) to the pool.
+     *
+     * @param bitmap
+     */
+    public synchronized void release(Bitmap bitmap) {
+
+        if (bitmap == null)
+            return;
+
+        final int bytes = bitmap.getByteCount();
+
+        mAcquiredBytes -= bytes;
+
+        if (bitmap.isRecycled() || !bitmap.isMutable())
+            return;
+
+        if (bytes > mMaxPooledBytes) {
+            bitmap.recycle();
+            return;
+        }
+
+        mPooled.add(bitmap);
+        mPooledBytes += bytes;
+
+        trimTo(mMaxPooledBytes);
+    }
+
+    /**
+     * Sets the maximum number of bytes the bitmaps that are not in use may take up.
+     *
+     * @param bytes
+     */
+    public synchronized void setMaxPooledBytes(long bytes) {
+        mMaxPooledBytes = bytes;
+        trimTo(bytes);
+    }
+
+    public synchronized long getMaxPooledBytes() {
+        return mMaxPooledBytes;
+    }
+
+    /**
+     * Returns the number of bytes of the bitmaps that are kept for reuse.
+     *
+     * @return
+     */
+    public synchronized long getPooledBytes() {
+        return mPooledBytes;
+    }
+
+    /**
+     * Returns the number of bytes of the bitmaps that are currently in use by charts.
+     *
+     * @return
+     */
+    public synchronized long getAcquiredBytes() {
+        return mAcquiredBytes;
+    }
+
+    /**
+     * Releases the pooled bitmaps according to the given level of ComponentCallbacks2.
+     *
+     * @param level
+     */
+    public synchronized void onTrimMemory(int level) {
+
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE
+                || level == ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN)
+            clear();
+        else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+            trimTo(mPooledBytes / 2);
+    }
+
+    /**
+     * Recycles all bitmaps that are not in use.
+     */
+    public synchronized void clear() {
+        trimTo(0);
+    }
+
+    private void trimTo(long bytes) {
+
+        while (mPooledBytes > bytes && !mPooled.isEmpty()) {
+
+            Bitmap bitmap = mPooled.remove(0);
+            mPooledBytes -= bitmap.getByteCount();
+            bitmap.recycle();
+        }
+    }
+
+    private static int bucket(int size) {
+        return (Math.max(size, 1) + BUCKET_SIZE - 1) / BUCKET_SIZE * BUCKET_SIZE;
+    }
+}
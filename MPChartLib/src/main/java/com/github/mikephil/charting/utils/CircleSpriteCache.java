@@ -0,0 +1,202 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide cache of the bitmaps ("sprites") of the circles drawn at the entries of line
+ * charts. A sprite is identified by its radius and hole radius (both in pixels, so the screen
+ * density is part of them), its color and its hole color, so all DataSets and charts with the
+ * same styling share their sprites. The least recently used sprites are evicted once the cache
+ * exceeds its size. Evicted sprites are not recycled, as they may still be drawn by a chart,
+ * they are left to the garbage collector.
+ */
+public class CircleSpriteCache {
+
+    private static final CircleSpriteCache sInstance = new CircleSpriteCache(2 * 1024 * 1024);
+
+    /**
+     * Returns the cache that is shared by all charts.
+     *
+     * @return
+     */
+    public static CircleSpriteCache getInstance() {
+        return sInstance;
+    }
+
+    private final LinkedHashMap<Key, Bitmap> mSprites = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long mMaxBytes;
+
+    private long mBytes = 0;
+
+    private final Key mLookupKey = new Key();
+
+    private final Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    private final Path mPathBuffer = new Path();
+
+    public CircleSpriteCache(long maxBytes) {
+        mMaxBytes = maxBytes;
+        mPaint.setStyle(Paint.Style.FILL);
+    }
+
+    /**
+     * Returns the sprite of a circle with the given styling, it is created if it is not cached.
+     * The circle is centered at (radius, radius) of the returned bitmap.
+     *
+     * @param radius     the radius of the circle in pixels
+     * @param holeRadius the radius of the hole in pixels, 0 for no hole
+     * @param color      the color of the circle
+     * @param holeColor  the color of the hole, ColorTemplate.COLOR_NONE for a transparent hole
+     * @return
+     */
+    public synchronized Bitmap get(float radius, float holeRadius, int color, int holeColor) {
+
+        if (holeRadius <= 0f || holeRadius >= radius) {
+            holeRadius = 0f;
+            holeColor = 0;
+        }
+
+        mLookupKey.set(radius, holeRadius, color, holeColor);
+
+        Bitmap sprite = mSprites.get(mLookupKey);
+
+        if (sprite != null)
+            return sprite;
+
+        sprite = createSprite(radius, holeRadius, color, holeColor);
+
+        Key key = new Key();
+        key.set(radius, holeRadius, color, holeColor);
+
+        mSprites.put(key, sprite);
+        mBytes += sprite.getByteCount();
+
+        trimTo(mMaxBytes);
+
+        return sprite;
+    }
+
+    private Bitmap createSprite(float radius, float holeRadius, int color, int holeColor) {
+
+        final int size = Math.max((int) (radius * 2.1), 1);
+
+        Bitmap sprite = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_4444);
+        Canvas canvas = new Canvas(sprite);
+
+        mPaint.setColor(color);
+
+        if (holeRadius > 0f && holeColor == ColorTemplate.COLOR_NONE) {
+
+            // circle with a hole cut into it
+            mPathBuffer.reset();
+            mPathBuffer.addCircle(radius, radius, radius, Path.Direction.CW);
+            mPathBuffer.addCircle(radius, radius, holeRadius, Path.Direction.CCW);
+
+            canvas.drawPath(mPathBuffer, mPaint);
+            mPathBuffer.reset();
+
+        } else {
+
+            canvas.drawCircle(radius, radius, radius, mPaint);
+
+            if (holeRadius > 0f) {
+                mPaint.setColor(holeColor);
+                canvas.drawCircle(radius, radius, holeRadius, mPaint);
+            }
+        }
+
+        return sprite;
+    }
+
+    /**
+     * Sets the maximum number of bytes the cached sprites may take up.
+     *
+     * @param bytes
+     */
+    public synchronized void setMaxBytes(long bytes) {
+        mMaxBytes = bytes;
+        trimTo(bytes);
+    }
+
+    /**
+     * Returns the number of bytes of the cached sprites.
+     *
+     * @return
+     */
+    public synchronized long getBytes() {
+        return mBytes;
+    }
+
+    /**
+     * Returns the number of cached sprites.
+     *
+     * @return
+     */
+    public synchronized int size() {
+        return mSprites.size();
+    }
+
+    /**
+     * Removes all sprites from the cache.
+     */
+    public synchronized void clear() {
+        trimTo(0);
+    }
+
+    private void trimTo(long bytes) {
+
+        Iterator<Map.Entry<Key, Bitmap>> it = mSprites.entrySet().iterator();
+
+        // the least recently used first
+        while (mBytes > bytes && it.hasNext()) {
+            mBytes -= it.next().getValue().getByteCount();
+            it.remove();
+        }
+    }
+
+    private static class Key {
+
+        float radius;
+        float holeRadius;
+        int color;
+        int holeColor;
+
+        void set(float radius, float holeRadius, int color, int holeColor) {
+            this.radius = radius;
+            this.holeRadius = holeRadius;
+            this.color = color;
+            this.holeColor = holeColor;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof Key))
+                return false;
+
+            Key other = (Key) o;
+
+            return radius == other.radius
+                    && holeRadius == other.holeRadius
+                    && color == other.color
+                    && holeColor == other.holeColor;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Float.floatToIntBits(radius);
+            result = 31 * result + Float.floatToIntBits(holeRadius);
+            result = 31 * result + color;
+            result = 31 * result + holeColor;
+            return result;
+        }
+    }
+}
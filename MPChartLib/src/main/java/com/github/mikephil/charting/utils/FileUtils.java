@@ -1,20 +1,30 @@
 
 package com.github.mikephil.charting.utils;
 
+import android.content.res.AssetFileDescriptor;
 import android.content.res.AssetManager;
 import android.os.Environment;
 import android.util.Log;
 
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FloatColumns;
+import com.github.mikephil.charting.data.MappedColumns;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -28,6 +38,25 @@ public class FileUtils {
 
     private static final String LOG = "MPChart-FileUtils";
 
+    /**
+     * "MPCD", the first 4 bytes of the binary column format
+     */
+    private static final int BINARY_MAGIC = 0x4443504D;
+
+    private static final int BINARY_VERSION = 1;
+
+    /**
+     * magic, version, value size, column count (ints) and value count (long)
+     */
+    private static final int BINARY_HEADER_SIZE = 24;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
     /**
      * Loads a an Array of Entries from a textfile from the sd-card.
      * 
@@ -298,4 +327,397 @@ public class FileUtils {
         // DataSet ds = new DataSet(entries, label);
         // return ds;
     }
+
+    /**
+     * Loads the values of a textfile from the assets folder into the given columns, see
+     * parseColumns(...).
+     *
+     * @param am
+     * @param path    the name of the file in the assets folder (+ path if needed)
+     * @param columns
+     * @return the number of added values
+     */
+    public static int loadColumnsFromAssets(AssetManager am, String path, FloatColumns<?> columns) {
+
+        InputStream in = null;
+        try {
+            in = am.open(path, AssetManager.ACCESS_STREAMING);
+            return parseColumns(in, columns);
+
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+            return 0;
+
+        } finally {
+
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses the same "y#x" text format as loadEntriesFromAssets(...) and appends the values to
+     * the given columns. The bytes are parsed directly out of one buffer, no Strings or Entry
+     * objects are created, so this is much faster than loading Entries for large files. For lines
+     * with more than two values the first one is taken as y and the last one as x. Empty lines
+     * and lines without a number are skipped. The stream is not closed.
+     *
+     * @param in
+     * @param columns
+     * @return the number of added values
+     * @throws IOException
+     */
+    public static int parseColumns(InputStream in, FloatColumns<?> columns) throws IOException {
+
+        final byte[] buffer = new byte[BUFFER_SIZE];
+
+        int added = 0;
+
+        // state of the number that is currently parsed
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        int exponentValue = 0;
+        boolean negative = false;
+        boolean negativeExponent = false;
+        boolean fraction = false;
+        boolean inExponent = false;
+        boolean hasNumber = false;
+
+        // state of the current line
+        float y = 0f;
+        float last = 0f;
+        int values = 0;
+
+        int read;
+        boolean end = false;
+
+        while (!end) {
+
+            read = in.read(buffer);
+
+            if (read < 0) {
+                // terminate the last line
+                buffer[0] = '\n';
+                read = 1;
+                end = true;
+            }
+
+            for (int i = 0; i < read; i++) {
+
+                final byte b = buffer[i];
+
+                if (b >= '0' && b <= '9') {
+
+                    hasNumber = true;
+
+                    if (inExponent) {
+                        exponentValue = exponentValue * 10 + (b - '0');
+                    } else if (digits < 18) {
+                        if (mantissa != 0 || b != '0')
+                            digits++;
+                        mantissa = mantissa * 10 + (b - '0');
+                        if (fraction)
+                            exponent--;
+                    } else if (!fraction) {
+                        // precision beyond a long is dropped
+                        exponent++;
+                    }
+
+                } else if (b == '.') {
+                    fraction = true;
+                } else if (b == '-') {
+                    if (inExponent)
+                        negativeExponent = true;
+                    else
+                        negative = true;
+                } else if ((b == 'e' || b == 'E') && hasNumber) {
+                    inExponent = true;
+                } else if (b == '#' || b == '\n') {
+
+                    if (hasNumber) {
+
+                        last = toFloat(mantissa, exponent
+                                + (negativeExponent ? -exponentValue : exponentValue), negative);
+
+                        if (values == 0)
+                            y = last;
+
+                        values++;
+                    }
+
+                    mantissa = 0;
+                    digits = 0;
+                    exponent = 0;
+                    exponentValue = 0;
+                    negative = false;
+                    negativeExponent = false;
+                    fraction = false;
+                    inExponent = false;
+                    hasNumber = false;
+
+                    if (b == '\n') {
+
+                        if (values >= 2) {
+                            columns.add(last, y);
+                            added++;
+                        }
+
+                        values = 0;
+                    }
+                }
+                // everything else (whitespace, '+', '\r') is ignored
+            }
+        }
+
+        return added;
+    }
+
+    private static float toFloat(long mantissa, int exponent, boolean negative) {
+
+        double value = mantissa;
+
+        while (exponent > 22) {
+            value *= 1e22;
+            exponent -= 22;
+        }
+
+        while (exponent < -22) {
+            value /= 1e22;
+            exponent += 22;
+        }
+
+        if (exponent > 0)
+            value *= POWERS_OF_TEN[exponent];
+        else if (exponent < 0)
+            value /= POWERS_OF_TEN[-exponent];
+
+        return (float) (negative ? -value : value);
+    }
+
+    /**
+     * Writes the values of the given columns to a file in a binary format that can be
+     * memory-mapped with mapColumns(...): a 24 byte header followed by all x-values and then all
+     * y-values, everything little-endian.
+     *
+     * @param columns
+     * @param file
+     * @param doubles true to store the values as doubles, false for floats
+     * @return true if the file was written
+     */
+    public static boolean saveColumns(FloatColumns<?> columns, File file, boolean doubles) {
+
+        final int count = columns.size();
+        final int size = doubles ? 8 : 4;
+
+        FileOutputStream out = null;
+        try {
+            out = new FileOutputStream(file);
+            FileChannel channel = out.getChannel();
+
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(BINARY_MAGIC);
+            buffer.putInt(BINARY_VERSION);
+            buffer.putInt(size);
+            buffer.putInt(2);
+            buffer.putLong(count);
+
+            for (int column = 0; column < 2; column++) {
+
+                for (int i = 0; i < count; i++) {
+
+                    if (buffer.remaining() < size) {
+                        buffer.flip();
+                        while (buffer.hasRemaining())
+                            channel.write(buffer);
+                        buffer.clear();
+                    }
+
+                    final float value = column == 0 ? columns.getX(i) : columns.getY(i);
+
+                    if (doubles)
+                        buffer.putDouble(value);
+                    else
+                        buffer.putFloat(value);
+                }
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+
+            return true;
+
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+            return false;
+
+        } finally {
+
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Memory-maps a file written by saveColumns(...). The values are read from the mapped file
+     * by the returned columns whenever they are needed, so they are neither copied nor parsed
+     * and do not take up heap memory. Returns null if the file can not be read.
+     *
+     * @param file
+     * @return
+     */
+    public static MappedColumns mapColumns(File file) {
+
+        FileInputStream in = null;
+        try {
+            in = new FileInputStream(file);
+            FileChannel channel = in.getChannel();
+
+            // the mapping stays valid after the channel is closed
+            return createMappedColumns(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+            return null;
+
+        } finally {
+
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Memory-maps a file written by saveColumns(...) from the assets folder. This requires the
+     * file to be stored uncompressed in the apk (e.g. noCompress in the aapt options), compressed
+     * files are read into a direct buffer instead. Returns null if the file can not be read.
+     *
+     * @param am
+     * @param path the name of the file in the assets folder (+ path if needed)
+     * @return
+     */
+    public static MappedColumns mapColumnsFromAssets(AssetManager am, String path) {
+
+        AssetFileDescriptor fd;
+        try {
+            fd = am.openFd(path);
+        } catch (FileNotFoundException e) {
+            // compressed asset, it can not be mapped
+            return readColumnsFromAssets(am, path);
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+            return null;
+        }
+
+        FileInputStream in = null;
+        try {
+            in = fd.createInputStream();
+            FileChannel channel = in.getChannel();
+
+            // the mapping stays valid after the channel is closed
+            return createMappedColumns(channel.map(FileChannel.MapMode.READ_ONLY,
+                    fd.getStartOffset(), fd.getLength()));
+
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+            return null;
+
+        } finally {
+
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+
+            try {
+                fd.close();
+            } catch (IOException e) {
+                Log.e(LOG, e.toString());
+            }
+        }
+    }
+
+    private static MappedColumns readColumnsFromAssets(AssetManager am, String path) {
+
+        InputStream in = null;
+        try {
+            in = am.open(path, AssetManager.ACCESS_STREAMING);
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(in.available(), BINARY_HEADER_SIZE));
+            final byte[] bytes = new byte[BUFFER_SIZE];
+
+            int read;
+            while ((read = in.read(bytes)) > 0) {
+
+                if (buffer.remaining() < read) {
+                    ByteBuffer larger = ByteBuffer.allocateDirect(
+                            Math.max(buffer.capacity() * 2, buffer.position() + read));
+                    buffer.flip();
+                    larger.put(buffer);
+                    buffer = larger;
+                }
+
+                buffer.put(bytes, 0, read);
+            }
+
+            buffer.flip();
+            return createMappedColumns(buffer);
+
+        } catch (IOException e) {
+            Log.e(LOG, e.toString());
+            return null;
+
+        } finally {
+
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    Log.e(LOG, e.toString());
+                }
+            }
+        }
+    }
+
+    private static MappedColumns createMappedColumns(ByteBuffer buffer) throws IOException {
+
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.remaining() < BINARY_HEADER_SIZE || buffer.getInt() != BINARY_MAGIC)
+            throw new IOException("Not a binary column file.");
+
+        final int version = buffer.getInt();
+        final int size = buffer.getInt();
+        final int columnCount = buffer.getInt();
+        final long count = buffer.getLong();
+
+        if (version != BINARY_VERSION)
+            throw new IOException("Unsupported binary column file version: " + version);
+
+        if ((size != 4 && size != 8) || columnCount != 2 || count < 0 || count > Integer.MAX_VALUE
+                || buffer.remaining() < count * size * 2)
+            throw new IOException("Corrupt binary column file.");
+
+        return new MappedColumns(buffer, (int) count, size == 8);
+    }
 }
@@ -0,0 +1,201 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Arrays;
+
+/**
+ * Segment tree over a sequence of (min, max) value pairs that answers the smallest min and the
+ * largest max of any index range in O(log n). Appending, removing the last pair and changing a
+ * single pair are O(log n) as well.
+ *
+ * The tree is stored bottom-up in two arrays: the leaves are at [size, size + count), the parent
+ * of node i is i / 2. Unused leaves hold neutral values (Float.MAX_VALUE / -Float.MAX_VALUE).
+ */
+public class MinMaxSegmentTree {
+
+    /**
+     * the number of leaves, a power of two
+     */
+    private int mSize;
+
+    /**
+     * the number of leaves in use
+     */
+    private int mCount = 0;
+
+    private float[] mMins;
+    private float[] mMaxs;
+
+    public MinMaxSegmentTree() {
+        this(16);
+    }
+
+    /**
+     * @param capacity the number of pairs that fit into the tree without growing it
+     */
+    public MinMaxSegmentTree(int capacity) {
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+
+        mSize = 1;
+        while (mSize < capacity)
+            mSize <<= 1;
+
+        mMins = new float[mSize * 2];
+        mMaxs = new float[mSize * 2];
+
+        Arrays.fill(mMins, Float.MAX_VALUE);
+        Arrays.fill(mMaxs, -Float.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of pairs in the tree.
+     *
+     * @return
+     */
+    public int size() {
+        return mCount;
+    }
+
+    /**
+     * Resets the tree to hold the given number of neutral pairs. Set them with setLeaf(...) and
+     * call build() afterwards.
+     *
+     * @param count
+     */
+    public void reset(int count) {
+
+        if (count > mSize || mSize > 64 && count < mSize / 4) {
+            allocate(count);
+        } else {
+            Arrays.fill(mMins, Float.MAX_VALUE);
+            Arrays.fill(mMaxs, -Float.MAX_VALUE);
+        }
+
+        mCount = count;
+    }
+
+    /**
+     * Sets the pair at the given index without updating the tree, build() needs to be called
+     * before the tree is queried.
+     *
+     * @param index
+     * @param min
+     * @param max
+     */
+    public void setLeaf(int index, float min, float max) {
+        mMins[mSize + index] = min;
+        mMaxs[mSize + index] = max;
+    }
+
+    /**
+     * Calculates all inner nodes from the leaves, O(n).
+     */
+    public void build() {
+        for (int i = mSize - 1; i > 0; i--) {
+            mMins[i] = Math.min(mMins[2 * i], mMins[2 * i + 1]);
+            mMaxs[i] = Math.max(mMaxs[2 * i], mMaxs[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Replaces the pair at the given index and updates the tree.
+     *
+     * @param index
+     * @param min
+     * @param max
+     */
+    public void set(int index, float min, float max) {
+
+        if (index < 0 || index >= mCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mCount);
+
+        update(index, min, max);
+    }
+
+    /**
+     * Appends the given pair, the tree grows if needed.
+     *
+     * @param min
+     * @param max
+     */
+    public void add(float min, float max) {
+
+        if (mCount == mSize) {
+
+            float[] mins = mMins;
+            float[] maxs = mMaxs;
+            int size = mSize;
+
+            allocate(mSize * 2);
+            System.arraycopy(mins, size, mMins, mSize, size);
+            System.arraycopy(maxs, size, mMaxs, mSize, size);
+            build();
+        }
+
+        update(mCount++, min, max);
+    }
+
+    /**
+     * Removes the last pair.
+     */
+    public void removeLast() {
+
+        if (mCount == 0)
+            return;
+
+        update(--mCount, Float.MAX_VALUE, -Float.MAX_VALUE);
+    }
+
+    private void update(int index, float min, float max) {
+
+        int i = mSize + index;
+        mMins[i] = min;
+        mMaxs[i] = max;
+
+        for (i >>= 1; i > 0; i >>= 1) {
+            mMins[i] = Math.min(mMins[2 * i], mMins[2 * i + 1]);
+            mMaxs[i] = Math.max(mMaxs[2 * i], mMaxs[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Writes the smallest min (out[0]) and the largest max (out[1]) of the pairs from index
+     * "from" to index "to" (both inclusive) into the given array. Float.MAX_VALUE and
+     * -Float.MAX_VALUE are written for an empty range.
+     *
+     * @param from
+     * @param to
+     * @param out
+     */
+    public void query(int from, int to, float[] out) {
+
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        int l = mSize + Math.max(from, 0);
+        int r = mSize + Math.min(to, mCount - 1) + 1;
+
+        while (l < r) {
+
+            if ((l & 1) == 1) {
+                min = Math.min(min, mMins[l]);
+                max = Math.max(max, mMaxs[l]);
+                l++;
+            }
+
+            if ((r & 1) == 1) {
+                r--;
+                min = Math.min(min, mMins[r]);
+                max = Math.max(max, mMaxs[r]);
+            }
+
+            l >>= 1;
+            r >>= 1;
+        }
+
+        out[0] = min;
+        out[1] = max;
+    }
+}
@@ -0,0 +1,211 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opt-in parallel processing of independent per-DataSet work, e.g. calculating the min and max
+ * values or filling the render buffers of many large DataSets. Disabled by default. When
+ * enabled, work is only spread over multiple threads if it covers at least a threshold number
+ * of entries, below that the overhead outweighs the gain and everything runs on the calling
+ * thread. The calling thread always takes part in the work, so running tasks from within
+ * tasks can not deadlock.
+ */
+public final class ParallelTasks {
+
+    /**
+     * A piece of work that is run for each index.
+     */
+    public interface Task {
+
+        /**
+         * Runs the work for the given index. Called concurrently for different indices.
+         *
+         * @param index
+         */
+        void run(int index);
+    }
+
+    private static volatile boolean sEnabled = false;
+
+    private static volatile int sThreshold = 100000;
+
+    private static Executor sExecutor;
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * Enables or disables parallel processing for all charts. Default: disabled
+     *
+     * @param enabled
+     */
+    public static void setEnabled(boolean enabled) {
+        sEnabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    /**
+     * Sets the number of entries the work needs to cover at least to be run in parallel.
+     * Default: 100000
+     *
+     * @param entryCount
+     */
+    public static void setThreshold(int entryCount) {
+        sThreshold = entryCount;
+    }
+
+    public static int getThreshold() {
+        return sThreshold;
+    }
+
+    /**
+     * Sets the executor the work is spread over. By default, a fixed pool of daemon threads,
+     * one less than there are processors, is created when it is first needed.
+     *
+     * @param executor
+     */
+    public static synchronized void setExecutor(Executor executor) {
+        sExecutor = executor;
+    }
+
+    private static synchronized Executor getExecutor() {
+
+        if (sExecutor == null) {
+
+            final int threads = Math.max(Runtime.getRuntime().availableProcessors() - 1, 1);
+
+            ExecutorService pool = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+
+                private final AtomicInteger mCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "MPChart-parallel-" + mCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+            sExecutor = pool;
+        }
+
+        return sExecutor;
+    }
+
+    /**
+     * Returns true if work of the given number of tasks that covers the given number of entries
+     * should be run in parallel.
+     *
+     * @param taskCount
+     * @param entryCount
+     * @return
+     */
+    public static boolean shouldRunParallel(int taskCount, long entryCount) {
+        return sEnabled && taskCount > 1 && entryCount >= sThreshold;
+    }
+
+    /**
+     * Runs the given task for the indices 0 to count - 1 and returns when all of them are done.
+     * Runs them in parallel if shouldRunParallel(count, entryCount) is true, else one after
+     * another on the calling thread. An exception thrown by a task is rethrown on the calling
+     * thread once all tasks are done.
+     *
+     * @param count
+     * @param entryCount the number of entries the tasks cover together
+     * @param task
+     */
+    public static void run(int count, long entryCount, Task task) {
+
+        if (!shouldRunParallel(count, entryCount)) {
+
+            for (int i = 0; i < count; i++)
+                task.run(i);
+
+            return;
+        }
+
+        final Batch batch = new Batch(count, task);
+        final Executor executor = getExecutor();
+
+        // helpers that start after all indices are claimed return right away
+        for (int i = 1; i < count; i++)
+            executor.execute(batch);
+
+        batch.run();
+        batch.await();
+    }
+
+    private static final class Batch implements Runnable {
+
+        private final int mCount;
+
+        private final Task mTask;
+
+        private final AtomicInteger mNext = new AtomicInteger();
+
+        private int mDone = 0;
+
+        private Throwable mError;
+
+        Batch(int count, Task task) {
+            mCount = count;
+            mTask = task;
+        }
+
+        @Override
+        public void run() {
+
+            int index;
+
+            while ((index = mNext.getAndIncrement()) < mCount) {
+
+                Throwable error = null;
+
+                try {
+                    mTask.run(index);
+                } catch (Throwable t) {
+                    error = t;
+                }
+
+                synchronized (this) {
+
+                    if (error != null && mError == null)
+                        mError = error;
+
+                    if (++mDone == mCount)
+                        notifyAll();
+                }
+            }
+        }
+
+        synchronized void await() {
+
+            boolean interrupted = false;
+
+            // only tasks that are already running are waited for, all others ran on this thread
+            while (mDone < mCount) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted)
+                Thread.currentThread().interrupt();
+
+            if (mError instanceof RuntimeException)
+                throw (RuntimeException) mError;
+
+            if (mError instanceof Error)
+                throw (Error) mError;
+        }
+    }
+}
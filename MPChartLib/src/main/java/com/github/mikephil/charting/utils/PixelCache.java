@@ -0,0 +1,171 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.util.Map;
+
+/**
+ * Keeps the pixel positions that a renderer calculated for the visible entries of a DataSet, so
+ * that they can be reused on the next frame if neither the DataSet (see
+ * IDataSet.getVersion()), nor the visible range, nor any of the matrices of the Transformer (see
+ * Transformer.getVersion()) changed. This is the case for redraws that only update the
+ * highlights and the marker (Chart.invalidateHighlight()), renderers drop their caches on every
+ * Chart.invalidate(), as entries may have been changed in place.
+ */
+public class PixelCache {
+
+    private IDataSet<?> mDataSet = null;
+
+    private Transformer mTransformer = null;
+
+    private int mVersion;
+    private int mFrom;
+    private int mTo;
+    private int mMode;
+    private float mPhaseY;
+
+    /**
+     * the version of the matrices of the Transformer the points were transformed with
+     */
+    private int mMatrixVersion;
+
+    private boolean mValid = false;
+
+    /**
+     * the cached pixel positions, order: x,y,x,y,...
+     */
+    private float[] mPoints = new float[2];
+
+    private int mPointCount = 0;
+
+    /**
+     * Returns the PixelCache of the given DataSet from the given map, creates it if needed.
+     *
+     * @param caches
+     * @param set
+     * @return
+     */
+    public static PixelCache get(Map<IDataSet<?>, PixelCache> caches, IDataSet<?> set) {
+
+        PixelCache cache = caches.get(set);
+
+        if (cache == null) {
+            cache = new PixelCache();
+            caches.put(set, cache);
+        }
+
+        return cache;
+    }
+
+    /**
+     * Marks all PixelCaches of the given map as outdated, their arrays are kept for reuse.
+     *
+     * @param caches
+     */
+    public static void invalidateAll(Map<IDataSet<?>, PixelCache> caches) {
+
+        for (PixelCache cache : caches.values())
+            cache.invalidate();
+    }
+
+    /**
+     * Returns true if the cached points were calculated for the given state. If not, the cache
+     * is set to the given state and false is returned, the new points then need to be written
+     * into getPoints(...).
+     *
+     * @param set
+     * @param trans  the Transformer the points are transformed with
+     * @param from   the index of the first entry the points are calculated for
+     * @param to     the index of the last entry the points are calculated for
+     * @param mode   anything else the points depend on (e.g. a level of detail), 0 if nothing
+     * @param phaseY
+     * @return
+     */
+    public boolean isValid(IDataSet<?> set, Transformer trans, int from, int to, int mode, float phaseY) {
+
+        final int version = set.getVersion();
+        final int matrixVersion = trans.getVersion();
+
+        boolean valid = mValid
+                && mDataSet == set
+                && mVersion == version
+                && mTransformer == trans
+                && mMatrixVersion == matrixVersion
+                && mFrom == from
+                && mTo == to
+                && mMode == mode
+                && mPhaseY == phaseY;
+
+        if (valid)
+            return true;
+
+        mDataSet = set;
+        mVersion = version;
+        mFrom = from;
+        mTo = to;
+        mMode = mode;
+        mPhaseY = phaseY;
+        mTransformer = trans;
+        mMatrixVersion = matrixVersion;
+
+        mValid = true;
+
+        return false;
+    }
+
+    /**
+     * Marks the cached points as outdated.
+     */
+    public void invalidate() {
+        mValid = false;
+        mDataSet = null;
+        mTransformer = null;
+    }
+
+    /**
+     * Returns the array of cached points, enlarged to hold at least the given number of floats
+     * (the old content is not kept when the array is enlarged).
+     *
+     * @param size
+     * @return
+     */
+    public float[] getPoints(int size) {
+
+        if (mPoints.length < size)
+            mPoints = new float[size + (size >> 1)];
+
+        return mPoints;
+    }
+
+    /**
+     * Returns the array of cached points.
+     *
+     * @return
+     */
+    public float[] getPoints() {
+        return mPoints;
+    }
+
+    /**
+     * Copies the given points (order: x,y,x,y,...) into the cache and sets the point count.
+     *
+     * @param points
+     */
+    public void setPoints(float[] points) {
+        System.arraycopy(points, 0, getPoints(points.length), 0, points.length);
+        mPointCount = points.length / 2;
+    }
+
+    public void setPointCount(int count) {
+        mPointCount = count;
+    }
+
+    /**
+     * Returns the number of cached points (x,y pairs).
+     *
+     * @return
+     */
+    public int getPointCount() {
+        return mPointCount;
+    }
+}
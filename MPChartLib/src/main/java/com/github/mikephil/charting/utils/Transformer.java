@@ -6,7 +6,6 @@ import android.graphics.Path;
 import android.graphics.RectF;
 
 import com.github.mikephil.charting.data.CandleEntry;
-import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
@@ -27,6 +26,11 @@ public class Transformer {
      */
     protected Matrix mMatrixValueToPx = new Matrix();
 
+    /**
+     * the same as mMatrixValueToPx with double precision
+     */
+    protected AffineTransform mValueToPx = new AffineTransform();
+
     /**
      * matrix for handling the different offsets of the chart
      */
@@ -34,6 +38,35 @@ public class Transformer {
 
     protected ViewPortHandler mViewPortHandler;
 
+    /**
+     * incremented whenever the value or the offset matrix changes
+     */
+    protected int mMatrixVersion = 0;
+
+    /**
+     * the value, touch and offset matrix concatenated, and its inverse
+     */
+    private final Matrix mMatrixValueToPixel = new Matrix();
+    private final Matrix mMatrixPixelToValue = new Matrix();
+
+    /**
+     * the version (see getVersion()) the concatenated matrices were calculated for
+     */
+    private int mConcatenatedVersion = 0;
+    private boolean mConcatenated = false;
+
+    /**
+     * the concatenated matrix and its inverse as plain Java transformations, only used if
+     * mTransformAvailable is true (the matrices only scale and translate)
+     */
+    private final AffineTransform mValueToPixelTransform = new AffineTransform();
+    private final AffineTransform mPixelToValueTransform = new AffineTransform();
+    private final AffineTransform mTransformBuffer = new AffineTransform();
+
+    private boolean mTransformAvailable = false;
+
+    private final float[] mMatrixValuesBuffer = new float[9];
+
     public Transformer(ViewPortHandler viewPortHandler) {
         this.mViewPortHandler = viewPortHandler;
     }
@@ -63,6 +96,12 @@ public class Transformer {
         mMatrixValueToPx.reset();
         mMatrixValueToPx.postTranslate(-xChartMin, -yChartMin);
         mMatrixValueToPx.postScale(scaleX, -scaleY);
+
+        mValueToPx.reset();
+        mValueToPx.postTranslate(-(double) xChartMin, -(double) yChartMin);
+        mValueToPx.postScale(scaleX, -scaleY);
+
+        mMatrixVersion++;
     }
 
     /**
@@ -84,6 +123,8 @@ public class Transformer {
                     .setTranslate(mViewPortHandler.offsetLeft(), -mViewPortHandler.offsetTop());
             mMatrixOffset.postScale(1.0f, -1.0f);
         }
+
+        mMatrixVersion++;
     }
 
     protected float[] valuePointsForGenerateTransformedValuesScatter = new float[1];
@@ -105,18 +146,7 @@ public class Transformer {
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesScatter;
 
-        for (int j = 0; j < count; j += 2) {
-
-            Entry e = data.getEntryForIndex(j / 2 + from);
-
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
-            }
-        }
+        data.copyXY(from, from + count / 2, valuePoints, 0, phaseY);
 
         getValueToPixelMatrix().mapPoints(valuePoints);
 
@@ -141,18 +171,7 @@ public class Transformer {
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesBubble;
 
-        for (int j = 0; j < count; j += 2) {
-
-            Entry e = data.getEntryForIndex(j / 2 + from);
-
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
-            }
-        }
+        data.copyXY(from, from + count / 2, valuePoints, 0, phaseY);
 
         getValueToPixelMatrix().mapPoints(valuePoints);
 
@@ -179,18 +198,7 @@ public class Transformer {
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesLine;
 
-        for (int j = 0; j < count; j += 2) {
-
-            Entry e = data.getEntryForIndex(j / 2 + min);
-
-            if (e != null) {
-                valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
-            } else {
-                valuePoints[j] = 0;
-                valuePoints[j + 1] = 0;
-            }
-        }
+        data.copyXY(min, min + count / 2, valuePoints, 0, phaseY);
 
         getValueToPixelMatrix().mapPoints(valuePoints);
 
@@ -241,10 +249,7 @@ public class Transformer {
      * @param path
      */
     public void pathValueToPixel(Path path) {
-
-        path.transform(mMatrixValueToPx);
-        path.transform(mViewPortHandler.getMatrixTouch());
-        path.transform(mMatrixOffset);
+        path.transform(getValueToPixelMatrix());
     }
 
     /**
@@ -266,10 +271,25 @@ public class Transformer {
      * @param pts
      */
     public void pointValuesToPixel(float[] pts) {
+        pointValuesToPixel(pts, 0, pts.length / 2);
+    }
 
-        mMatrixValueToPx.mapPoints(pts);
-        mViewPortHandler.getMatrixTouch().mapPoints(pts);
-        mMatrixOffset.mapPoints(pts);
+    /**
+     * Transform a part of an array of points with all matrices. Only the given number of points
+     * (x,y pairs), starting at the given offset, are transformed.
+     *
+     * @param pts
+     * @param offset     the index of the first value to transform
+     * @param pointCount the number of points (x,y pairs) to transform
+     */
+    public void pointValuesToPixel(float[] pts, int offset, int pointCount) {
+
+        AffineTransform transform = getValueToPixelTransform();
+
+        if (transform != null)
+            transform.mapPoints(pts, offset, pointCount);
+        else
+            getValueToPixelMatrix().mapPoints(pts, offset, pts, offset, pointCount);
     }
 
     /**
@@ -279,9 +299,7 @@ public class Transformer {
      */
     public void rectValueToPixel(RectF r) {
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRectValueToPixel(r);
     }
 
     /**
@@ -296,9 +314,7 @@ public class Transformer {
         r.top *= phaseY;
         r.bottom *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRectValueToPixel(r);
     }
 
     public void rectToPixelPhaseHorizontal(RectF r, float phaseY) {
@@ -307,9 +323,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRectValueToPixel(r);
     }
 
     /**
@@ -319,9 +333,7 @@ public class Transformer {
      */
     public void rectValueToPixelHorizontal(RectF r) {
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRectValueToPixel(r);
     }
 
     /**
@@ -336,9 +348,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRectValueToPixel(r);
     }
 
     /**
@@ -354,8 +364,6 @@ public class Transformer {
             m.mapRect(rects.get(i));
     }
 
-    protected Matrix mPixelToValueMatrixBuffer = new Matrix();
-
     /**
      * Transforms the given array of touch positions (pixels) (x, y, x, y, ...)
      * into values on the chart.
@@ -364,18 +372,76 @@ public class Transformer {
      */
     public void pixelsToValue(float[] pixels) {
 
-        Matrix tmp = mPixelToValueMatrixBuffer;
-        tmp.reset();
+        concatenateMatrices();
+
+        if (mTransformAvailable)
+            mPixelToValueTransform.mapPoints(pixels);
+        else
+            mMatrixPixelToValue.mapPoints(pixels);
+    }
+
+    /**
+     * Transforms the given array of x-values into x-pixels. The y-value that belongs to them
+     * must not matter, which is the case for all charts (the matrices never rotate).
+     *
+     * @param xs
+     * @param offset
+     * @param count
+     */
+    public void xValuesToPixel(float[] xs, int offset, int count) {
+
+        AffineTransform transform = getValueToPixelTransform();
+
+        if (transform != null) {
+            transform.mapXValues(xs, offset, count);
+            return;
+        }
+
+        float[] pt = ptsBuffer;
+
+        for (int i = offset; i < offset + count; i++) {
+            pt[0] = xs[i];
+            pt[1] = 0f;
+            getValueToPixelMatrix().mapPoints(pt);
+            xs[i] = pt[0];
+        }
+    }
+
+    /**
+     * Transforms the given array of y-values into y-pixels. The x-value that belongs to them
+     * must not matter, which is the case for all charts (the matrices never rotate).
+     *
+     * @param ys
+     * @param offset
+     * @param count
+     */
+    public void yValuesToPixel(float[] ys, int offset, int count) {
+
+        AffineTransform transform = getValueToPixelTransform();
+
+        if (transform != null) {
+            transform.mapYValues(ys, offset, count);
+            return;
+        }
+
+        float[] pt = ptsBuffer;
+
+        for (int i = offset; i < offset + count; i++) {
+            pt[0] = 0f;
+            pt[1] = ys[i];
+            getValueToPixelMatrix().mapPoints(pt);
+            ys[i] = pt[1];
+        }
+    }
 
-        // invert all matrixes to convert back to the original value
-        mMatrixOffset.invert(tmp);
-        tmp.mapPoints(pixels);
+    private void mapRectValueToPixel(RectF r) {
 
-        mViewPortHandler.getMatrixTouch().invert(tmp);
-        tmp.mapPoints(pixels);
+        AffineTransform transform = getValueToPixelTransform();
 
-        mMatrixValueToPx.invert(tmp);
-        tmp.mapPoints(pixels);
+        if (transform != null)
+            transform.mapRect(r);
+        else
+            getValueToPixelMatrix().mapRect(r);
     }
 
     /**
@@ -441,19 +507,91 @@ public class Transformer {
         return mMatrixOffset;
     }
 
-    private Matrix mMBuffer1 = new Matrix();
+    /**
+     * Returns a number that changes whenever the value, offset or touch matrix changes, so the
+     * result of a transformation can be cached as long as it stays the same. The matrices
+     * returned by getValueMatrix() and getOffsetMatrix() must not be changed directly.
+     *
+     * @return
+     */
+    public int getVersion() {
+        return mMatrixVersion + mViewPortHandler.getMatrixTouchVersion();
+    }
 
+    /**
+     * Returns the value, touch and offset matrix concatenated into one matrix. It is only
+     * recalculated if one of them changed. Do not modify the returned matrix.
+     *
+     * @return
+     */
     public Matrix getValueToPixelMatrix() {
-        mMBuffer1.set(mMatrixValueToPx);
-        mMBuffer1.postConcat(mViewPortHandler.mMatrixTouch);
-        mMBuffer1.postConcat(mMatrixOffset);
-        return mMBuffer1;
+        concatenateMatrices();
+        return mMatrixValueToPixel;
     }
 
-    private Matrix mMBuffer2 = new Matrix();
-
+    /**
+     * Returns the inverse of getValueToPixelMatrix(). It is only recalculated if one of the
+     * matrices changed. Do not modify the returned matrix.
+     *
+     * @return
+     */
     public Matrix getPixelToValueMatrix() {
-        getValueToPixelMatrix().invert(mMBuffer2);
-        return mMBuffer2;
+        concatenateMatrices();
+        return mMatrixPixelToValue;
+    }
+
+    /**
+     * Returns getValueToPixelMatrix() as a plain Java transformation that maps points without
+     * any JNI calls, or null if the matrices do more than scale and translate. Do not modify
+     * the returned object.
+     *
+     * @return
+     */
+    public AffineTransform getValueToPixelTransform() {
+        concatenateMatrices();
+        return mTransformAvailable ? mValueToPixelTransform : null;
+    }
+
+    /**
+     * Returns the inverse of getValueToPixelTransform(), or null if it is not available. Do not
+     * modify the returned object.
+     *
+     * @return
+     */
+    public AffineTransform getPixelToValueTransform() {
+        concatenateMatrices();
+        return mTransformAvailable ? mPixelToValueTransform : null;
+    }
+
+    private void concatenateMatrices() {
+
+        final int version = getVersion();
+
+        if (mConcatenated && mConcatenatedVersion == version)
+            return;
+
+        // VERY IMPORTANT: keep matrix order "value-touch-offset"
+        mMatrixValueToPixel.set(mMatrixValueToPx);
+        mMatrixValueToPixel.postConcat(mViewPortHandler.getMatrixTouch());
+        mMatrixValueToPixel.postConcat(mMatrixOffset);
+
+        mMatrixValueToPixel.invert(mMatrixPixelToValue);
+
+        // the value matrix is taken with double precision, the touch and offset matrix only
+        // contain pixels
+        mValueToPixelTransform.set(mValueToPx);
+
+        mTransformAvailable = mTransformBuffer.set(mViewPortHandler.getMatrixTouch(), mMatrixValuesBuffer);
+        mValueToPixelTransform.postConcat(mTransformBuffer);
+
+        mTransformAvailable = mTransformAvailable
+                && mTransformBuffer.set(mMatrixOffset, mMatrixValuesBuffer);
+        mValueToPixelTransform.postConcat(mTransformBuffer);
+
+        mTransformAvailable = mTransformAvailable
+                && mValueToPixelTransform.invert(mPixelToValueTransform);
+
+        mConcatenatedVersion = version;
+        mConcatenated = true;
     }
 }
@@ -18,6 +18,11 @@ public class ViewPortHandler {
      */
     protected final Matrix mMatrixTouch = new Matrix();
 
+    /**
+     * incremented whenever the touch matrix changes
+     */
+    protected int mMatrixTouchVersion = 0;
+
     /**
      * this rectangle defines the area in which graph values can be drawn
      */
@@ -473,6 +478,9 @@ public class ViewPortHandler {
         matrixBuffer[Matrix.MSCALE_Y] = mScaleY;
 
         matrix.setValues(matrixBuffer);
+
+        if (matrix == mMatrixTouch)
+            mMatrixTouchVersion++;
     }
 
     /**
@@ -578,6 +586,17 @@ public class ViewPortHandler {
         return mMatrixTouch;
     }
 
+    /**
+     * Returns a number that changes whenever the touch matrix changes. Changes made directly to
+     * the matrix returned by getMatrixTouch() are only noticed after they are applied with
+     * refresh(...).
+     *
+     * @return
+     */
+    public int getMatrixTouchVersion() {
+        return mMatrixTouchVersion;
+    }
+
     /**
      * ################ ################ ################ ################
      */
@@ -2,13 +2,17 @@ package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.filter.Approximator;
+import com.github.mikephil.charting.data.filter.ApproximatorN;
+import com.github.mikephil.charting.data.filter.StreamingApproximator;
 
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 
 /**
  * Created by philipp on 07/06/16.
@@ -40,4 +44,169 @@ public class ApproximatorTest {
 
         assertEquals(18, reduced.length);
     }
+
+    @Test
+    public void testLargeInputWithOutputBuffer() {
+
+        Random random = new Random(6);
+
+        // a long random walk, deep enough to overflow a recursive implementation
+        int count = 200000;
+        float[] points = new float[count * 2];
+
+        float y = 0f;
+        for (int i = 0; i < count; i++) {
+            y += random.nextFloat() - 0.5f;
+            points[i * 2] = i;
+            points[i * 2 + 1] = y;
+        }
+
+        Approximator a = new Approximator();
+
+        float[] out = new float[points.length];
+        int reduced = a.reduceWithDouglasPeucker(points, count, 1f, out);
+
+        assertTrue(reduced > 2);
+        assertTrue(reduced < count);
+
+        assertEquals(0f, out[0], 0f);
+        assertEquals((float) (count - 1), out[reduced * 2 - 2], 0f);
+
+        for (int i = 1; i < reduced; i++)
+            assertTrue(out[i * 2] > out[i * 2 - 2]);
+
+        // the array-returning method gives the same result, also when reducing in place
+        float[] copy = a.reduceWithDouglasPeucker(points, 1f);
+        assertEquals(reduced * 2, copy.length);
+
+        int inPlace = a.reduceWithDouglasPeucker(points, count, 1f, points);
+        assertEquals(reduced, inPlace);
+
+        for (int i = 0; i < reduced * 2; i++) {
+            assertEquals(out[i], copy[i], 0f);
+            assertEquals(out[i], points[i], 0f);
+        }
+    }
+
+    @Test
+    public void testStreamingApproximator() {
+
+        Random random = new Random(8);
+
+        int count = 10000;
+        float[] points = new float[count * 2];
+
+        float y = 0f;
+        for (int i = 0; i < count; i++) {
+            y += random.nextFloat() - 0.5f;
+            points[i * 2] = i;
+            points[i * 2 + 1] = y;
+        }
+
+        StreamingApproximator streaming = new StreamingApproximator(1f, 500);
+
+        float[] out = new float[count * 2];
+        float[] chunkOut = new float[count * 2];
+        int reduced = 0;
+
+        for (int from = 0; from < count; from += 333) {
+
+            int chunk = Math.min(333, count - from);
+            int written = streaming.add(points, from, chunk, chunkOut);
+
+            assertTrue(streaming.getPendingCount() <= 500);
+
+            System.arraycopy(chunkOut, 0, out, reduced * 2, written * 2);
+            reduced += written;
+        }
+
+        int written = streaming.flush(chunkOut);
+        System.arraycopy(chunkOut, 0, out, reduced * 2, written * 2);
+        reduced += written;
+
+        assertEquals(0, streaming.getPendingCount());
+
+        // first and last point are kept, the order is kept
+        assertEquals(0f, out[0], 0f);
+        assertEquals((float) (count - 1), out[reduced * 2 - 2], 0f);
+
+        for (int i = 1; i < reduced; i++)
+            assertTrue(out[i * 2] > out[i * 2 - 2]);
+
+        // every dropped point is within the tolerance of the reduced line
+        int segment = 0;
+        for (int i = 0; i < count; i++) {
+
+            float x = points[i * 2];
+
+            while (out[segment * 2 + 2] < x)
+                segment++;
+
+            float x1 = out[segment * 2], y1 = out[segment * 2 + 1];
+            float x2 = out[segment * 2 + 2], y2 = out[segment * 2 + 3];
+
+            float lineY = y1 + (y2 - y1) * (x - x1) / (x2 - x1);
+
+            // the vertical distance can be larger than the perpendicular one, but not by much
+            assertTrue(Math.abs(lineY - points[i * 2 + 1]) < 1.5f);
+        }
+
+        assertTrue(reduced < count / 2);
+    }
+
+    @Test
+    public void testApproximatorN() {
+
+        ApproximatorN a = new ApproximatorN();
+
+        Random random = new Random(5);
+
+        int count = 20000;
+        float[] points = new float[count * 2];
+
+        for (int i = 0; i < count; i++) {
+            points[i * 2] = i;
+            points[i * 2 + 1] = random.nextFloat() * 10f;
+        }
+
+        points[12345 * 2 + 1] = 100f;
+        points[777 * 2 + 1] = -100f;
+
+        float[] out = new float[count * 2];
+
+        int reduced = a.reduceWithDouglasPeucker(points, count, 50, out);
+        assertEquals(50, reduced);
+
+        // first and last point are kept, the order is kept
+        assertEquals(0f, out[0], 0f);
+        assertEquals((float) (count - 1), out[reduced * 2 - 2], 0f);
+
+        boolean maxKept = false, minKept = false;
+        for (int i = 1; i < reduced; i++) {
+            assertTrue(out[i * 2] > out[i * 2 - 2]);
+            maxKept |= out[i * 2 + 1] == 100f;
+            minKept |= out[i * 2 + 1] == -100f;
+        }
+
+        // the most significant points are kept first
+        assertTrue(maxKept);
+        assertTrue(minKept);
+
+        // points on a straight line are not kept
+        float[] line = new float[]{0, 0, 1, 1, 2, 2, 3, 3, 4, 4};
+        assertEquals(2, a.reduceWithDouglasPeucker(line, 5, 4, out));
+
+        float[] peak = new float[]{0, 0, 1, 5, 2, 0, 3, 1, 4, 0};
+        float[] reducedPeak = a.reduceWithDouglasPeucker(peak, 3);
+        assertEquals(6, reducedPeak.length);
+        assertEquals(5f, reducedPeak[3], 0f);
+
+        // in place
+        assertEquals(4, a.reduceWithDouglasPeucker(peak, 5, 4, peak));
+        assertEquals(2f, peak[4], 0f);
+        assertEquals(4f, peak[6], 0f);
+
+        // nothing to reduce
+        assertEquals(count, a.reduceWithDouglasPeucker(points, count, count, out));
+    }
 }
@@ -1,5 +1,6 @@
 package com.github.mikephil.charting.test;
 
+import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarDataSet;
 import com.github.mikephil.charting.data.BarEntry;
@@ -10,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 
 /**
  * Created by philipp on 06/06/16.
@@ -69,4 +71,101 @@ public class BarDataTest {
         assertEquals(15f, values1.get(1).getX(), 0.01f);
         assertEquals(26f, values2.get(1).getX(), 0.01f);
     }
+
+    @Test
+    public void testBarBufferWindow() {
+
+        List<BarEntry> values = new ArrayList<>();
+        List<BarEntry> stacked = new ArrayList<>();
+
+        for (int i = 0; i < 50000; i++) {
+            values.add(new BarEntry(i, i % 2 == 0 ? i : -i));
+            stacked.add(new BarEntry(i, new float[]{1f, 2f, -3f}));
+        }
+
+        BarDataSet set = new BarDataSet(values, "");
+
+        // only the visible window is fed, the buffer is sized to it
+        BarBuffer buffer = new BarBuffer(0, 1, false);
+        buffer.setBarWidth(0.5f);
+        buffer.limitFrom(1000);
+        buffer.limitTo(1099);
+        buffer.feed(set);
+
+        assertEquals(400, buffer.size());
+        assertTrue(buffer.buffer.length < 1000);
+
+        // left, top, right, bottom of the first and last bar
+        assertEquals(999.75f, buffer.buffer[0], 0.001f);
+        assertEquals(1000f, buffer.buffer[1], 0f);
+        assertEquals(1000.25f, buffer.buffer[2], 0.001f);
+        assertEquals(0f, buffer.buffer[3], 0f);
+        assertEquals(1098.75f, buffer.buffer[396], 0.001f);
+        assertEquals(0f, buffer.buffer[397], 0f);
+        assertEquals(-1099f, buffer.buffer[399], 0f);
+
+        // the animation phase still limits the fed entries
+        buffer.setPhases(0.021f, 1f);
+        buffer.feed(set);
+        assertEquals(50 * 4, buffer.size());
+
+        // stacks, one bar per value
+        BarDataSet stackedSet = new BarDataSet(stacked, "");
+
+        BarBuffer stackedBuffer = new BarBuffer(0, 1, true);
+        stackedBuffer.limitFrom(49990);
+        stackedBuffer.feed(stackedSet);
+
+        assertEquals(10 * 3 * 4, stackedBuffer.size());
+        assertEquals(49990f - 0.5f, stackedBuffer.buffer[0], 0.01f);
+
+        // the window is outside of the DataSet
+        stackedBuffer.limitFrom(60000);
+        stackedBuffer.feed(stackedSet);
+        assertEquals(0, stackedBuffer.size());
+    }
+
+    @Test
+    public void testBarBufferFirstBarWithMixedStacks() {
+
+        List<BarEntry> values = new ArrayList<>();
+
+        // entries alternate between 3 stack values, a single value and 2 stack values
+        for (int i = 0; i < 30; i++) {
+
+            if (i % 3 == 0)
+                values.add(new BarEntry(i, new float[]{1f, 2f, 3f}));
+            else if (i % 3 == 1)
+                values.add(new BarEntry(i, 4f));
+            else
+                values.add(new BarEntry(i, new float[]{5f, 6f}));
+        }
+
+        BarDataSet set = new BarDataSet(values, "");
+
+        BarBuffer buffer = new BarBuffer(0, 1, true);
+
+        buffer.limitFrom(0);
+        buffer.feed(set);
+        assertEquals(0, buffer.getFirstBar());
+        assertEquals(60 * 4, buffer.size());
+
+        // every 3 entries have 6 bars, the entries 12 and 13 have 3 + 1
+        buffer.limitFrom(14);
+        buffer.feed(set);
+        assertEquals(4 * 6 + 4, buffer.getFirstBar());
+
+        // counts are recalculated after the DataSet changed
+        set.removeFirst();
+        set.notifyDataSetChanged();
+
+        buffer.limitFrom(1);
+        buffer.feed(set);
+        assertEquals(1, buffer.getFirstBar());
+
+        BarBuffer singleBuffer = new BarBuffer(0, 1, false);
+        singleBuffer.limitFrom(7);
+        singleBuffer.feed(new BarDataSet(values, ""));
+        assertEquals(7, singleBuffer.getFirstBar());
+    }
 }
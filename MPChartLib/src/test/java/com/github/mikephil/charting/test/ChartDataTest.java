@@ -208,4 +208,45 @@ public class ChartDataTest {
         assertFalse(lineData.removeDataSet(lineSet1));
         assertFalse(lineData.removeDataSet(lineSet2));
     }
+
+    @Test
+    public void testRemoveEntryBounds() {
+
+        List<Entry> entries1 = new ArrayList<Entry>();
+        entries1.add(new Entry(0, 10));
+        entries1.add(new Entry(5, -2));
+        entries1.add(new Entry(10, 50));
+
+        LineDataSet set1 = new LineDataSet(entries1, "");
+
+        List<Entry> entries2 = new ArrayList<Entry>();
+        entries2.add(new Entry(2, 3));
+        entries2.add(new Entry(4, 7));
+        entries2.add(new Entry(6, 5));
+
+        LineDataSet set2 = new LineDataSet(entries2, "");
+        set2.setAxisDependency(YAxis.AxisDependency.RIGHT);
+
+        LineData data = new LineData(set1, set2);
+
+        assertEquals(50f, data.getYMax(), 0.01f);
+        assertEquals(7f, data.getYMax(YAxis.AxisDependency.RIGHT), 0.01f);
+
+        // changes the bounds of set2, but not the overall ones
+        assertTrue(data.removeEntry(entries2.get(0), 1));
+        assertEquals(5f, set2.getYMin(), 0.01f);
+        assertEquals(-2f, data.getYMin(), 0.01f);
+        assertEquals(5f, data.getYMin(YAxis.AxisDependency.RIGHT), 0.01f);
+        assertEquals(0f, data.getXMin(), 0.01f);
+
+        // changes the overall bounds
+        assertTrue(data.removeEntry(entries1.get(2), 0));
+        assertEquals(10f, data.getYMax(), 0.01f);
+        assertEquals(10f, data.getYMax(YAxis.AxisDependency.LEFT), 0.01f);
+        assertEquals(6f, data.getXMax(), 0.01f);
+
+        assertTrue(data.removeEntry(entries1.get(0), 0));
+        assertEquals(7f, data.getYMax(), 0.01f);
+        assertEquals(4f, data.getXMin(), 0.01f);
+    }
 }
@@ -0,0 +1,221 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.BarColumnDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineColumnDataSet;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class ColumnDataSetTest {
+
+    @Test
+    public void testCalcMinMax() {
+
+        LineColumnDataSet set = new LineColumnDataSet(new float[]{10, 15, 21}, new float[]{10, 2, 5}, 3, "");
+
+        assertEquals(10f, set.getXMin(), 0.01f);
+        assertEquals(21f, set.getXMax(), 0.01f);
+
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        assertEquals(3, set.getEntryCount());
+
+        set.addEntry(25, 1);
+
+        assertEquals(25f, set.getXMax(), 0.01f);
+        assertEquals(1f, set.getYMin(), 0.01f);
+        assertEquals(4, set.getEntryCount());
+
+        set.removeEntry(3);
+
+        assertEquals(21, set.getXMax(), 0.01f);
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(3, set.getEntryCount());
+    }
+
+    @Test
+    public void testAddRemoveEntry() {
+
+        LineColumnDataSet set = new LineColumnDataSet("");
+        set.addEntry(10, 10);
+        set.addEntry(new Entry(15, 2));
+        set.addEntry(21, 5);
+
+        set.addEntryOrdered(new Entry(5, 1));
+        set.addEntryOrdered(18, 3);
+
+        assertEquals(5, set.getEntryCount());
+
+        assertEquals(5, set.getX(0), 0.01f);
+        assertEquals(10, set.getX(1), 0.01f);
+        assertEquals(15, set.getX(2), 0.01f);
+        assertEquals(18, set.getX(3), 0.01f);
+        assertEquals(21, set.getX(4), 0.01f);
+
+        Entry e = set.getEntryForIndex(3);
+        assertEquals(18, e.getX(), 0.01f);
+        assertEquals(3, e.getY(), 0.01f);
+
+        // entries are created on demand, but can still be found and removed
+        assertTrue(set.contains(e));
+        assertEquals(3, set.getEntryIndex(e));
+        assertTrue(set.removeEntry(e));
+        assertFalse(set.contains(e));
+        assertEquals(4, set.getEntryCount());
+
+        assertTrue(set.removeFirst());
+        assertEquals(10, set.getXMin(), 0.01f);
+        assertEquals(2, set.getYMin(), 0.01f);
+
+        assertTrue(set.removeLast());
+        assertEquals(15, set.getXMax(), 0.01f);
+        assertEquals(2, set.getEntryCount());
+
+        set.clear();
+        assertEquals(0, set.getEntryCount());
+        assertFalse(set.removeFirst());
+    }
+
+    @Test
+    public void testGetEntryForXValueMatchesDataSet() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        LineColumnDataSet columnSet = new LineColumnDataSet("");
+
+        float[] xs = new float[]{0, 1, 1, 1, 3, 4, 4, 7, 10};
+        float[] ys = new float[]{5, 1, 7, 2, 6, 0, 9, 3, 4};
+
+        for (int i = 0; i < xs.length; i++) {
+            entries.add(new Entry(xs[i], ys[i]));
+            columnSet.addEntry(xs[i], ys[i]);
+        }
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        float[] lookups = new float[]{-2, 0, 0.4f, 1, 2, 2.5f, 4, 5.6f, 7, 9, 12};
+        float[] closestToY = new float[]{Float.NaN, 0, 6};
+
+        for (float x : lookups) {
+            for (float y : closestToY) {
+                for (DataSet.Rounding rounding : DataSet.Rounding.values()) {
+                    assertEquals(set.getEntryIndex(x, y, rounding),
+                            columnSet.getEntryIndex(x, y, rounding));
+                }
+            }
+
+            assertEquals(set.getEntriesForXValue(x).size(), columnSet.getEntriesForXValue(x).size());
+        }
+
+        assertEquals(3, columnSet.getEntriesForXValue(1).size());
+        assertEquals(7f, columnSet.getEntryForXValue(1, 6).getY(), 0.01f);
+    }
+
+    @Test
+    public void testCalcMinMaxY() {
+
+        LineColumnDataSet set = new LineColumnDataSet("");
+
+        for (int i = 0; i < 100; i++)
+            set.addEntry(i, (float) Math.sin(i / 10.0) * i);
+
+        set.calcMinMaxY(10, 20);
+
+        float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+        for (int i = 10; i <= 20; i++) {
+            min = Math.min(min, set.getY(i));
+            max = Math.max(max, set.getY(i));
+        }
+
+        assertEquals(min, set.getYMin(), 0.0001f);
+        assertEquals(max, set.getYMax(), 0.0001f);
+    }
+
+    @Test
+    public void testBarColumnDataSet() {
+
+        BarColumnDataSet set = new BarColumnDataSet(new float[]{1, 2, 3, 0}, new float[]{-4, 6, 2, 0}, 3, "");
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(3, set.getEntryCountStacks());
+        assertFalse(set.isStacked());
+
+        assertEquals(-4, set.getYMin(), 0.01f);
+        assertEquals(6, set.getYMax(), 0.01f);
+
+        set.addEntry(new BarEntry(4, 10));
+
+        BarEntry e = set.getEntryForIndex(3);
+        assertEquals(4, e.getX(), 0.01f);
+        assertEquals(10, e.getY(), 0.01f);
+        assertEquals(10, set.getYMax(), 0.01f);
+
+        BarColumnDataSet copy = (BarColumnDataSet) set.copy();
+        assertEquals(4, copy.getEntryCount());
+
+        copy.removeLast();
+        assertEquals(3, copy.getEntryCount());
+        assertEquals(4, set.getEntryCount());
+    }
+
+    @Test
+    public void testSetYChangesVersion() {
+
+        LineColumnDataSet set = new LineColumnDataSet(new float[]{1, 2, 3}, new float[]{5, 6, 7}, 3, "");
+
+        int version = set.getVersion();
+
+        set.getColumns().setY(1, 10);
+        assertTrue(version != set.getVersion());
+        assertEquals(10, set.getY(1), 0.01f);
+
+        version = set.getVersion();
+
+        set.getColumns().set(0, new Entry(1, 2));
+        assertTrue(version != set.getVersion());
+    }
+
+    @Test
+    public void testRemoveEntryOnlyRescansAtBounds() {
+
+        final int[] rescans = new int[1];
+
+        LineColumnDataSet set = new LineColumnDataSet(new float[]{1, 2, 3, 4, 5},
+                new float[]{5, 2, 9, 3, 1}, 5, "") {
+
+            @Override
+            public void calcMinMax() {
+                rescans[0]++;
+                super.calcMinMax();
+            }
+        };
+
+        rescans[0] = 0;
+
+        // neither x- nor y-value is at the bounds
+        assertTrue(set.removeEntry(1));
+        assertEquals(0, rescans[0]);
+        assertEquals(4, set.getEntryCount());
+        assertEquals(1, set.getYMin(), 0.01f);
+        assertEquals(9, set.getYMax(), 0.01f);
+
+        // the maximum y-value
+        assertTrue(set.removeEntry(1));
+        assertEquals(1, rescans[0]);
+        assertEquals(5, set.getYMax(), 0.01f);
+        assertEquals(1, set.getXMin(), 0.01f);
+        assertEquals(5, set.getXMax(), 0.01f);
+
+        assertFalse(set.removeEntry(5));
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ConcurrentLineDataSet;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class ConcurrentLineDataSetTest {
+
+    @Test
+    public void testSnapshots() {
+
+        ConcurrentLineDataSet set = new ConcurrentLineDataSet("");
+
+        for (int i = 0; i < 10000; i++)
+            set.append(i, i % 100);
+
+        // nothing is visible before the update
+        assertEquals(0, set.getEntryCount());
+
+        assertTrue(set.update());
+        assertFalse(set.update());
+
+        assertEquals(10000, set.getEntryCount());
+        assertEquals(0f, set.getXMin(), 0f);
+        assertEquals(9999f, set.getXMax(), 0f);
+        assertEquals(99f, set.getYMax(), 0f);
+
+        set.append(10000, 500);
+        set.removeFirst(5000);
+
+        // the pinned snapshot is not affected
+        assertEquals(10000, set.getEntryCount());
+        assertEquals(0f, set.getX(0), 0f);
+
+        set.update();
+
+        assertEquals(5001, set.getEntryCount());
+        assertEquals(5000f, set.getX(0), 0f);
+        assertEquals(5000f, set.getXMin(), 0f);
+        assertEquals(500f, set.getYMax(), 0f);
+
+        float[] out = new float[5001 * 2];
+        set.copyXY(0, 5001, out, 0, 1f);
+
+        for (int i = 0; i < 5001; i++)
+            assertEquals(5000f + i, out[i * 2], 0f);
+
+        set.addEntry(10001, -1);
+
+        assertEquals(5002, set.getEntryCount());
+        assertEquals(-1f, set.getYMin(), 0f);
+    }
+
+    @Test
+    public void testConcurrentWriter() throws Exception {
+
+        final ConcurrentLineDataSet set = new ConcurrentLineDataSet("");
+        final int total = 200000;
+
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < total; i++) {
+                    set.append(i, i);
+
+                    if (i % 1000 == 999)
+                        set.removeFirst(500);
+                }
+            }
+        });
+
+        writer.start();
+
+        float[] out = new float[0];
+
+        while (writer.isAlive() || set.update()) {
+
+            set.update();
+
+            final int count = set.getEntryCount();
+
+            if (out.length < count * 2)
+                out = new float[count * 4];
+
+            set.copyXY(0, count, out, 0, 1f);
+
+            // every snapshot is a consistent, gapless range
+            for (int i = 1; i < count; i++)
+                assertEquals(out[i * 2 - 2] + 1f, out[i * 2], 0f);
+        }
+
+        writer.join();
+
+        assertEquals(total - total / 1000 * 500, set.getEntryCount());
+        assertEquals(total - 1f, set.getXMax(), 0f);
+    }
+}
@@ -2,12 +2,14 @@ package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineColumnDataSet;
 import com.github.mikephil.charting.data.ScatterDataSet;
 
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
@@ -235,4 +237,161 @@ public class DataSetTest {
         assertEquals(1, entries.size());
         assertEquals(30, entries.get(0).getY(), 0.01f);
     }
+
+    @Test
+    public void testCopyXY() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(1, 10));
+        entries.add(new Entry(2, 20));
+        entries.add(new Entry(3, 30));
+        entries.add(new Entry(4, 40));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        float[] out = new float[8];
+        int end = set.copyXY(1, 3, out, 2, 0.5f);
+
+        assertEquals(6, end);
+        assertEquals(0f, out[0], 0.01f);
+        assertEquals(2f, out[2], 0.01f);
+        assertEquals(10f, out[3], 0.01f);
+        assertEquals(3f, out[4], 0.01f);
+        assertEquals(15f, out[5], 0.01f);
+        assertEquals(0f, out[6], 0.01f);
+    }
+
+    @Test
+    public void testMinMaxAfterRemovals() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        Random random = new Random(3);
+
+        for (int i = 0; i < 2000; i++)
+            entries.add(new Entry(i, random.nextInt(1000) - 500));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        for (int i = 0; i < 300; i++) {
+
+            int index = random.nextInt(set.getEntryCount());
+
+            if (i % 3 == 0) {
+                // remove the current maximum
+                for (int j = 0; j < set.getEntryCount(); j++) {
+                    if (set.getEntryForIndex(j).getY() == set.getYMax())
+                        index = j;
+                }
+            }
+
+            if (i % 2 == 0)
+                assertTrue(set.removeEntry(set.getEntryForIndex(index)));
+            else
+                assertTrue(set.removeEntry(index));
+
+            if (i % 10 == 0)
+                set.addEntryOrdered(new Entry(random.nextInt(2000) + 0.5f, random.nextInt(1000) - 500));
+
+            ScatterDataSet fresh = new ScatterDataSet(new ArrayList<Entry>(set.getEntries()), "");
+
+            assertEquals(fresh.getXMin(), set.getXMin(), 0f);
+            assertEquals(fresh.getXMax(), set.getXMax(), 0f);
+            assertEquals(fresh.getYMin(), set.getYMin(), 0f);
+            assertEquals(fresh.getYMax(), set.getYMax(), 0f);
+        }
+
+        assertFalse(set.removeEntry(-1));
+        assertFalse(set.removeEntry(set.getEntryCount()));
+    }
+
+    @Test
+    public void testMinMaxAfterRemoveFirst() {
+
+        final int[] scanned = new int[1];
+
+        List<Entry> entries = new ArrayList<Entry>();
+        Random random = new Random(5);
+
+        for (int i = 0; i < 10000; i++)
+            entries.add(new Entry(i, random.nextInt(1000) - 500));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "") {
+            @Override
+            protected void calcMinMax(Entry e) {
+                scanned[0]++;
+                super.calcMinMax(e);
+            }
+        };
+
+        // a sliding window: the first entry is always at the x-bounds
+        for (int i = 0; i < 3000; i++) {
+
+            scanned[0] = 0;
+
+            assertTrue(set.removeFirst());
+
+            // at most the incomplete first and last block and one newly completed block are
+            // iterated, not all entries
+            assertTrue(scanned[0] <= 3 * 256);
+
+            set.addEntry(new Entry(10000 + i, random.nextInt(1000) - 500));
+
+            if (i % 100 == 0) {
+
+                ScatterDataSet fresh = new ScatterDataSet(new ArrayList<Entry>(set.getEntries()), "");
+
+                assertEquals(fresh.getXMin(), set.getXMin(), 0f);
+                assertEquals(fresh.getXMax(), set.getXMax(), 0f);
+                assertEquals(fresh.getYMin(), set.getYMin(), 0f);
+                assertEquals(fresh.getYMax(), set.getYMax(), 0f);
+            }
+        }
+    }
+
+    @Test
+    public void testVersion() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(1, 10));
+        entries.add(new Entry(2, 20));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        int version = set.getVersion();
+
+        // reading does not change the version
+        set.getEntryForIndex(1);
+        set.getEntryForXValue(2, Float.NaN);
+        assertEquals(version, set.getVersion());
+
+        set.addEntry(new Entry(3, 30));
+        assertTrue(set.getVersion() != version);
+        version = set.getVersion();
+
+        set.addEntryOrdered(new Entry(1.5f, 15));
+        assertTrue(set.getVersion() != version);
+        version = set.getVersion();
+
+        set.removeLast();
+        assertTrue(set.getVersion() != version);
+        version = set.getVersion();
+
+        set.getEntryForIndex(0).setY(5);
+        set.notifyDataSetChanged();
+        assertTrue(set.getVersion() != version);
+
+        LineColumnDataSet columns = new LineColumnDataSet("");
+        version = columns.getVersion();
+
+        columns.addEntry(1, 1);
+        assertTrue(columns.getVersion() != version);
+        version = columns.getVersion();
+
+        columns.addEntryOrdered(0.5f, 1);
+        assertTrue(columns.getVersion() != version);
+        version = columns.getVersion();
+
+        columns.removeFirst();
+        assertTrue(columns.getVersion() != version);
+    }
 }
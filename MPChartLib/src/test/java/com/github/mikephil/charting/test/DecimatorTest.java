@@ -0,0 +1,108 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.filter.LttbDecimator;
+import com.github.mikephil.charting.data.filter.MinMaxDecimator;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class DecimatorTest {
+
+    /**
+     * 10 points per pixel column over 100 columns
+     */
+    private float[] createPoints(int pointCount) {
+
+        Random random = new Random(1);
+        float[] points = new float[pointCount * 2];
+
+        for (int i = 0; i < pointCount; i++) {
+            points[i * 2] = i / 10f;
+            points[i * 2 + 1] = random.nextFloat() * 100f;
+        }
+
+        return points;
+    }
+
+    @Test
+    public void testMinMaxDecimator() {
+
+        float[] points = createPoints(1000);
+        float[] out = new float[points.length];
+
+        int count = new MinMaxDecimator().decimate(points, 1000, out, 0);
+
+        assertTrue(count <= 400);
+        assertTrue(count >= 200);
+
+        // first and last point are kept
+        assertEquals(points[0], out[0], 0f);
+        assertEquals(points[1], out[1], 0f);
+        assertEquals(points[1998], out[count * 2 - 2], 0f);
+        assertEquals(points[1999], out[count * 2 - 1], 0f);
+
+        for (int column = 0; column < 100; column++) {
+
+            float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+            for (int i = column * 10; i < column * 10 + 10; i++) {
+                min = Math.min(min, points[i * 2 + 1]);
+                max = Math.max(max, points[i * 2 + 1]);
+            }
+
+            float decimatedMin = Float.MAX_VALUE, decimatedMax = -Float.MAX_VALUE;
+            float lastX = -1f;
+            for (int i = 0; i < count; i++) {
+
+                // the order is kept
+                assertTrue(out[i * 2] >= lastX);
+                lastX = out[i * 2];
+
+                if ((int) out[i * 2] == column) {
+                    decimatedMin = Math.min(decimatedMin, out[i * 2 + 1]);
+                    decimatedMax = Math.max(decimatedMax, out[i * 2 + 1]);
+                }
+            }
+
+            // the peaks of every column are kept
+            assertEquals(min, decimatedMin, 0f);
+            assertEquals(max, decimatedMax, 0f);
+        }
+
+        // nothing to reduce
+        float[] few = new float[]{0, 1, 0.2f, 5, 0.4f, 3};
+        assertEquals(3, new MinMaxDecimator().decimate(few, 3, out, 0));
+        assertEquals(5f, out[3], 0f);
+    }
+
+    @Test
+    public void testLttbDecimator() {
+
+        float[] points = createPoints(1000);
+        points[501] = 500f;
+
+        float[] out = new float[points.length];
+
+        int count = new LttbDecimator().decimate(points, 1000, out, 100);
+
+        assertEquals(100, count);
+
+        assertEquals(points[0], out[0], 0f);
+        assertEquals(points[1998], out[198], 0f);
+        assertEquals(points[1999], out[199], 0f);
+
+        boolean peakKept = false;
+        for (int i = 1; i < count; i++) {
+            assertTrue(out[i * 2] > out[i * 2 - 2]);
+            peakKept |= out[i * 2 + 1] == 500f;
+        }
+
+        assertTrue(peakKept);
+
+        // target count larger than the point count
+        assertEquals(1000, new LttbDecimator().decimate(points, 1000, out, 2000));
+    }
+}
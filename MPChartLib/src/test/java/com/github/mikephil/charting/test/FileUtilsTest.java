@@ -0,0 +1,87 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.FloatColumns;
+import com.github.mikephil.charting.data.LineColumnDataSet;
+import com.github.mikephil.charting.data.MappedColumns;
+import com.github.mikephil.charting.utils.FileUtils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
+
+public class FileUtilsTest {
+
+    @Test
+    public void testParseColumns() throws Exception {
+
+        String text = "1.5#0\n-2#1\r\n\n3.25e2#2.5\n0.000125#1E1\n7#8#9\n";
+
+        FloatColumns<?> columns = new FloatColumns.EntryColumns();
+
+        int added = FileUtils.parseColumns(new ByteArrayInputStream(text.getBytes("UTF-8")), columns);
+
+        assertEquals(5, added);
+        assertEquals(5, columns.size());
+
+        assertEquals(0f, columns.getX(0), 0f);
+        assertEquals(1.5f, columns.getY(0), 0f);
+
+        assertEquals(1f, columns.getX(1), 0f);
+        assertEquals(-2f, columns.getY(1), 0f);
+
+        assertEquals(2.5f, columns.getX(2), 0f);
+        assertEquals(325f, columns.getY(2), 0f);
+
+        assertEquals(10f, columns.getX(3), 0f);
+        assertEquals(0.000125f, columns.getY(3), 0f);
+
+        // first value is y, last is x
+        assertEquals(9f, columns.getX(4), 0f);
+        assertEquals(7f, columns.getY(4), 0f);
+    }
+
+    @Test
+    public void testMapColumns() throws Exception {
+
+        FloatColumns.EntryColumns columns = new FloatColumns.EntryColumns();
+
+        for (int i = 0; i < 100000; i++)
+            columns.add(i * 0.5f, (float) Math.sin(i * 0.01));
+
+        for (boolean doubles : new boolean[]{false, true}) {
+
+            File file = File.createTempFile("columns", ".bin");
+            file.deleteOnExit();
+
+            assertTrue(FileUtils.saveColumns(columns, file, doubles));
+
+            MappedColumns mapped = FileUtils.mapColumns(file);
+
+            assertNotNull(mapped);
+            assertEquals(doubles, mapped.isDoubles());
+            assertEquals(columns.size(), mapped.size());
+
+            for (int i = 0; i < columns.size(); i++) {
+                assertEquals(columns.getX(i), mapped.getX(i), 0f);
+                assertEquals(columns.getY(i), mapped.getY(i), 0f);
+            }
+
+            float[] out = new float[6];
+            mapped.copyXY(10, 13, out, 0, 1f);
+            assertEquals(5f, out[0], 0f);
+            assertEquals(columns.getY(12), out[5], 0f);
+
+            LineColumnDataSet set = new LineColumnDataSet(mapped, "");
+
+            assertEquals(0f, set.getXMin(), 0f);
+            assertEquals(49999.5f, set.getXMax(), 0f);
+            assertEquals(1f, set.getYMax(), 0.001f);
+            assertEquals(-1f, set.getYMin(), 0.001f);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.LodDataSet;
+import com.github.mikephil.charting.data.LodPyramid;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class LodDataSetTest {
+
+    @Test
+    public void testPyramid() {
+
+        Random random = new Random(2);
+
+        int count = 10000;
+        float[] xVals = new float[count];
+        float[] yVals = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            xVals[i] = i;
+            yVals[i] = random.nextFloat() * 100f;
+        }
+
+        LodDataSet set = new LodDataSet(xVals, yVals, count, "");
+        LodPyramid pyramid = set.getPyramid();
+
+        assertEquals(count, pyramid.size());
+        assertEquals(16, pyramid.getBucketSize(0));
+
+        // the top level is a single bucket with the overall min and max
+        int top = pyramid.getLevelCount() - 1;
+        assertTrue(pyramid.getBucketSize(top) >= count);
+
+        float[] out = new float[4];
+        assertEquals(4, pyramid.copyXY(top, 0, count, out, 0, 1f));
+        assertEquals(set.getYMin(), Math.min(out[1], out[3]), 0f);
+        assertEquals(set.getYMax(), Math.max(out[1], out[3]), 0f);
+
+        // no level is needed if there are few values per pixel
+        assertEquals(-1, pyramid.getLevel(1000, 1000f));
+        assertEquals(0, pyramid.getLevel(10000, 500f));
+        assertEquals(2, pyramid.getLevel(10000, 100f));
+
+        // each bucket of a level contains the min and max of its values
+        int level = 2;
+        int bucketSize = pyramid.getBucketSize(level);
+        float[] points = new float[count];
+
+        int end = set.copyLevelXY(level, 100, 5000, points, 0, 1f);
+        assertTrue(end <= (5000 / bucketSize + 1) * 4);
+
+        float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+        for (int i = (100 / bucketSize) * bucketSize; i < 5000; i++) {
+            min = Math.min(min, yVals[i]);
+            max = Math.max(max, yVals[i]);
+        }
+
+        float levelMin = Float.MAX_VALUE, levelMax = -Float.MAX_VALUE;
+        for (int i = 0; i < end; i += 2) {
+            levelMin = Math.min(levelMin, points[i + 1]);
+            levelMax = Math.max(levelMax, points[i + 1]);
+
+            if (i > 0)
+                assertTrue(points[i] >= points[i - 2]);
+        }
+
+        assertEquals(min, levelMin, 0f);
+        assertEquals(max, levelMax, 0f);
+    }
+
+    @Test
+    public void testIncrementalMatchesBuild() {
+
+        Random random = new Random(4);
+
+        LodDataSet appended = new LodDataSet("");
+        appended.getPyramid();
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 3000; i++) {
+
+            float y = random.nextInt(1000);
+
+            if (i % 2 == 0)
+                appended.addEntry(i, y);
+            else
+                appended.addEntry(new Entry(i, y));
+
+            entries.add(new Entry(i, y));
+        }
+
+        LodDataSet built = new LodDataSet(new LineDataSet(entries, ""), "");
+
+        assertEquals(3000, built.getEntryCount());
+        assertEquals(appended.getPyramid().getLevelCount(), built.getPyramid().getLevelCount());
+
+        float[] a = new float[6000];
+        float[] b = new float[6000];
+
+        for (int level = 0; level < built.getPyramid().getLevelCount(); level++) {
+
+            int endA = appended.copyLevelXY(level, 0, 3000, a, 0, 1f);
+            int endB = built.copyLevelXY(level, 0, 3000, b, 0, 1f);
+
+            assertEquals(endB, endA);
+
+            for (int i = 0; i < endA; i++)
+                assertEquals(b[i], a[i], 0f);
+        }
+
+        // inserting in the middle rebuilds the pyramid
+        appended.addEntryOrdered(10.5f, 5000f);
+        int top = appended.getPyramid().getLevelCount() - 1;
+        int end = appended.copyLevelXY(top, 0, appended.getEntryCount(), a, 0, 1f);
+        assertEquals(5000f, Math.max(a[1], a[end - 1]), 0f);
+    }
+}
@@ -0,0 +1,160 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineColumnDataSet;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.utils.MinMaxSegmentTree;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class MinMaxSegmentTreeTest {
+
+    @Test
+    public void testQuery() {
+
+        Random random = new Random(5);
+        List<Float> values = new ArrayList<Float>();
+
+        MinMaxSegmentTree tree = new MinMaxSegmentTree(1);
+        float[] out = new float[2];
+
+        for (int i = 0; i < 300; i++) {
+
+            float value = random.nextInt(1000);
+            values.add(value);
+            tree.add(value, value);
+
+            if (i % 7 == 3) {
+                values.remove(values.size() - 1);
+                tree.removeLast();
+            }
+
+            if (i % 11 == 0) {
+                int index = random.nextInt(values.size());
+                values.set(index, -5f);
+                tree.set(index, -5f, -5f);
+            }
+
+            int from = random.nextInt(values.size());
+            int to = from + random.nextInt(values.size() - from);
+
+            float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+            for (int j = from; j <= to; j++) {
+                min = Math.min(min, values.get(j));
+                max = Math.max(max, values.get(j));
+            }
+
+            tree.query(from, to, out);
+            assertEquals(min, out[0], 0f);
+            assertEquals(max, out[1], 0f);
+        }
+
+        assertEquals(values.size(), tree.size());
+
+        // empty range
+        tree.query(5, 4, out);
+        assertEquals(Float.MAX_VALUE, out[0], 0f);
+        assertEquals(-Float.MAX_VALUE, out[1], 0f);
+
+        tree.reset(3);
+        tree.setLeaf(0, 1, 2);
+        tree.setLeaf(1, -1, 0);
+        tree.setLeaf(2, 4, 9);
+        tree.build();
+
+        tree.query(0, 2, out);
+        assertEquals(-1f, out[0], 0f);
+        assertEquals(9f, out[1], 0f);
+    }
+
+    @Test
+    public void testDataSetRangeIndex() {
+
+        Random random = new Random(9);
+        List<Entry> entries = new ArrayList<Entry>();
+        LineColumnDataSet columnSet = new LineColumnDataSet("");
+
+        for (int i = 0; i < 1000; i++) {
+            float y = random.nextInt(200) - 100;
+            entries.add(new Entry(i, y));
+            columnSet.addEntry(i, y);
+        }
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        ScatterDataSet reference = new ScatterDataSet(new ArrayList<Entry>(entries), "");
+
+        assertFalse(set.isRangeIndexEnabled());
+        set.setRangeIndexEnabled(true);
+        columnSet.setRangeIndexEnabled(true);
+        assertTrue(set.isRangeIndexEnabled());
+
+        for (int i = 0; i < 200; i++) {
+
+            if (i % 5 == 0) {
+                Entry e = new Entry(1000 + i, random.nextInt(400) - 200);
+                set.addEntry(e);
+                reference.addEntry(e);
+                columnSet.addEntry(e.getX(), e.getY());
+            }
+
+            if (i % 13 == 0) {
+                set.removeLast();
+                reference.removeLast();
+                columnSet.removeLast();
+            }
+
+            if (i % 29 == 0) {
+                set.removeEntry(10);
+                reference.removeEntry(10);
+                columnSet.removeEntry(10);
+            }
+
+            float from = random.nextInt(1200) - 50;
+            float to = from + random.nextInt(300);
+
+            set.calcMinMaxY(from, to);
+            reference.calcMinMaxY(from, to);
+            columnSet.calcMinMaxY(from, to);
+
+            assertEquals(reference.getYMin(), set.getYMin(), 0f);
+            assertEquals(reference.getYMax(), set.getYMax(), 0f);
+            assertEquals(reference.getYMin(), columnSet.getYMin(), 0f);
+            assertEquals(reference.getYMax(), columnSet.getYMax(), 0f);
+        }
+    }
+
+    @Test
+    public void testCandleRangeIndex() {
+
+        List<CandleEntry> entries = new ArrayList<CandleEntry>();
+        entries.add(new CandleEntry(0, 10, 2, 4, 8));
+        entries.add(new CandleEntry(1, 12, 5, 6, 11));
+        entries.add(new CandleEntry(2, 20, 1, 3, 19));
+        entries.add(new CandleEntry(3, 7, 4, 5, 6));
+
+        CandleDataSet set = new CandleDataSet(entries, "");
+        set.setRangeIndexEnabled(true);
+
+        set.calcMinMaxY(0, 1);
+        assertEquals(2f, set.getYMin(), 0f);
+        assertEquals(12f, set.getYMax(), 0f);
+
+        set.calcMinMaxY(2, 3);
+        assertEquals(1f, set.getYMin(), 0f);
+        assertEquals(20f, set.getYMax(), 0f);
+
+        set.calcMinMaxY(3, 3);
+        assertEquals(4f, set.getYMin(), 0f);
+        assertEquals(7f, set.getYMax(), 0f);
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.LineColumnDataSet;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.ParallelTasks;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class ParallelTasksTest {
+
+    @Before
+    public void setUp() {
+        ParallelTasks.setEnabled(true);
+        ParallelTasks.setThreshold(0);
+    }
+
+    @After
+    public void tearDown() {
+        ParallelTasks.setEnabled(false);
+        ParallelTasks.setThreshold(100000);
+    }
+
+    @Test
+    public void testRun() {
+
+        assertTrue(ParallelTasks.shouldRunParallel(2, 0));
+        assertFalse(ParallelTasks.shouldRunParallel(1, 0));
+
+        final AtomicIntegerArray runs = new AtomicIntegerArray(64);
+
+        ParallelTasks.run(64, 0, new ParallelTasks.Task() {
+            @Override
+            public void run(int index) {
+
+                // nested runs must not deadlock
+                ParallelTasks.run(4, 0, new ParallelTasks.Task() {
+                    @Override
+                    public void run(int index) {
+                    }
+                });
+
+                runs.incrementAndGet(index);
+            }
+        });
+
+        for (int i = 0; i < 64; i++)
+            assertEquals(1, runs.get(i));
+
+        try {
+            ParallelTasks.run(8, 0, new ParallelTasks.Task() {
+                @Override
+                public void run(int index) {
+                    if (index == 5)
+                        throw new IllegalStateException();
+                }
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            // expected, rethrown on the calling thread
+        }
+    }
+
+    @Test
+    public void testNotifyDataSetsChanged() {
+
+        List<ILineDataSet> sets = new ArrayList<>();
+        List<LineColumnDataSet> columnSets = new ArrayList<>();
+
+        for (int s = 0; s < 8; s++) {
+
+            LineColumnDataSet set = new LineColumnDataSet("" + s);
+            sets.add(set);
+            columnSets.add(set);
+        }
+
+        LineData data = new LineData(sets);
+
+        // change the values without notifying the DataSets
+        for (int s = 0; s < 8; s++) {
+            for (int i = 0; i < 1000; i++)
+                columnSets.get(s).getColumns().add(i, s * 1000 + i);
+        }
+
+        data.notifyDataSetsChanged();
+
+        for (int s = 0; s < 8; s++) {
+            assertEquals(s * 1000f, columnSets.get(s).getYMin(), 0f);
+            assertEquals(s * 1000f + 999f, columnSets.get(s).getYMax(), 0f);
+        }
+
+        assertEquals(0f, data.getYMin(), 0f);
+        assertEquals(7999f, data.getYMax(), 0f);
+    }
+}
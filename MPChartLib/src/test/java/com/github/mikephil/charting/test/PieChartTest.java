@@ -0,0 +1,116 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.charts.PieChart;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class PieChartTest {
+
+    @Test
+    public void testSliceIndexForAngle() {
+
+        float[] absoluteAngles = new float[]{90f, 180f, 270f, 360f};
+
+        assertEquals(0, PieChart.getSliceIndexForAngle(absoluteAngles, 0f));
+        assertEquals(0, PieChart.getSliceIndexForAngle(absoluteAngles, 89.9f));
+        assertEquals(1, PieChart.getSliceIndexForAngle(absoluteAngles, 90f));
+        assertEquals(2, PieChart.getSliceIndexForAngle(absoluteAngles, 200f));
+        assertEquals(3, PieChart.getSliceIndexForAngle(absoluteAngles, 359.9f));
+        assertEquals(-1, PieChart.getSliceIndexForAngle(absoluteAngles, 360f));
+
+        // slices with a value of 0 have no angle and are skipped
+        assertEquals(2, PieChart.getSliceIndexForAngle(new float[]{90f, 90f, 180f}, 90f));
+
+        assertEquals(-1, PieChart.getSliceIndexForAngle(new float[0], 10f));
+    }
+
+    @Test
+    public void testSliceIndexForAngleMatchesLinearSearch() {
+
+        Random random = new Random(42);
+
+        for (int run = 0; run < 50; run++) {
+
+            float[] values = new float[1 + random.nextInt(100)];
+
+            for (int i = 0; i < values.length; i++)
+                values[i] = random.nextInt(4) == 0 ? 0f : random.nextFloat() * 100f;
+
+            float[] drawAngles = new float[values.length];
+            float[] absoluteAngles = new float[values.length];
+
+            PieChart.calcSliceAngles(values, 360f, 0f, drawAngles, absoluteAngles,
+                    new float[values.length]);
+
+            for (int i = 0; i < 100; i++) {
+
+                float angle = random.nextFloat() * 360f;
+
+                int expected = -1;
+
+                for (int j = 0; j < absoluteAngles.length; j++) {
+                    if (absoluteAngles[j] > angle) {
+                        expected = j;
+                        break;
+                    }
+                }
+
+                assertEquals(expected, PieChart.getSliceIndexForAngle(absoluteAngles, angle));
+            }
+        }
+    }
+
+    @Test
+    public void testSliceAnglesAfterValueChanges() {
+
+        float[] values = new float[]{10000000f, 1f, 1f, 3f};
+
+        float[] drawAngles = new float[values.length];
+        float[] absoluteAngles = new float[values.length];
+        float[] minAngles = new float[values.length];
+
+        // change a single value over and over, as PieChart.notifySliceValueChanged(...) does
+        for (int i = 0; i < 10000; i++) {
+            values[1] = i % 2 == 0 ? 2.5f : 1f;
+            PieChart.calcSliceAngles(values, 360f, 0f, drawAngles, absoluteAngles, minAngles);
+        }
+
+        float[] expectedDraw = new float[values.length];
+        float[] expectedAbsolute = new float[values.length];
+
+        PieChart.calcSliceAngles(values.clone(), 360f, 0f, expectedDraw, expectedAbsolute,
+                new float[values.length]);
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(expectedDraw[i], drawAngles[i], 0f);
+            assertEquals(expectedAbsolute[i], absoluteAngles[i], 0f);
+        }
+
+        assertEquals(360f, absoluteAngles[values.length - 1], 0.01f);
+    }
+
+    @Test
+    public void testSliceAnglesWithMinAngle() {
+
+        float[] values = new float[]{1f, 1000f, 1000f};
+
+        float[] drawAngles = new float[values.length];
+        float[] absoluteAngles = new float[values.length];
+
+        PieChart.calcSliceAngles(values, 360f, 20f, drawAngles, absoluteAngles,
+                new float[values.length]);
+
+        assertEquals(20f, drawAngles[0], 0.01f);
+        assertEquals(170f, drawAngles[1], 0.01f);
+        assertEquals(170f, drawAngles[2], 0.01f);
+        assertEquals(360f, absoluteAngles[2], 0.01f);
+
+        for (int i = 1; i < values.length; i++)
+            assertTrue(absoluteAngles[i] >= absoluteAngles[i - 1]);
+    }
+}
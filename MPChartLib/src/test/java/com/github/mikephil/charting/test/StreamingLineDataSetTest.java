@@ -0,0 +1,112 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.StreamingLineDataSet;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class StreamingLineDataSetTest {
+
+    @Test
+    public void testEviction() {
+
+        StreamingLineDataSet set = new StreamingLineDataSet(4, "");
+
+        for (int i = 0; i < 10; i++)
+            set.addEntry(i, i * 2);
+
+        assertEquals(4, set.getEntryCount());
+        assertEquals(4, set.getCapacity());
+
+        assertEquals(6f, set.getXMin(), 0.01f);
+        assertEquals(9f, set.getXMax(), 0.01f);
+        assertEquals(12f, set.getYMin(), 0.01f);
+        assertEquals(18f, set.getYMax(), 0.01f);
+
+        assertEquals(6f, set.getEntryForIndex(0).getX(), 0.01f);
+        assertEquals(9f, set.getEntryForIndex(3).getX(), 0.01f);
+
+        // the values wrap around the end of the buffer
+        float[] out = new float[8];
+        assertEquals(8, set.copyXY(0, 4, out, 0, 1f));
+        assertEquals(6f, out[0], 0.01f);
+        assertEquals(14f, out[3], 0.01f);
+        assertEquals(9f, out[6], 0.01f);
+        assertEquals(18f, out[7], 0.01f);
+
+        assertEquals(2, set.getEntryIndex(8.2f, Float.NaN, DataSet.Rounding.CLOSEST));
+        assertEquals(3, set.getEntryIndex(8.2f, Float.NaN, DataSet.Rounding.UP));
+
+        assertTrue(set.removeFirst());
+        assertEquals(7f, set.getXMin(), 0.01f);
+        assertEquals(14f, set.getYMin(), 0.01f);
+
+        assertTrue(set.removeLast());
+        assertEquals(8f, set.getXMax(), 0.01f);
+        assertEquals(16f, set.getYMax(), 0.01f);
+        assertEquals(2, set.getEntryCount());
+
+        assertTrue(set.removeEntry(new Entry(7, 14)));
+        assertEquals(1, set.getEntryCount());
+        assertEquals(16f, set.getYMin(), 0.01f);
+    }
+
+    @Test
+    public void testMinMaxMatchesFullScan() {
+
+        StreamingLineDataSet set = new StreamingLineDataSet(50, "");
+        Random random = new Random(7);
+
+        for (int i = 0; i < 1000; i++) {
+
+            set.addEntry(i, random.nextInt(100) - 50);
+
+            if (i % 97 == 1)
+                set.removeLast();
+
+            float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+
+            for (int j = 0; j < set.getEntryCount(); j++) {
+                min = Math.min(min, set.getY(j));
+                max = Math.max(max, set.getY(j));
+            }
+
+            assertEquals(min, set.getYMin(), 0f);
+            assertEquals(max, set.getYMax(), 0f);
+            assertEquals(set.getX(0), set.getXMin(), 0f);
+            assertEquals(set.getX(set.getEntryCount() - 1), set.getXMax(), 0f);
+        }
+
+        assertEquals(50, set.getEntryCount());
+
+        // inserting in the middle of a full buffer evicts the oldest value
+        set.addEntryOrdered(975.5f, 1000);
+        assertEquals(50, set.getEntryCount());
+        assertEquals(950f, set.getXMin(), 0.01f);
+        assertEquals(1000f, set.getYMax(), 0.01f);
+        assertEquals(975.5f, set.getX(25), 0.01f);
+
+        set.calcMinMaxY(990, 995);
+
+        float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+        for (int j = 0; j < set.getEntryCount(); j++) {
+            if (set.getX(j) >= 990 && set.getX(j) <= 995) {
+                min = Math.min(min, set.getY(j));
+                max = Math.max(max, set.getY(j));
+            }
+        }
+
+        assertEquals(min, set.getYMin(), 0f);
+        assertEquals(max, set.getYMax(), 0f);
+
+        StreamingLineDataSet copy = (StreamingLineDataSet) set.copy();
+        assertEquals(50, copy.getCapacity());
+        assertEquals(set.getX(49), copy.getX(49), 0f);
+    }
+}
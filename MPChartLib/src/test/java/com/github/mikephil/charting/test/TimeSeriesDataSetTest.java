@@ -0,0 +1,69 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.TimeSeriesDataSet;
+import com.github.mikephil.charting.utils.AffineTransform;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class TimeSeriesDataSetTest {
+
+    @Test
+    public void testExactTimestamps() {
+
+        // 2020-01-01, in milliseconds, with x-values in seconds
+        final long base = 1577836800000L;
+
+        TimeSeriesDataSet set = new TimeSeriesDataSet(base, 1000.0, "");
+
+        // three years later, one millisecond apart: too close for float x-values
+        final long t = base + 3L * 365 * 24 * 3600 * 1000;
+
+        set.addEntry(base, 1f);
+        set.addEntry(t, 2f);
+        set.addEntry(t + 1, 3f);
+        set.addEntry(t + 3, 4f);
+        set.addEntryOrdered(t + 2, 5f);
+
+        assertEquals(5, set.getEntryCount());
+        assertEquals(base, set.getTimeMin());
+        assertEquals(t + 3, set.getTimeMax());
+
+        for (int i = 1; i < 5; i++)
+            assertEquals(t + i - 1, set.getTime(i));
+
+        assertEquals(5f, set.getY(3), 0f);
+        assertEquals(0f, set.getXMin(), 0f);
+
+        // binary search on the exact timestamps
+        assertEquals(2, set.getEntryIndexForTime(t + 1, DataSet.Rounding.CLOSEST));
+        assertEquals(0, set.getEntryIndexForTime(base + 10, DataSet.Rounding.DOWN));
+        assertEquals(1, set.getEntryIndexForTime(base + 10, DataSet.Rounding.UP));
+        assertEquals(4, set.getEntryIndexForTime(t + 100, DataSet.Rounding.UP));
+        assertEquals(-1, new TimeSeriesDataSet(base, 1.0, "").getEntryIndexForTime(t, DataSet.Rounding.UP));
+
+        // zoomed in to one pixel per millisecond, the timeline starting at t
+        AffineTransform valueToPixel = new AffineTransform();
+        valueToPixel.postTranslate(-(t - base) / 1000.0, 0);
+        valueToPixel.postScale(1000.0, -1.0);
+
+        float[] pixels = new float[8];
+        assertEquals(8, set.getColumns().copyPixelXY(1, 5, pixels, 0, 1f, valueToPixel));
+
+        for (int i = 0; i < 4; i++)
+            assertEquals((float) i, pixels[i * 2], 0.001f);
+
+        assertEquals(-5f, pixels[5], 0f);
+
+        // removing keeps the timestamps in sync with the values
+        set.removeEntry(2);
+        assertEquals(t + 2, set.getTime(2));
+        assertEquals(5f, set.getY(2), 0f);
+
+        TimeSeriesDataSet copied = (TimeSeriesDataSet) set.copy();
+        assertEquals(set.getEntryCount(), copied.getEntryCount());
+        assertEquals(t + 3, copied.getTime(3));
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.AffineTransform;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class TransformerTest {
+
+    @Test
+    public void testVersion() {
+
+        ViewPortHandler viewPortHandler = new ViewPortHandler();
+        Transformer trans = new Transformer(viewPortHandler);
+
+        int version = trans.getVersion();
+        assertEquals(version, trans.getVersion());
+
+        trans.prepareMatrixValuePx(0f, 10f, 10f, 0f);
+        assertTrue(version != trans.getVersion());
+        version = trans.getVersion();
+
+        trans.prepareMatrixOffset(false);
+        assertTrue(version != trans.getVersion());
+        version = trans.getVersion();
+
+        // changes of the touch matrix are noticed as well
+        viewPortHandler.setMinimumScaleX(2f);
+        assertTrue(version != trans.getVersion());
+        version = trans.getVersion();
+
+        trans.getValueToPixelMatrix();
+        trans.getPixelToValueMatrix();
+        assertEquals(version, trans.getVersion());
+    }
+
+    @Test
+    public void testAffineTransform() {
+
+        // value -> pixel like prepareMatrixValuePx, then touch (zoom 2x, dragged), then offset
+        AffineTransform value = new AffineTransform();
+        value.postTranslate(-10, -5);
+        value.postScale(400.0 / 20.0, -300.0 / 50.0);
+
+        AffineTransform touch = new AffineTransform(2, 1, -100, 0);
+        AffineTransform offset = new AffineTransform(1, 1, 30, 320);
+
+        AffineTransform all = new AffineTransform();
+        all.set(value);
+        all.postConcat(touch);
+        all.postConcat(offset);
+
+        float[] pts = new float[]{10f, 5f, 20f, 55f, 15.5f, -3f};
+        float[] expected = new float[pts.length];
+
+        for (int i = 0; i < pts.length; i += 2) {
+            double x = pts[i], y = pts[i + 1];
+            x = (x - 10) * 20.0 * 2 - 100 + 30;
+            y = (y - 5) * -6.0 + 320;
+            expected[i] = (float) x;
+            expected[i + 1] = (float) y;
+        }
+
+        float[] mapped = pts.clone();
+        all.mapPoints(mapped, 2, 2);
+
+        assertEquals(pts[0], mapped[0], 0f);
+        assertEquals(pts[1], mapped[1], 0f);
+
+        for (int i = 2; i < pts.length; i++)
+            assertEquals(expected[i], mapped[i], 0.0001f);
+
+        // x-only and y-only
+        float[] xs = new float[]{pts[0], pts[2], pts[4]};
+        float[] ys = new float[]{pts[1], pts[3], pts[5]};
+        all.mapXValues(xs, 0, 3);
+        all.mapYValues(ys, 0, 3);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected[i * 2], xs[i], 0.0001f);
+            assertEquals(expected[i * 2 + 1], ys[i], 0.0001f);
+        }
+
+        // back to the values
+        AffineTransform inverse = new AffineTransform();
+        assertTrue(all.invert(inverse));
+
+        inverse.mapPoints(mapped, 2, 2);
+
+        for (int i = 2; i < pts.length; i++)
+            assertEquals(pts[i], mapped[i], 0.0001f);
+
+        assertEquals(false, new AffineTransform(0, 1, 0, 0).invert(inverse));
+    }
+}